@@ -1,13 +1,31 @@
 package com.addressApi.batch;
 
 import java.io.File;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -17,27 +35,42 @@ import lombok.extern.slf4j.Slf4j;
  * @FileName : AddressBatchQuartzJob.java
  * @Project  : Juso_api
  * @Date     : 2025. 6. 16.
- 
+
  * @프로그램 설명 : Quartz 기반 주소 일배치 Job
  * 압축파일(zip) 해제 -> 텍스트 파일 파싱 -> mvRsnCd(이동사유코드)를 기준으로 insert/update/delete 수행
- * 스프링배치 없이 Quartz + Plain JDBC 방식으로 동작하며, 
+ * 스프링배치 없이 Quartz + Plain JDBC 방식으로 동작하며,
  * AddressChangeWriter 내부에서 mvRsnCd에 따라 분기 처리
+ *
+ * 오늘 폴더뿐 아니라 체크포인트에 없는 최근 날짜 폴더(catch-up.max-days)의 모든 ZIP을 날짜 순으로 적용
+ * 다음 ZIP들의 압축 해제/파싱은 미리 시작(prefetch)하되, DB 적용은 단계별로 날짜/파일명 순서를 유지
+ * JUSUKR / JUSDG 단계는 서로 다른 TEMP 테이블을 사용하므로 단계별 레인에서 동시에 처리
+ * 운영 테이블 반영 프로시저는 모든 TEMP 적재가 끝난 뒤 AddressChangeReflector로 1회 실행
+ * delta.mode=DELTA면 JUSUKR은 TEMP/프로시저 대신 AddressDeltaApplier로 운영 테이블에 직접 반영
+ * cron 외에 DownloadReadyWatcher가 준비 완료 마커를 감지하면 즉시 실행되므로 동시 실행은 허용하지 않음
+ * AddressChangeListener가 등록되어 있으면 커밋된 row를 청크 단위로 전달하고 단위 완료/실패와 배치 종료(반영 결과 포함)를 알림
  */
 
 @Slf4j
 @Component
+@DisallowConcurrentExecution
 @RequiredArgsConstructor
 public class AddressBatchQuartzJob implements Job {
 
+    private static final DateTimeFormatter DIR_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+
     private final ZipExtractor zipExtractor;
     private final AddressChangeFileReader fileReader;
     private final AddressDongDetailFileReader dongFileReader;
     private final AddressChangeWriter writer;
     private final AddressChangeProperties properties;
+    private final BatchCheckpointStore checkpointStore;
+    private final AddressChangeReflector reflector;
+    private final AddressDeltaApplier deltaApplier;
+    private final ObjectProvider<AddressChangeListener> changeListeners;
 
     /**
      * Quartz에서 실행되는 메인 배치 메서드
-     * 
+     *
      * @param context Quartz JobExecutionContext
      * @throws JobExecutionException 실행 중 예외 발생 시
      */
@@ -46,39 +79,376 @@ public class AddressBatchQuartzJob implements Job {
         log.info("주소 일배치 시작");
 
         try {
-            String zipRootDir = properties.getPath().getZipDir();
-            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyMMdd"));
+            List<BatchUnit> units = collectPendingUnits();
+            if (units.isEmpty()) {
+                log.info("적용 대상 ZIP 없음 - 종료");
+                return;
+            }
+            log.info("적용 대상 ZIP {}건: {}", units.size(), units);
+
+            List<AddressChangeListener> listeners = changeListeners.orderedStream().toList();
+            Map<BatchStage, Integer> appliedByStage = applyStages(units, listeners);
+            int applied = 0;
+            int tempApplied = 0;
+            for (Map.Entry<BatchStage, Integer> entry : appliedByStage.entrySet()) {
+                applied += entry.getValue();
+                if (!isDeltaApply(entry.getKey())) {
+                    tempApplied += entry.getValue();
+                }
+            }
+
+            // 모든 TEMP 적재 완료 후 운영 테이블 반영 프로시저 1회 실행 (DELTA로 직접 반영한 단계는 제외)
+            AddressChangeProperties.Reflect reflect = properties.getReflect();
+            if (tempApplied > 0 && reflect.isAfterBatch()) {
+                if (reflect.isAsync()) {
+                    reflector.reflectAsync("batch")
+                            .thenAccept(result -> notifyFinished(listeners, result))
+                            .exceptionally(e -> {
+                                log.error("[batch] 반영 프로시저 비동기 실행 예외 - TEMP 적재분은 다음 반영 성공 시 리스너에 반영: {}", e.getMessage(), e);
+                                notifyFinished(listeners, false);
+                                return null;
+                            });
+                } else {
+                    notifyFinished(listeners, reflector.reflect("batch"));
+                }
+            } else if (tempApplied > 0) {
+                log.info("TEMP 적재분은 reflect.cron 반영 시 운영 테이블/리스너에 반영");
+                notifyFinished(listeners, false);
+            } else if (applied > 0) {
+                notifyFinished(listeners, true);	// DELTA로 운영 테이블에 직접 반영한 단계뿐
+            }
+
+            log.info("주소 일배치 전체 완료 - 적용 {}/{}건", applied, units.size());
+
+        } catch (Exception e) {
+            log.error("주소 일배치 중 예외 발생", e);
+            throw new JobExecutionException(e);
+        }
+    }
 
-            String zipDir = zipRootDir + "/" + today;
-            String extractDir = properties.getPath().getExtractDir();
+    /**
+     * @Method 설명 : zipDir 하위 날짜 폴더(yyMMdd) 중 체크포인트에 없는 ZIP을 날짜 -> 단계 -> 파일명 순으로 수집
+     * 체크포인트가 비어 있는 최초 실행도 catch-up.max-days 범위 전체를 대상으로 함
+     * ready.require-marker=true면 마커가 없는 폴더는 건너뛰고 나머지 폴더는 계속 수집 (마커가 생기면 다음 실행 시 적용)
+     */
+    private List<BatchUnit> collectPendingUnits() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(properties.getCatchUp().getMaxDays());
+
+        File root = new File(properties.getPath().getZipDir());
+        File[] dateDirs = root.listFiles(f -> f.isDirectory() && f.getName().matches("\\d{6}"));
+        if (dateDirs == null) {
+            throw new IllegalArgumentException("ZIP 디렉터리가 존재하지 않습니다: " + root);
+        }
+        Arrays.sort(dateDirs, Comparator.comparing(File::getName));
 
-            // 도로명주소한글 (JUSUKR.*) 처리
+        List<BatchUnit> units = new ArrayList<>();
+        for (File dateDir : dateDirs) {
+            LocalDate date;
             try {
-                log.info("[1/2] JUSUKR(도로명주소한글) 처리 시작");
-                File krFile = zipExtractor.extractTextFiles(zipDir, extractDir, "JUSUKR", "_mst.txt");
-                List<AddressChangeRow> krRows = fileReader.read(krFile);
-                writer.write(krRows); 
-                log.info("[1/2] JUSUKR 처리 완료 - 총 {}건", krRows.size());
-            } catch (Exception e) {
-                log.error("[1/2] JUSUKR 처리 중 예외 (다음 단계 계속 진행): {}", e.getMessage(), e);
+                date = LocalDate.parse(dateDir.getName(), DIR_FORMATTER);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            if (date.isBefore(from) || date.isAfter(today)) {
+                continue;
+            }
+            AddressChangeProperties.Ready ready = properties.getReady();
+            if (ready.isRequireMarker() && !new File(dateDir, ready.getMarkerFile()).exists()) {
+                log.info("준비 완료 마커 없음 - {} 폴더 SKIP (마커 생성 후 다음 실행 시 적용)", dateDir.getName());
+                continue;
+            }
+
+            for (BatchStage stage : BatchStage.values()) {
+                for (File zipFile : zipExtractor.findZipFiles(dateDir, stage.name())) {
+                    BatchUnit unit = new BatchUnit(date, stage, zipFile);
+                    if (checkpointStore.isDone(unit.key())) {
+                        log.debug("이미 적용된 ZIP SKIP: {}", unit);
+                        continue;
+                    }
+                    units.add(unit);
+                }
+            }
+        }
+        return units;
+    }
+
+    /**
+     * @Method 설명 : 단계(JUSUKR/JUSDG)별 레인을 구성하여 적용
+     * 두 단계는 서로 다른 TEMP 테이블을 사용하므로 concurrent-stages=true면 별도 스레드에서 동시에 진행
+     * (예: JUSUKR DB 적재 중에 JUSDG 압축 해제/파싱/적재가 함께 진행)
+     * 한 레인의 실패는 다른 레인에 영향을 주지 않음
+     * @return 단계별 적용 완료된 단위 수
+     */
+    private Map<BatchStage, Integer> applyStages(List<BatchUnit> units, List<AddressChangeListener> listeners) throws InterruptedException {
+        Map<BatchStage, List<BatchUnit>> byStage = new EnumMap<>(BatchStage.class);
+        for (BatchUnit unit : units) {
+            byStage.computeIfAbsent(unit.getStage(), s -> new ArrayList<>()).add(unit);
+        }
+
+        Map<BatchStage, Integer> applied = new EnumMap<>(BatchStage.class);
+        if (!properties.getPipeline().isConcurrentStages() || byStage.size() <= 1) {
+            for (Map.Entry<BatchStage, List<BatchUnit>> entry : byStage.entrySet()) {
+                applied.put(entry.getKey(), applyInOrder(entry.getKey(), entry.getValue(), listeners));
+            }
+            return applied;
+        }
+
+        ExecutorService lanes = Executors.newFixedThreadPool(byStage.size(), r -> {
+            Thread t = new Thread(r);
+            t.setName("address-batch-lane-" + t.getId());
+            return t;
+        });
+        try {
+            Map<BatchStage, Future<Integer>> futures = new EnumMap<>(BatchStage.class);
+            byStage.forEach((stage, stageUnits) -> futures.put(stage, lanes.submit(() -> applyInOrder(stage, stageUnits, listeners))));
+
+            for (Map.Entry<BatchStage, Future<Integer>> entry : futures.entrySet()) {
+                try {
+                    applied.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    log.error("[{}] 단계 레인 예외 (다른 단계는 계속 진행): {}", entry.getKey(), e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } finally {
+            lanes.shutdownNow();
+        }
+        return applied;
+    }
+
+    /**
+     * @Method 설명 : 한 단계의 단위들을 파이프로 미리 열어 압축 해제/파싱을 병렬 진행하고, DB 적용은 순서대로 수행
+     * 선행 파싱 ZIP 수(prefetch)와 큐 용량은 단계별 예산(pipeline.{stage})을 따름
+     * 실패하면 이후 날짜의 같은 단계는 순서 보장을 위해 적용하지 않음
+     * 리스너가 있으면 적재기가 커밋한 row를 stream.chunk-size건씩 전달하고, 체크포인트 기록 후 단위 완료(또는 실패)를 알림
+     * @return 적용 완료된 단위 수
+     */
+    private int applyInOrder(BatchStage stage, List<BatchUnit> units, List<AddressChangeListener> listeners) {
+        AddressChangeProperties.StageBudget budget = properties.getPipeline().of(stage);
+        int prefetch = Math.max(0, budget.getPrefetchUnits() != null
+                ? budget.getPrefetchUnits()
+                : properties.getCatchUp().getPrefetchUnits());
+
+        Deque<StreamingRowPipe<?>> pipes = new ArrayDeque<>();
+        Deque<BatchUnit> opened = new ArrayDeque<>();
+        Iterator<BatchUnit> pending = units.iterator();
+        boolean failed = false;
+
+        int index = 0;
+        int held = 0;
+        int applied = 0;
+        try {
+            while (pending.hasNext() || !opened.isEmpty()) {
+                while (!failed && pending.hasNext() && opened.size() <= prefetch) {
+                    BatchUnit next = pending.next();
+                    opened.addLast(next);
+                    pipes.addLast(openPipe(next));
+                }
+                if (opened.isEmpty()) {
+                    break;
+                }
+
+                BatchUnit unit = opened.pollFirst();
+                index++;
+                boolean started = false;
+                try (StreamingRowPipe<?> pipe = pipes.pollFirst()) {
+                    if (failed) {
+                        held++;
+                        continue;
+                    }
+
+                    log.info("[{} {}/{}] {} 처리 시작: {}", stage, index, units.size(), stage.getDescription(), unit);
+                    started = true;
+                    int count = apply(unit, pipe, listeners);
+                    checkpointStore.markDone(unit.key());
+                    applied++;
+                    log.info("[{} {}/{}] 처리 완료 - 총 {}건", stage, index, units.size(), count);
+                    notifyEach(listeners, unit.key(), listener -> listener.onUnitApplied(unit));
+
+                } catch (Exception e) {
+                    failed = true;
+                    log.error("[{} {}/{}] 처리 중 예외: {}", stage, index, units.size(), e.getMessage(), e);
+                    if (started) {
+                        notifyEach(listeners, unit.key(), listener -> listener.onUnitFailed(unit));
+                    }
+                }
+            }
+            held += units.size() - index;
+            if (held > 0) {
+                log.warn("[{}] 이전 실패로 이후 {}건 적용 보류 (다음 실행 시 재시도)", stage, held);
+            }
+            return applied;
+        } finally {
+            pipes.forEach(StreamingRowPipe::close);
+        }
+    }
+
+    private StreamingRowPipe<?> openPipe(BatchUnit unit) {
+        int chunkSize = properties.getStream().getChunkSize();
+        Integer stageCapacity = properties.getPipeline().of(unit.getStage()).getQueueCapacity();
+        int queueCapacity = stageCapacity != null ? stageCapacity : properties.getStream().getQueueCapacity();
+
+        if (isColumnar(unit.getStage())) {
+            // 파이프 청크 1개 = 컬럼형 배치 1개 (배치당 row 수 = stream.chunk-size)
+            return StreamingRowPipe.<AddressChangeColumnBatch>start(unit.key(), 1, queueCapacity,
+                    sink -> readJusukrColumnar(unit, chunkSize, sink));
+        }
+        if (unit.getStage() == BatchStage.JUSUKR) {
+            return StreamingRowPipe.<AddressChangeRow>start(unit.key(), chunkSize, queueCapacity,
+                    sink -> readJusukr(unit, sink));
+        }
+        return StreamingRowPipe.<AddressDongDetailRow>start(unit.key(), chunkSize, queueCapacity,
+                sink -> readJusdg(unit, sink));
+    }
+
+    /**
+     * @Method 설명 : 단위를 TEMP 테이블에 적재 (DELTA 모드의 JUSUKR은 운영 테이블에 직접 반영)
+     * 순서가 보장되는 읽기 방식일 때만 row 단위 체크포인트(중간 커밋 이후 재개)를 사용
+     * 리스너가 있으면 적재기가 커밋할 때마다 커밋된 row를 리스너에 전달
+     */
+    @SuppressWarnings("unchecked")
+    private int apply(BatchUnit unit, Iterator<?> pipe, List<AddressChangeListener> listeners) {
+        AddressChangeProperties.Parallel parallel = properties.getParallel();
+        String checkpointKey = (parallel.isEnabled() && !parallel.isOrdered()) ? null : unit.key();
+        boolean publish = !listeners.isEmpty();
+
+        if (isDeltaApply(unit.getStage())) {
+            return deltaApplier.apply((Iterator<AddressChangeRow>) pipe, unit.getDate(), checkpointKey,
+                    publish ? rows -> publishAddressRows(unit, rows, listeners) : null);
+        }
+        if (isColumnar(unit.getStage())) {
+            return writer.writeColumnar((Iterator<AddressChangeColumnBatch>) pipe, unit.getDate(), checkpointKey,
+                    publish ? refs -> publishAddressBatches(unit, refs, listeners) : null);
+        }
+        if (unit.getStage() == BatchStage.JUSUKR) {
+            return writer.write((Iterator<AddressChangeRow>) pipe, unit.getDate(), checkpointKey,
+                    publish ? rows -> publishAddressRows(unit, rows, listeners) : null);
+        }
+        return writer.writeDongDetail((Iterator<AddressDongDetailRow>) pipe, unit.getDate(), checkpointKey,
+                publish ? rows -> publishDongDetailRows(unit, rows, listeners) : null);
+    }
+
+    /**
+     * @Method 설명 : 커밋된 JUSUKR row를 chunk-size건씩 리스너에 전달
+     */
+    private void publishAddressRows(BatchUnit unit, List<AddressChangeRow> rows, List<AddressChangeListener> listeners) {
+        int chunkSize = Math.max(1, properties.getStream().getChunkSize());
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<AddressChangeRow> chunk = Collections.unmodifiableList(rows.subList(from, Math.min(rows.size(), from + chunkSize)));
+            notifyEach(listeners, unit.key(), listener -> listener.onAddressRowsApplied(unit, chunk));
+        }
+    }
+
+    /**
+     * @Method 설명 : 커밋된 컬럼형 row 참조를 배치별 연속 범위로 묶어 리스너에 전달 (배치당 row 수 = chunk-size)
+     */
+    private void publishAddressBatches(BatchUnit unit, List<AddressChangeColumnBatch.Ref> refs, List<AddressChangeListener> listeners) {
+        int i = 0;
+        while (i < refs.size()) {
+            AddressChangeColumnBatch batch = refs.get(i).batch();
+            int from = refs.get(i).row();
+            int to = from + 1;
+            i++;
+            while (i < refs.size() && refs.get(i).batch() == batch && refs.get(i).row() == to) {
+                to++;
+                i++;
             }
+            int end = to;
+            notifyEach(listeners, unit.key(), listener -> listener.onAddressBatchApplied(unit, batch, from, end));
+        }
+    }
+
+    /**
+     * @Method 설명 : 커밋된 JUSDG row를 chunk-size건씩 리스너에 전달
+     */
+    private void publishDongDetailRows(BatchUnit unit, List<AddressDongDetailRow> rows, List<AddressChangeListener> listeners) {
+        int chunkSize = Math.max(1, properties.getStream().getChunkSize());
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<AddressDongDetailRow> chunk = Collections.unmodifiableList(rows.subList(from, Math.min(rows.size(), from + chunkSize)));
+            notifyEach(listeners, unit.key(), listener -> listener.onDongDetailRowsApplied(unit, chunk));
+        }
+    }
+
+    private void notifyFinished(List<AddressChangeListener> listeners, AddressChangeReflector.ReflectResult result) {
+        boolean reflected = result.getStatus() == AddressChangeReflector.Status.SUCCESS;
+        if (!reflected) {
+            log.warn("[batch] 반영 프로시저 {} - TEMP 적재분은 다음 반영 성공 시 리스너에 반영", result.getStatus());
+        }
+        notifyFinished(listeners, reflected);
+    }
 
-            // 상세주소동표시 (JUSDG.*) 처리
+    private void notifyFinished(List<AddressChangeListener> listeners, boolean reflected) {
+        notifyEach(listeners, "finished", listener -> listener.onBatchFinished(reflected));
+    }
+
+    private void notifyEach(List<AddressChangeListener> listeners, String event, Consumer<AddressChangeListener> action) {
+        for (AddressChangeListener listener : listeners) {
             try {
-                log.info("[2/2] JUSDG(상세주소동표시) 처리 시작");
-                File dgFile = zipExtractor.extractTextFiles(zipDir, extractDir, "JUSDG");
-                List<AddressDongDetailRow> dgRows = dongFileReader.read(dgFile); 
-                writer.write(dgRows);
-                log.info("[2/2] JUSDG 처리 완료 - 총 {}건", dgRows.size());
+                action.accept(listener);
             } catch (Exception e) {
-                log.error("[2/2] JUSDG 처리 중 예외: {}", e.getMessage(), e);
+                log.error("[{}] 변동 리스너 처리 실패 - {}: {}", event, listener.getClass().getSimpleName(), e.getMessage(), e);
             }
+        }
+    }
 
-            log.info("주소 일배치 전체 완료");
+    /**
+     * @Method 설명 : JUSUKR 원본을 읽어 sink로 전달
+     * 기본은 ZIP 엔트리를 디스크에 쓰지 않고 바로 파싱하며,
+     * 병렬 파싱(메모리 매핑) 또는 keepExtracted(감사/디버그) 설정 시에만 extractDir에 압축 해제
+     */
+    private int readJusukr(BatchUnit unit, Consumer<AddressChangeRow> sink) throws Exception {
+        String entrySuffix = unit.getStage().getEntrySuffix();
+        if (needsExtractedFile()) {
+            File krFile = zipExtractor.extractTextFile(unit.getZipFile(), properties.getPath().getExtractDir(), entrySuffix);
+            return properties.getParallel().isEnabled()
+                    ? fileReader.readParallel(krFile, properties.getParallel(), sink)
+                    : fileReader.read(krFile, sink);
+        }
+        try (InputStream in = zipExtractor.openTextEntry(unit.getZipFile(), entrySuffix)) {
+            return fileReader.read(in, sink);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("주소 일배치 중 예외 발생", e);
-            throw new JobExecutionException(e);
+    /**
+     * @Method 설명 : JUSUKR 원본을 컬럼형 배치 단위로 읽어 sink로 전달 (readJusukr과 동일한 방식, 병렬 파싱 제외)
+     */
+    private int readJusukrColumnar(BatchUnit unit, int batchSize, Consumer<AddressChangeColumnBatch> sink) throws Exception {
+        String entrySuffix = unit.getStage().getEntrySuffix();
+        if (properties.getPath().isKeepExtracted()) {
+            File krFile = zipExtractor.extractTextFile(unit.getZipFile(), properties.getPath().getExtractDir(), entrySuffix);
+            return fileReader.readColumnar(krFile, batchSize, sink);
         }
+        try (InputStream in = zipExtractor.openTextEntry(unit.getZipFile(), entrySuffix)) {
+            return fileReader.readColumnar(in, batchSize, sink);
+        }
+    }
+
+    /**
+     * @Method 설명 : JUSDG 원본을 읽어 sink로 전달 (readJusukr과 동일한 방식)
+     */
+    private int readJusdg(BatchUnit unit, Consumer<AddressDongDetailRow> sink) throws Exception {
+        String entrySuffix = unit.getStage().getEntrySuffix();
+        if (needsExtractedFile()) {
+            File dgFile = zipExtractor.extractTextFile(unit.getZipFile(), properties.getPath().getExtractDir(), entrySuffix);
+            return properties.getParallel().isEnabled()
+                    ? dongFileReader.readParallel(dgFile, properties.getParallel(), sink)
+                    : dongFileReader.read(dgFile, sink);
+        }
+        try (InputStream in = zipExtractor.openTextEntry(unit.getZipFile(), entrySuffix)) {
+            return dongFileReader.read(in, sink);
+        }
+    }
+
+    private boolean isDeltaApply(BatchStage stage) {
+        return stage == BatchStage.JUSUKR && properties.getDelta().getMode() == AddressChangeProperties.ApplyMode.DELTA;
+    }
+
+    private boolean isColumnar(BatchStage stage) {
+        return stage == BatchStage.JUSUKR && properties.getStream().isColumnar()
+                && !properties.getParallel().isEnabled() && !isDeltaApply(stage);
+    }
+
+    private boolean needsExtractedFile() {
+        return properties.getParallel().isEnabled() || properties.getPath().isKeepExtracted();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,439 @@
+package com.addressApi.batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @FileName  : AddressChangeColumnBatch.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : AddressChangeRow 묶음을 컬럼 단위 배열로 보관하는 배치 (row마다 String 25개를 만들지 않음)
+ *  - 코드/번호류 : 숫자만으로 된 값은 long 배열 + 자릿수(앞자리 0 복원용)로 보관, 36자리 초과/숫자 외 문자는 원문 보관
+ *                  복원한 문자열은 컬럼별 캐시에 두어 같은 코드(법정동코드, 우편번호, 효력발생일 등)는 다시 만들지 않음
+ *  - 명칭/플래그류 : 단위(ZIP 1개) 공용 사전(Dictionary)의 공유 String 참조로 보관 (시도명, 도로명 등 반복 값은 단위 전체에서 1회만 생성)
+ *  - 자유 텍스트 : 대부분 빈 값이므로 String 배열 그대로 보관
+ *  - 기준일자 : 배치 전체에서 동일하므로 1회만 보관
+ * 컬럼 인덱스는 원본 파일 필드 순서(= TempTableLayout.address 컬럼 순서)와 동일
+ * 한 스레드에서 채운 뒤 다른 스레드로 넘겨 읽기만 하는 용도 (동시 append 불가)
+ */
+public final class AddressChangeColumnBatch {
+
+    public static final int FIELD_COUNT = 24;
+
+    private static final int ROAD_NM_CTL_NO = 0;
+    private static final int MV_RSN_CD = 20;
+
+    private final Column[] columns = new Column[FIELD_COUNT];
+    private int size;
+    private int capacity;
+    private String stdDate;
+
+    /**
+     * 단독 배치 (사전을 다른 배치와 공유하지 않음)
+     */
+    public AddressChangeColumnBatch(int initialCapacity) {
+        this(initialCapacity, new Dictionary());
+    }
+
+    /**
+     * 같은 단위의 다른 배치와 사전을 공유하는 배치 (dictionary는 배치를 채우는 스레드에서만 사용)
+     */
+    public AddressChangeColumnBatch(int initialCapacity, Dictionary dictionary) {
+        this.capacity = Math.max(16, initialCapacity);
+        int[] codes = { 0, 1, 7, 8, 9, 12, 13, 14, 16, 18 };	// 도로명관리번호, 법정동코드, 번지, 도로명코드, 건물번호, 행정동코드, 우편번호, 효력발생일
+        int[] texts = { 17, 23 };								// 이전도로명주소, 비고
+        for (int col : codes) {
+            columns[col] = new CodeColumn(capacity);
+        }
+        for (int col : texts) {
+            columns[col] = new TextColumn(capacity);
+        }
+        for (int col = 0; col < FIELD_COUNT; col++) {
+            if (columns[col] == null) {
+                columns[col] = new DictionaryColumn(capacity, dictionary.pool(col));	// 명칭/플래그/이동사유코드/건물명
+            }
+        }
+    }
+
+    /**
+     * @Method 설명 : 검증을 통과한 한 줄을 디코딩 없이(코드류) 또는 사전 조회로(명칭류) 추가
+     */
+    public void append(PipeDelimitedTokenizer line) {
+        if (size == capacity) {
+            capacity = capacity * 2;
+            for (Column column : columns) {
+                column.grow(capacity);
+            }
+        }
+        for (int col = 0; col < FIELD_COUNT; col++) {
+            columns[col].append(size, line, col);
+        }
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String getStdDate() {
+        return stdDate;
+    }
+
+    public void setStdDate(String stdDate) {
+        this.stdDate = stdDate;
+    }
+
+    /**
+     * @Method 설명 : row / 필드 인덱스의 값을 원본 문자열로 복원 (빈 값이면 null)
+     */
+    public String get(int row, int field) {
+        return columns[field].get(row);
+    }
+
+    public String getRoadNmCtlNo(int row) {
+        return get(row, ROAD_NM_CTL_NO);
+    }
+
+    public String getMvRsnCd(int row) {
+        return get(row, MV_RSN_CD);
+    }
+
+    /**
+     * @Method 설명 : row 1건을 AddressChangeRow로 복원 (MyBatis 매퍼 등 DTO가 필요한 경로용)
+     */
+    public AddressChangeRow toRow(int row) {
+        AddressChangeRow r = new AddressChangeRow();
+        r.setRoadNmCtlNo(get(row, 0));
+        r.setLgdongOsdcd(get(row, 1));
+        r.setSidoNm(get(row, 2));
+        r.setSigunguNm(get(row, 3));
+        r.setEpmyndnNm(get(row, 4));
+
+        r.setRiNm(get(row, 5));
+        r.setMuntnYn(get(row, 6));
+        r.setUpperHsno(get(row, 7));
+        r.setSubHsno(get(row, 8));
+        r.setRoadNmCd(get(row, 9));
+
+        r.setRoadNm(get(row, 10));
+        r.setUndGrdYn(get(row, 11));
+        r.setBldUpperNo(get(row, 12));
+        r.setBldSubNo(get(row, 13));
+        r.setAddongOsdcd(get(row, 14));
+
+        r.setAddongEpmyndnNm(get(row, 15));
+        r.setZipNo(get(row, 16));
+        r.setBefRoadNmAddr(get(row, 17));
+        r.setApplyBgnDate(get(row, 18));
+        r.setCmmBldYn(get(row, 19));
+
+        r.setMvRsnCd(get(row, 20));
+        r.setInstBldNm(get(row, 21));
+        r.setBldNm(get(row, 22));
+        r.setNote(get(row, 23));
+        r.setStdDate(stdDate);
+        return r;
+    }
+
+    public Ref ref(int row) {
+        return new Ref(this, row);
+    }
+
+    /**
+     * 배치 내 row 1건을 가리키는 참조 (Writer/적재기에서 T로 사용, 값은 배치 컬럼에서 바로 바인딩)
+     */
+    public static final class Ref {
+        private final AddressChangeColumnBatch batch;
+        private final int row;
+
+        private Ref(AddressChangeColumnBatch batch, int row) {
+            this.batch = batch;
+            this.row = row;
+        }
+
+        public AddressChangeColumnBatch batch() {
+            return batch;
+        }
+
+        public int row() {
+            return row;
+        }
+
+        public String get(int field) {
+            return batch.get(row, field);
+        }
+
+        public String getStdDate() {
+            return batch.stdDate;
+        }
+
+        public AddressChangeRow toRow() {
+            return batch.toRow(row);
+        }
+    }
+
+    /**
+     * @Method 설명 : TempTableLayout.address와 같은 컬럼 구성으로 Ref에서 값을 꺼내는 레이아웃 getter 목록
+     */
+    static List<Function<Ref, String>> refGetters() {
+        List<Function<Ref, String>> getters = new ArrayList<>(FIELD_COUNT + 1);
+        for (int col = 0; col < FIELD_COUNT; col++) {
+            final int field = col;
+            getters.add(ref -> ref.get(field));
+        }
+        getters.add(Ref::getStdDate);
+        return getters;
+    }
+
+    /**
+     * 단위(ZIP 1개) 안의 배치들이 함께 쓰는 명칭 사전 (컬럼별 원본 바이트 -> 공유 String)
+     * 조회는 바이트 비교로 하므로 이미 등록된 값은 String을 새로 만들지 않음
+     * 배치를 채우는 스레드에서만 갱신하고, 배치에는 불변 String 참조만 남기므로 소비 스레드는 사전에 접근하지 않음
+     * 건물명처럼 값이 다양한 컬럼이 단위 내내 쌓이지 않도록 컬럼별 MAX_ENTRIES개까지만 등록
+     */
+    public static final class Dictionary {
+        private static final int MAX_ENTRIES = 1 << 16;
+
+        private final Pool[] pools = new Pool[FIELD_COUNT];
+
+        private Pool pool(int field) {
+            if (pools[field] == null) {
+                pools[field] = new Pool();
+            }
+            return pools[field];
+        }
+    }
+
+    /**
+     * 컬럼 1개의 사전 : 원본 바이트를 키로 하는 open addressing 해시 (선형 탐사)
+     */
+    private static final class Pool {
+        private byte[][] keys = new byte[256][];
+        private String[] values = new String[256];
+        private int size;
+
+        private String intern(PipeDelimitedTokenizer line, int field) {
+            if (line.isBlank(field)) {
+                return null;
+            }
+            int mask = keys.length - 1;
+            int slot = spread(line.hash(field)) & mask;
+            while (keys[slot] != null) {
+                if (line.contentEquals(field, keys[slot])) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            String value = line.get(field);
+            if (size < Dictionary.MAX_ENTRIES) {
+                keys[slot] = line.bytes(field);
+                values[slot] = value;
+                if (++size * 2 > keys.length) {
+                    rehash();
+                }
+            }
+            return value;
+        }
+
+        private void rehash() {
+            byte[][] oldKeys = keys;
+            String[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            values = new String[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == null) {
+                    continue;
+                }
+                int slot = spread(Arrays.hashCode(oldKeys[i])) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+
+    private interface Column {
+        void append(int row, PipeDelimitedTokenizer line, int field);
+
+        String get(int row);
+
+        void grow(int capacity);
+    }
+
+    /**
+     * 숫자 코드 컬럼 : 18자리씩 hi/lo long 2개 + 자릿수 (0 = null, -1 = 원문 보관)
+     * 도로명관리번호(26자리)처럼 long 범위를 넘는 코드도 36자리까지 숫자로 보관
+     * 복원한 문자열은 (hi, lo, 자릿수) 기준 direct-mapped 캐시에 두어 반복 코드는 바인딩마다 새로 만들지 않음
+     */
+    private static final class CodeColumn implements Column {
+        private static final int LO_DIGITS = 18;
+        private static final byte RAW = -1;
+        private static final int CACHE_SIZE = 256;	// 2의 거듭제곱
+
+        private long[] hi;
+        private long[] lo;
+        private byte[] width;
+        private Map<Integer, String> raw;	// 숫자 외 문자가 섞인 드문 값
+        private Decoded[] cache;			// 복원 문자열 캐시 (첫 get 시 생성, 슬롯 단위 불변 객체라 동시 조회에도 안전)
+
+        private CodeColumn(int capacity) {
+            this.hi = new long[capacity];
+            this.lo = new long[capacity];
+            this.width = new byte[capacity];
+        }
+
+        @Override
+        public void append(int row, PipeDelimitedTokenizer line, int field) {
+            int len = line.length(field);
+            if (len == 0) {
+                width[row] = 0;
+            } else if (len <= LO_DIGITS * 2 && line.isDigits(field)) {
+                int split = Math.max(0, len - LO_DIGITS);
+                hi[row] = split > 0 ? line.digits(field, 0, split) : 0;
+                lo[row] = line.digits(field, split, len);
+                width[row] = (byte) len;
+            } else {
+                if (raw == null) {
+                    raw = new HashMap<>();
+                }
+                raw.put(row, line.get(field));
+                width[row] = RAW;
+            }
+        }
+
+        @Override
+        public String get(int row) {
+            int w = width[row];
+            if (w == 0) {
+                return null;
+            }
+            if (w == RAW) {
+                return raw.get(row);
+            }
+            long low = lo[row];
+            long high = hi[row];
+            Decoded[] slots = cache;
+            if (slots == null) {
+                slots = new Decoded[CACHE_SIZE];
+                cache = slots;
+            }
+            int slot = (int) ((low * 31 + high) * 31 + w);
+            slot = (slot ^ (slot >>> 16)) & (CACHE_SIZE - 1);
+            Decoded hit = slots[slot];
+            if (hit != null && hit.width == w && hit.lo == low && hit.hi == high) {
+                return hit.value;
+            }
+            String value = decode(low, high, w);
+            slots[slot] = new Decoded(high, low, w, value);
+            return value;
+        }
+
+        private static String decode(long low, long high, int w) {
+            char[] chars = new char[w];
+            for (int i = w - 1, n = 0; i >= 0; i--, n++) {
+                if (n < LO_DIGITS) {
+                    chars[i] = (char) ('0' + low % 10);
+                    low /= 10;
+                } else {
+                    chars[i] = (char) ('0' + high % 10);
+                    high /= 10;
+                }
+            }
+            return new String(chars);
+        }
+
+        /**
+         * 캐시 슬롯 1개 (final 필드만 있어 다른 스레드에 그대로 넘겨도 안전)
+         */
+        private static final class Decoded {
+            private final long hi;
+            private final long lo;
+            private final int width;
+            private final String value;
+
+            private Decoded(long hi, long lo, int width, String value) {
+                this.hi = hi;
+                this.lo = lo;
+                this.width = width;
+                this.value = value;
+            }
+        }
+
+        @Override
+        public void grow(int capacity) {
+            hi = Arrays.copyOf(hi, capacity);
+            lo = Arrays.copyOf(lo, capacity);
+            width = Arrays.copyOf(width, capacity);
+        }
+    }
+
+    /**
+     * 사전 인코딩 컬럼 : row별 공유 String 참조 (null = 빈 값), 값은 단위 공용 사전에서 조회
+     */
+    private static final class DictionaryColumn implements Column {
+        private final Pool pool;
+        private String[] refs;
+
+        private DictionaryColumn(int capacity, Pool pool) {
+            this.pool = pool;
+            this.refs = new String[capacity];
+        }
+
+        @Override
+        public void append(int row, PipeDelimitedTokenizer line, int field) {
+            refs[row] = pool.intern(line, field);
+        }
+
+        @Override
+        public String get(int row) {
+            return refs[row];
+        }
+
+        @Override
+        public void grow(int capacity) {
+            refs = Arrays.copyOf(refs, capacity);
+        }
+    }
+
+    /**
+     * 자유 텍스트 컬럼 : 원문 그대로 보관 (빈 값은 null이므로 참조 1개만 차지)
+     */
+    private static final class TextColumn implements Column {
+        private String[] values;
+
+        private TextColumn(int capacity) {
+            this.values = new String[capacity];
+        }
+
+        @Override
+        public void append(int row, PipeDelimitedTokenizer line, int field) {
+            values[row] = line.get(field);
+        }
+
+        @Override
+        public String get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
@@ -1,17 +1,17 @@
 package com.addressApi.batch;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,12 +21,24 @@ import lombok.extern.slf4j.Slf4j;
  *
  * @프로그램 설명 : 주소 변경 텍스트 파일(.txt)을 읽고 AddressChangeRow 객체 리스트로 변환하는 클래스
  * 파일은 '|' 구분자 기반의 24개의 필드로 구성되며, 빈값도 포함
+ * PipeDelimitedTokenizer로 바이트 단위 분해 후 필수 필드를 검증하고, 통과한 row만 디코딩
+ * 검증 실패 row는 줄마다 로그를 남기지 않고 RejectedRowSink(reject 파일 + 사유별 요약)로 전달
  */
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class AddressChangeFileReader {
 
+    private static final String READER = BatchStage.JUSUKR.name();
+    private static final int FIELD_COUNT = 24;
+
+    // 도로명관리번호, 법정동코드, 도로명코드, 지하여부, 건물본번, 건물부번
+    private static final int[] REQUIRED_COLUMNS = { 0, 1, 9, 11, 12, 13 };
+
+    private final BatchMetrics metrics;
+    private final RejectedRowSink rejectedRowSink;
+
     /**
      * @Method 설명 : 테스트 파일을 한 줄씩 읽어 AddressChangeRow 리스트로 반환
      * @param file 압축 해제된 텍스트 파일
@@ -35,78 +47,191 @@ public class AddressChangeFileReader {
      */
     public List<AddressChangeRow> read(File file) throws IOException {
         List<AddressChangeRow> rows = new ArrayList<>();
+        read(file, rows::add);
+        return rows;
+    }
 
+    /**
+     * @Method 설명 : 텍스트 파일을 한 줄씩 읽어 파싱된 row를 즉시 sink로 전달 (스트리밍 모드)
+     * 전체 row를 메모리에 보관하지 않으므로 대용량 파일도 일정한 힙으로 처리 가능
+     * @param file 압축 해제된 텍스트 파일
+     * @param sink 파싱된 row를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public int read(File file, Consumer<AddressChangeRow> sink) throws IOException {
         if (file == null || !file.exists()) {
             throw new FileNotFoundException("대상 파일이 존재하지 않습니다: " + file);
         }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), Charset.forName("MS949")))) {
-            String line;
-            int lineNo = 0;
-
-            while ((line = reader.readLine()) != null) {
-                lineNo++;
-                String[] tokens = line.split("\\|", -1); // 빈 항목 유지
+        try (InputStream in = new FileInputStream(file)) {
+            return read(in, sink);
+        }
+    }
 
-                if (tokens.length < 24) {
-                    log.warn("{}번째 줄: 필드 수 불일치 ({}개): {}", lineNo, tokens.length, line);
-                    continue;
+    /**
+     * @Method 설명 : 스트림(예: ZipExtractor.openTextEntry 압축 해제 스트림)을 직접 파싱하여 sink로 전달
+     * 압축 해제 파일을 디스크에 쓰고 다시 읽는 과정 없이 바로 파싱
+     * @param in   MS949 텍스트 스트림 (호출자가 닫음)
+     * @param sink 파싱된 row를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws IOException 읽기 실패 시
+     */
+    public int read(InputStream in, Consumer<AddressChangeRow> sink) throws IOException {
+        int[] count = { 0 };
+        try (RejectedRowSink.Run rejects = rejectedRowSink.open(READER)) {
+            new PipeDelimitedTokenizer().forEachLine(in, line -> {
+                AddressChangeRow row = toRow(line, rejects);
+                if (row != null) {
+                    sink.accept(row);
+                    count[0]++;
                 }
+            });
+        }
 
-                if (isNullOrEmpty(tokens[0]) ||  
-                    isNullOrEmpty(tokens[1]) || 
-                    isNullOrEmpty(tokens[9]) || 
-                    isNullOrEmpty(tokens[11]) || 
-                    isNullOrEmpty(tokens[12]) ||
-                    isNullOrEmpty(tokens[13]))
-                {
-                    log.warn("필수 필드 누락 SKIP: 도로명관리번호={}, 법정동코드={}, 도로명코드={}, 지하여부={}, 건물상위번호={}, 건물하위번호={}",
-                        tokens[0], tokens[1], tokens[9], tokens[11], tokens[12], tokens[13]);
-                    continue;	// 이 row는 건너뜀
-                }
+        log.info("AddressChangeRow 총 {}건 로딩 완료", count[0]);
+        metrics.rowsParsed(READER, count[0]);
+        return count[0];
+    }
 
-                AddressChangeRow row = new AddressChangeRow();
-                row.setRoadNmCtlNo(tokens[0]);
-                row.setLgdongOsdcd(tokens[1]);
-                row.setSidoNm(nullIfEmpty(tokens[2]));
-                row.setSigunguNm(nullIfEmpty(tokens[3]));
-                row.setEpmyndnNm(nullIfEmpty(tokens[4]));
-
-                row.setRiNm(nullIfEmpty(tokens[5]));
-                row.setMuntnYn(nullIfEmpty(tokens[6]));            
-                row.setUpperHsno(nullIfEmpty(tokens[7]));
-                row.setSubHsno(nullIfEmpty(tokens[8]));
-                row.setRoadNmCd(nullIfEmpty(tokens[9]));
-
-                row.setRoadNm(nullIfEmpty(tokens[10]));
-                row.setUndGrdYn(nullIfEmpty(tokens[11]));
-                row.setBldUpperNo(nullIfEmpty(tokens[12]));
-                row.setBldSubNo(nullIfEmpty(tokens[13]));
-                row.setAddongOsdcd(nullIfEmpty(tokens[14]));
-
-                row.setAddongEpmyndnNm(nullIfEmpty(tokens[15]));
-                row.setZipNo(nullIfEmpty(tokens[16]));
-                row.setBefRoadNmAddr(nullIfEmpty(tokens[17]));
-                row.setApplyBgnDate(nullIfEmpty(tokens[18]));
-                row.setCmmBldYn(nullIfEmpty(tokens[19]));
-				
-                row.setMvRsnCd(nullIfEmpty(tokens[20]));
-                row.setInstBldNm(nullIfEmpty(tokens[21]));
-                row.setBldNm(nullIfEmpty(tokens[22]));
-                row.setNote(nullIfEmpty(tokens[23]));
-
-                rows.add(row);
-            }
+    /**
+     * @Method 설명 : 텍스트 파일을 메모리 매핑 후 청크 단위로 병렬 파싱하여 sink로 전달 (전체 스냅샷 등 대용량 파일용)
+     * 경고 로그의 줄 번호는 파일 기준으로 유지되며, ordered=true면 파일 순서대로 전달
+     * @param file    압축 해제된 텍스트 파일
+     * @param options 병렬 파싱 설정
+     * @param sink    파싱된 row를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public int readParallel(File file, AddressChangeProperties.Parallel options, Consumer<AddressChangeRow> sink) throws IOException {
+        if (file == null || !file.exists()) {
+            throw new FileNotFoundException("대상 파일이 존재하지 않습니다: " + file);
         }
-        log.info("AddressChangeRow 총 {}건 로딩 완료", rows.size());
-        return rows;
+
+        int count;
+        try (RejectedRowSink.Run rejects = rejectedRowSink.open(READER)) {
+            count = MappedChunkParser.parse(file, options.getChunkSizeMb() * 1024L * 1024, options.getThreads(),
+                    options.isOrdered(), line -> toRow(line, rejects), batch -> batch.forEach(sink));
+        }
+        log.info("AddressChangeRow 총 {}건 로딩 완료 (병렬)", count);
+        metrics.rowsParsed(READER, count);
+        return count;
     }
 
-    private static String nullIfEmpty(String token) {
-        return (token == null || token.trim().isEmpty()) ? null : token.trim();
+    /**
+     * @Method 설명 : 텍스트 파일을 컬럼형 배치(AddressChangeColumnBatch) 단위로 sink에 전달
+     * 코드/번호류는 디코딩 없이 숫자 배열로, 명칭류는 파일 전체 공용 사전으로 보관하므로 row DTO 대비 힙 사용량이 작음
+     * @param file      압축 해제된 텍스트 파일
+     * @param batchSize 배치당 row 수
+     * @param sink      가득 찬(마지막은 잔여) 배치를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public int readColumnar(File file, int batchSize, Consumer<AddressChangeColumnBatch> sink) throws IOException {
+        if (file == null || !file.exists()) {
+            throw new FileNotFoundException("대상 파일이 존재하지 않습니다: " + file);
+        }
+
+        try (InputStream in = new FileInputStream(file)) {
+            return readColumnar(in, batchSize, sink);
+        }
     }
 
-    private static boolean isNullOrEmpty(String s) {
-        return s == null || s.trim().isEmpty();
+    /**
+     * @Method 설명 : 스트림을 컬럼형 배치 단위로 파싱하여 sink로 전달 (검증 기준은 read와 동일)
+     * @param in        MS949 텍스트 스트림 (호출자가 닫음)
+     * @param batchSize 배치당 row 수
+     * @param sink      가득 찬(마지막은 잔여) 배치를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws IOException 읽기 실패 시
+     */
+    public int readColumnar(InputStream in, int batchSize, Consumer<AddressChangeColumnBatch> sink) throws IOException {
+        int size = Math.max(1, batchSize);
+        int[] count = { 0 };
+        AddressChangeColumnBatch.Dictionary dictionary = new AddressChangeColumnBatch.Dictionary();	// 이 파일(단위)의 배치들이 공유
+        AddressChangeColumnBatch[] batch = { new AddressChangeColumnBatch(size, dictionary) };
+
+        try (RejectedRowSink.Run rejects = rejectedRowSink.open(READER)) {
+            new PipeDelimitedTokenizer().forEachLine(in, line -> {
+                if (!isValid(line, rejects)) {
+                    return;
+                }
+                batch[0].append(line);
+                count[0]++;
+                if (batch[0].size() >= size) {
+                    sink.accept(batch[0]);
+                    batch[0] = new AddressChangeColumnBatch(size, dictionary);
+                }
+            });
+        }
+        if (!batch[0].isEmpty()) {
+            sink.accept(batch[0]);
+        }
+
+        log.info("AddressChangeRow 총 {}건 로딩 완료 (컬럼형)", count[0]);
+        metrics.rowsParsed(READER, count[0]);
+        return count[0];
+    }
+
+    /**
+     * @Method 설명 : 분해된 한 줄을 검증 후 AddressChangeRow로 변환
+     * 병렬 파싱 시 여러 스레드에서 동시에 호출되므로 상태를 갖지 않음
+     * @param line    토크나이저 (현재 줄)
+     * @param rejects 검증 실패 row 기록
+     * @return 변환된 row (필드 수 불일치/필수 필드 누락 시 null)
+     */
+    AddressChangeRow toRow(PipeDelimitedTokenizer line, RejectedRowSink.Run rejects) {
+        if (!isValid(line, rejects)) {
+            return null;	// 이 row는 건너뜀
+        }
+
+        AddressChangeRow row = new AddressChangeRow();
+        row.setRoadNmCtlNo(line.get(0));
+        row.setLgdongOsdcd(line.get(1));
+        row.setSidoNm(line.get(2));
+        row.setSigunguNm(line.get(3));
+        row.setEpmyndnNm(line.get(4));
+
+        row.setRiNm(line.get(5));
+        row.setMuntnYn(line.get(6));
+        row.setUpperHsno(line.get(7));
+        row.setSubHsno(line.get(8));
+        row.setRoadNmCd(line.get(9));
+
+        row.setRoadNm(line.get(10));
+        row.setUndGrdYn(line.get(11));
+        row.setBldUpperNo(line.get(12));
+        row.setBldSubNo(line.get(13));
+        row.setAddongOsdcd(line.get(14));
+
+        row.setAddongEpmyndnNm(line.get(15));
+        row.setZipNo(line.get(16));
+        row.setBefRoadNmAddr(line.get(17));
+        row.setApplyBgnDate(line.get(18));
+        row.setCmmBldYn(line.get(19));
+
+        row.setMvRsnCd(line.get(20));
+        row.setInstBldNm(line.get(21));
+        row.setBldNm(line.get(22));
+        row.setNote(line.get(23));
+        return row;
+    }
+
+    /**
+     * @Method 설명 : 필드 수 / 필수 필드 검증 (실패 시 rejects에 사유와 함께 기록)
+     */
+    private boolean isValid(PipeDelimitedTokenizer line, RejectedRowSink.Run rejects) {
+        if (line.fieldCount() < FIELD_COUNT) {
+            rejects.reject(line, line.isBlankLine() ? RejectedRowSink.Reason.BLANK_LINE : RejectedRowSink.Reason.FIELD_COUNT);
+            return false;
+        }
+
+        for (int col : REQUIRED_COLUMNS) {
+            if (line.isBlank(col)) {
+                rejects.reject(line, RejectedRowSink.Reason.REQUIRED_FIELD);
+                return false;
+            }
+        }
+        return true;
     }
-}
\ No newline at end of file
+}
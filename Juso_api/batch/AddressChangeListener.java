@@ -0,0 +1,73 @@
+package com.addressApi.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @FileName  : AddressChangeListener.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 일배치가 적용한 변동 row를 받아 보는 확장 지점 (인메모리 색인/검색/캐시 등)
+ * 적재기(AddressChangeWriter / AddressDeltaApplier)가 커밋할 때마다 그 트랜잭션에 들어간 row만 최대 stream.chunk-size건씩 전달
+ *  - 체크포인트 재개로 건너뛴 row는 앞선 실행에서 커밋 시 이미 전달되었으므로 다시 전달하지 않음
+ *  - 컬럼형 적재(stream.columnar)면 DTO로 복원하지 않고 배치 범위(onAddressBatchApplied)로 전달
+ * 단위 적용 + 체크포인트 기록을 마치면 onUnitApplied, 도중에 실패하면 onUnitFailed를 호출
+ *  - 실패 전에 전달된 청크도 커밋된 row이므로 유효하며, 다음 실행은 커밋된 위치 이후 row부터 이어서 전달
+ * 반영 프로시저까지 끝나면(비동기 반영이면 완료 또는 예외 시점) onBatchFinished를 호출
+ * 반영 프로시저가 성공하면 실행 주체와 관계없이(일배치 / reflect.cron 단독 실행) AddressChangeReflector가 onReflected를 호출
+ *  - TEMP 적재분은 onReflected 전까지 운영 테이블에 없으므로, 운영 테이블과 맞춰야 하는 구현체는 그때 반영
+ *  - 단계 레인이 동시에 진행되면 서로 다른 스레드에서 호출될 수 있으므로 구현체가 동기화
+ *  - 리스너 예외는 로그만 남기고 배치 결과에는 영향을 주지 않음
+ * 등록된 리스너가 없으면 row를 모아 두지 않음
+ */
+public interface AddressChangeListener {
+
+    /**
+     * @Method 설명 : 커밋된 JUSUKR row 청크 (파일 순서 그대로, mvRsnCd 31/34/63 포함)
+     */
+    default void onAddressRowsApplied(BatchUnit unit, List<AddressChangeRow> rows) {
+    }
+
+    /**
+     * @Method 설명 : 커밋된 JUSUKR 컬럼형 배치의 row 범위 [from, to) (기본 구현은 row로 복원하여 onAddressRowsApplied 호출)
+     */
+    default void onAddressBatchApplied(BatchUnit unit, AddressChangeColumnBatch batch, int from, int to) {
+        List<AddressChangeRow> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            rows.add(batch.toRow(i));
+        }
+        onAddressRowsApplied(unit, rows);
+    }
+
+    /**
+     * @Method 설명 : 커밋된 JUSDG row 청크
+     */
+    default void onDongDetailRowsApplied(BatchUnit unit, List<AddressDongDetailRow> rows) {
+    }
+
+    /**
+     * @Method 설명 : 단위 1개 적용 + 체크포인트 기록 완료 (그 단위의 row를 모두 전달함)
+     */
+    default void onUnitApplied(BatchUnit unit) {
+    }
+
+    /**
+     * @Method 설명 : 단위 적용 실패 (이미 받은 청크는 커밋된 row, 나머지는 다음 실행에서 이어서 전달)
+     */
+    default void onUnitFailed(BatchUnit unit) {
+    }
+
+    /**
+     * @Method 설명 : 일배치 1회 종료 (반영 프로시저 실행 시 그 완료 이후, 적용한 단위가 있을 때만 호출)
+     * @param reflected 이번 실행의 적용분이 모두 운영 테이블에 있는지 여부 (TEMP 적재분이 없으면 true, 반영 실패/예약/미실행이면 false)
+     */
+    default void onBatchFinished(boolean reflected) {
+    }
+
+    /**
+     * @Method 설명 : 반영 프로시저 성공 (result.startedAt 이전에 TEMP에 적재된 변경분은 운영 테이블에 반영됨)
+     */
+    default void onReflected(AddressChangeReflector.ReflectResult result) {
+    }
+}
@@ -1,5 +1,10 @@
 package com.addressApi.batch;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
@@ -21,6 +26,16 @@ import lombok.Setter;
 public class AddressChangeProperties {
     private Schedule schedule;
     private Path path;
+    private Stream stream = new Stream();
+    private Parallel parallel = new Parallel();
+    private CatchUp catchUp = new CatchUp();
+    private Pipeline pipeline = new Pipeline();
+    private Writer writer = new Writer();
+    private Bulk bulk = new Bulk();
+    private Reflect reflect = new Reflect();
+    private Delta delta = new Delta();
+    private Ready ready = new Ready();
+    private Reject reject = new Reject();
     private boolean enabled;
 
     @Getter @Setter
@@ -33,5 +48,100 @@ public class AddressChangeProperties {
     public static class Path {                 
         private String zipDir;			// ZIP 파일이 다운로드되는 경로        
         private String extractDir;		// ZIP 압축이 해제되는 경로
+        private boolean keepExtracted = false;	// true면 extractDir에 압축 해제 파일을 남김 (감사/디버그용, 기본은 ZIP 스트리밍)
+        private String checkpointFile;		// 배치 체크포인트 파일 (미설정 시 extractDir/batch-checkpoint.properties)
+    }
+
+    @Getter @Setter
+    public static class Stream {
+        private int chunkSize = 1000;		// 파싱 -> 적재 사이에 전달되는 청크당 row 수
+        private int queueCapacity = 4;		// 적재 대기 가능한 최대 청크 수 (초과 시 파싱 대기)
+        private boolean columnar = false;	// JUSUKR을 컬럼형 배치(AddressChangeColumnBatch)로 파싱/적재 (병렬 파싱, DELTA 모드 제외)
+    }
+
+    @Getter @Setter
+    public static class Parallel {
+        private boolean enabled = false;	// 전체 스냅샷 등 대용량 파일 병렬 파싱 사용 여부
+        private int chunkSizeMb = 16;		// 메모리 매핑 청크 크기 (MB, 줄 경계로 보정)
+        private int threads = Runtime.getRuntime().availableProcessors();	// 파싱 스레드 수
+        private boolean ordered = true;		// 파일 순서대로 적재할지 여부
+    }
+
+    @Getter @Setter
+    public static class CatchUp {
+        private int maxDays = 10;			// 오늘 기준 최대 며칠 전 날짜 폴더까지 미처리분을 적용할지
+        private int prefetchUnits = 2;		// 현재 적용 중인 ZIP 외에 미리 압축 해제/파싱해 둘 ZIP 수
+    }
+
+    @Getter @Setter
+    public static class Pipeline {
+        private boolean concurrentStages = true;	// JUSUKR / JUSDG 단계를 별도 스레드에서 동시에 처리 (서로 다른 TEMP 테이블)
+        private StageBudget jusukr = new StageBudget();
+        private StageBudget jusdg = new StageBudget();
+
+        public StageBudget of(BatchStage stage) {
+            return stage == BatchStage.JUSUKR ? jusukr : jusdg;
+        }
+    }
+
+    @Getter @Setter
+    public static class StageBudget {
+        private Integer queueCapacity;		// 단계별 적재 대기 청크 수 (미설정 시 stream.queue-capacity)
+        private Integer prefetchUnits;		// 단계별 선행 파싱 ZIP 수 = 파싱 스레드 예산 (미설정 시 catch-up.prefetch-units)
+    }
+
+    @Getter @Setter
+    public static class Writer {
+        private int flushInterval = 1000;	// JDBC 배치 크기 (N건마다 flushStatements)
+        private int commitInterval = 50000;	// M건마다 커밋 + 체크포인트 기록 (0 이하면 마지막에 한 번만 커밋)
+        private String checkpointTable;		// 커밋 row 수를 TEMP INSERT와 같은 트랜잭션에 기록할 테이블 (미설정 시 파일 체크포인트만 사용, 예: TB_ADDR_BATCH_CKPT)
+    }
+
+    @Getter @Setter
+    public static class Bulk {
+        private TempTableLoader.Strategy strategy = TempTableLoader.Strategy.MYBATIS;	// TEMP 테이블 적재 방식
+        private int rowsPerStatement = 200;		// MULTI_ROW 전략의 INSERT 1문장당 row 수 (DB 바인드 변수 한도 고려)
+        private String addressTable = "TB_ROAD_NM_ADDR_CHG_TEMP";	// JUSUKR TEMP 테이블 (JDBC 직접 적재 시)
+        private String dongDetailTable = "TB_DTL_ADDR_DONG_TEMP";	// JUSDG TEMP 테이블 (JDBC 직접 적재 시)
+        private Map<String, String> addressColumns = new LinkedHashMap<>();		// JUSUKR TEMP 컬럼명이 다를 때 기본 컬럼명 -> 실제 컬럼명 (예: NOTE: RMK)
+        private Map<String, String> dongDetailColumns = new LinkedHashMap<>();	// JUSDG TEMP 컬럼명이 다를 때 기본 컬럼명 -> 실제 컬럼명
+    }
+
+    @Getter @Setter
+    public static class Reflect {
+        private String procedureName = "SP_ROAD_NM_ADDR_CHG_RFLCT";	// 변경분 반영 프로시저
+        private boolean countOutParam = false;	// true면 OUT 파라미터 1개로 반영 row 수를 받음 (프로시저 시그니처 변경 후 사용, 기본은 기존처럼 인자 없이 호출 - 영향 row 수 -1)
+        private boolean afterBatch = true;	// 일배치에서 모든 TEMP 적재 완료 후 1회 실행
+        private boolean async = false;		// true면 전용 스레드에서 실행하고 Quartz 스레드는 즉시 반환
+        private String cron;				// 설정 시 반영 단계만 별도 스케줄로 실행 (예: "0 30 2 * * ?")
+    }
+
+    @Getter @Setter
+    public static class Delta {
+        private ApplyMode mode = ApplyMode.TEMP_PROCEDURE;	// JUSUKR 반영 방식
+        private String targetTable = "TB_ROAD_NM_ADDR";	// DELTA 모드에서 직접 반영할 운영 테이블
+        private int chunkSize = 500;		// 청크당 row 수 (기존 row 조회 IN 절 크기 + 커밋 단위, DB 바인드 변수 한도 고려)
+        private Map<String, String> columns = new LinkedHashMap<>();	// 운영 테이블 컬럼명이 다를 때 기본 컬럼명 -> 실제 컬럼명 (예: STD_DATE: LAST_STD_DATE)
+        private List<String> excludedColumns = new ArrayList<>();	// 운영 테이블에 없는 기본 컬럼 (예: [MV_RSN_CD])
+    }
+
+    @Getter @Setter
+    public static class Ready {
+        private boolean watch = false;			// zipDir 감시(WatchService) - 날짜 폴더에 준비 완료 마커가 생기면 일배치 즉시 실행
+        private String markerFile = "_READY";	// 수집기(Juso_fetcher)가 날짜 폴더의 ZIP 검증 완료 후 생성하는 마커 파일명
+        private boolean requireMarker = false;	// true면 마커가 있는 날짜 폴더만 적용 (다운로드 중인 폴더 선적용 방지)
+        private long debounceMs = 3000;			// 마커 감지 후 추가 이벤트를 기다리는 시간 (여러 날짜 폴더를 한 번에 처리)
+    }
+
+    @Getter @Setter
+    public static class Reject {
+        private String dir;						// 검증 실패 row 기록 폴더 (미설정 시 extractDir/rejects)
+        private boolean fileEnabled = true;		// false면 reject 파일 없이 건수 요약만 기록
+        private int maxLogLines = 20;			// 원본 파일 1개당 WARN 로그로 남길 최대 실패 row 수 (이후는 파일에만 기록)
+    }
+
+    public enum ApplyMode {
+        TEMP_PROCEDURE,		// TEMP 테이블 적재 후 반영 프로시저 실행 (기존 방식)
+        DELTA				// mvRsnCd 기준으로 운영 테이블에 직접 INSERT/UPDATE/DELETE (AddressDeltaApplier)
     }
-}
\ No newline at end of file
+}
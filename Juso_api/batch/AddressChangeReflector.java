@@ -0,0 +1,192 @@
+package com.addressApi.batch;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.addressApi.mapper.AddressReflectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : AddressChangeReflector.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : TEMP 테이블 적재분을 운영 주소 테이블에 반영하는 프로시저(SP_ROAD_NM_ADDR_CHG_RFLCT) 실행기
+ * Writer에서 단계/파일마다 호출하던 방식을 분리하여, 모든 TEMP 적재가 끝난 뒤 한 번만 실행
+ * 실행 시간, 영향 row 수, 상태를 기록하며 비동기 실행 시 Quartz 스레드를 즉시 반환
+ * 프로시저는 AddressReflectMapper로 호출 (기본 인자 없음, reflect.count-out-param=true면 OUT 파라미터로 영향 row 수 수신)
+ * 동시에 두 번 실행되지 않으며, 실행 중에 들어온 요청은 건너뛰지 않고 후속 실행 1회로 합쳐 예약
+ *  - 실행 중인 프로시저는 요청 이후 적재된 TEMP 데이터를 놓칠 수 있으므로, 현재 실행이 끝나면 실행 스레드가 이어서 한 번 더 실행
+ *  - 예약한 요청은 QUEUED 결과를 즉시 받고, 후속 실행 결과는 이력과 onReflected로 전달
+ * 성공하면 실행 주체(일배치/단독 스케줄)와 관계없이 AddressChangeListener.onReflected를 호출 (캐시 무효화 등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AddressChangeReflector implements DisposableBean {
+
+    private static final int HISTORY_SIZE = 30;
+    private static final Pattern PROCEDURE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_$#]*(\\.[A-Za-z_][A-Za-z0-9_$#]*)*");
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final AddressChangeProperties properties;
+    private final BatchMetrics metrics;
+    private final ObjectProvider<AddressChangeListener> changeListeners;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "address-reflect");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<String> requested = new AtomicReference<>();	// 아직 실행하지 않은 요청 (여러 건이면 1회로 합침)
+    private final Deque<ReflectResult> history = new ArrayDeque<>();
+
+    public enum Status { SUCCESS, FAILED, QUEUED }
+
+    /**
+     * 프로시저 1회 실행 결과
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class ReflectResult {
+        private final String trigger;			// 실행 요청 주체 (예: batch, schedule)
+        private final LocalDateTime startedAt;
+        private final long elapsedMs;
+        private final int affectedRows;			// 프로시저가 반영 row 수를 돌려주지 않으면 -1
+        private final Status status;
+        private final String message;
+    }
+
+    /**
+     * @Method 설명 : 프로시저를 호출 스레드에서 실행
+     * 이미 실행 중이면 후속 실행 1회를 예약하고 QUEUED를 즉시 반환 (후속 실행은 현재 실행 스레드가 이어서 수행)
+     * 실행을 맡은 경우 그 사이 예약된 후속 실행까지 모두 끝낸 뒤 반환
+     * @param trigger 실행 요청 주체 (로그/이력용)
+     * @return 이 호출에서 처음 실행한 결과, 다른 실행에 합쳐졌으면 QUEUED
+     */
+    public ReflectResult reflect(String trigger) {
+        LocalDateTime requestedAt = LocalDateTime.now();
+        requested.set(trigger);
+
+        ReflectResult first = null;
+        // 실행권을 놓은 뒤에도 요청이 남아 있으면 다시 잡음 (실행권 획득에 실패한 요청자는 이미 요청을 남겼으므로 유실 없음)
+        while (requested.get() != null && running.compareAndSet(false, true)) {
+            try {
+                String next = requested.getAndSet(null);	// 이번 실행 시작 전까지의 요청은 모두 이번 실행에 포함
+                if (next != null) {
+                    ReflectResult result = execute(next);
+                    if (first == null) {
+                        first = result;
+                    }
+                }
+            } finally {
+                running.set(false);
+            }
+        }
+        if (first != null) {
+            return first;
+        }
+        log.info("[{}] 반영 프로시저가 실행 중이어서 종료 후 1회 더 실행하도록 예약", trigger);
+        return record(new ReflectResult(trigger, requestedAt, 0, -1, Status.QUEUED, "실행 중 - 후속 실행 예약"));
+    }
+
+    private ReflectResult execute(String trigger) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        AddressChangeProperties.Reflect reflect = properties.getReflect();
+        String procedure = reflect.getProcedureName();
+        long startNanos = System.nanoTime();
+        try (SqlSession session = sqlSessionFactory.openSession(false)) {
+            if (procedure == null || !PROCEDURE_NAME.matcher(procedure).matches()) {
+                throw new IllegalStateException("반영 프로시저명 형식 오류: " + procedure);
+            }
+            AddressReflectMapper mapper = session.getMapper(AddressReflectMapper.class);
+            AddressReflectMapper.ReflectCall call = new AddressReflectMapper.ReflectCall();
+            call.setProcedureName(procedure);
+            if (reflect.isCountOutParam()) {
+                mapper.callReflectProcedure(call);
+            } else {
+                mapper.callReflectProcedureWithoutCount(call);
+            }
+            session.commit(true);
+            int affected = call.getAffectedRows() == null ? -1 : call.getAffectedRows();
+
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            log.info("[{}] 도로명주소 변경분 반영 프로시저 완료 - {} ({}ms, 영향 {}건)", trigger, procedure, elapsedMs, affected);
+            return notifyReflected(record(new ReflectResult(trigger, startedAt, elapsedMs, affected, Status.SUCCESS, null)));
+
+        } catch (Exception e) {
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            log.error("[{}] 도로명주소 변경분 반영 프로시저 실패 - {} ({}ms): {}", trigger, procedure, elapsedMs, e.getMessage(), e);
+            return record(new ReflectResult(trigger, startedAt, elapsedMs, -1, Status.FAILED, e.getMessage()));
+        }
+    }
+
+    /**
+     * @Method 설명 : 프로시저를 전용 스레드에서 비동기 실행 (Quartz 스레드는 즉시 반환)
+     * @param trigger 실행 요청 주체
+     * @return 실행 결과 Future
+     */
+    public CompletableFuture<ReflectResult> reflectAsync(String trigger) {
+        log.info("[{}] 도로명주소 변경분 반영 프로시저 비동기 실행 요청", trigger);
+        return CompletableFuture.supplyAsync(() -> reflect(trigger), executor);
+    }
+
+    /**
+     * @Method 설명 : 최근 실행 이력 (최신순)
+     */
+    public synchronized List<ReflectResult> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private synchronized ReflectResult record(ReflectResult result) {
+        if (result.getStatus() != Status.QUEUED) {
+            metrics.recordReflect(result.getTrigger(), result.getStatus().name(), result.getElapsedMs());
+        }
+        history.addFirst(result);
+        while (history.size() > HISTORY_SIZE) {
+            history.removeLast();
+        }
+        return result;
+    }
+
+    private ReflectResult notifyReflected(ReflectResult result) {
+        changeListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onReflected(result);
+            } catch (Exception e) {
+                log.error("[{}] 반영 완료 리스너 처리 실패 - {}: {}", result.getTrigger(), listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
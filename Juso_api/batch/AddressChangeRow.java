@@ -14,7 +14,7 @@ import lombok.ToString;
 @Getter @Setter
 @ToString
 public class AddressChangeRow {
-    private String roadNmCt1No;     // 도로명관리번호 PK
+    private String roadNmCtlNo;     // 도로명관리번호 PK
     private String lgdongOsdcd;     // 법정동코드
     private String sidoNm;          // 시도명
     private String sigunguNm;       // 시군구명
@@ -2,7 +2,12 @@ package com.addressApi.batch;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
@@ -10,6 +15,7 @@ import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.stereotype.Component;
 
 import com.addressApi.mapper.AddressChangeMapper;
+import com.addressApi.mapper.BatchCheckpointMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +25,17 @@ import lombok.extern.slf4j.Slf4j;
  * @Date     : 2025. 6. 19.
  *
  * @프로그램 설명 : TEMP 테이블에 주소 변경 데이터를 누적 INSERT 처리하는 Writer 클래스
+ * Iterator 입력을 받아 flush-interval 건마다 flushStatements(), commit-interval 건마다 커밋하므로
+ * 드라이버 측 배치와 트랜잭션이 무한히 커지지 않으며, 중간 실패 시 커밋된 row까지는 유지
+ * 실제 INSERT 방식은 TempTableLoader 전략(MYBATIS / JDBC_BATCH / MULTI_ROW)으로 선택
+ * writer.checkpoint-table을 설정하면 커밋 row 수 체크포인트를 TEMP INSERT와 같은 트랜잭션으로 기록하므로
+ * 커밋 직후 중단되어도 재개 위치가 커밋된 row와 어긋나지 않음 (TEMP row 중복 적재 방지)
+ *  - 테이블은 BatchCheckpointMapper 주석의 DDL로 미리 생성해야 하며, 미설정 시 기존 파일 체크포인트(커밋 후 기록)만 사용
+ *  - 단위 적용이 끝나면 전체 건수가 남으므로 파일 체크포인트 기록 전에 중단되어도 재실행 시 다시 적재하지 않음
+ *  - 같은 단위를 처음부터 다시 적재하려면 파일 체크포인트와 함께 이 테이블의 해당 UNIT_KEY 행도 삭제
+ * onCommitted를 넘기면 커밋할 때마다 그 트랜잭션에 들어간 row만 전달 (재개로 건너뛴 row는 전달하지 않음)
+ *  - 전달 전까지 미커밋 row(컬럼형은 배치 참조)를 commit-interval건까지 보관
+ * 운영 테이블 반영 프로시저는 AddressChangeReflector에서 모든 적재 완료 후 별도로 실행
  */
 
 @Component
@@ -27,42 +44,252 @@ import lombok.extern.slf4j.Slf4j;
 public class AddressChangeWriter {
 
     private final SqlSessionFactory sqlSessionFactory;
+    private final AddressChangeProperties properties;
+    private final BatchCheckpointStore checkpointStore;
+    private final TempTableLoaderFactory loaderFactory;
+    private final BatchMetrics metrics;
 
     /**
      * @Method 설명 : TEMP 테이블에 주소 변경 데이터를 누적 INSERT
      * @param rows 파싱된 주소 변경 데이터 리스트
      */
     public void write(List<AddressChangeRow> rows) {
-        Log.info("AddressChangeWriter 시작 - 총 {}건", rows.size());
+        log.info("AddressChangeWriter 시작 - 총 {}건", rows.size());
+        write(rows.iterator());
+    }
 
-        SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false); // 수동 커밋
+    /**
+     * @Method 설명 : TEMP 테이블에 주소 변경 데이터를 스트리밍 방식으로 INSERT (StreamingRowPipe 등)
+     * @param rows 파싱된 주소 변경 데이터 Iterator
+     * @return 커밋된 건수
+     */
+    public int write(Iterator<AddressChangeRow> rows) {
+        return write(rows, LocalDate.now());
+    }
+
+    /**
+     * @Method 설명 : 기준일자를 지정하여 TEMP 테이블에 INSERT (미처리 날짜 일괄 적용 시 날짜 폴더 기준)
+     * @param rows    파싱된 주소 변경 데이터 Iterator
+     * @param stdDate 기준일자
+     * @return 커밋된 건수
+     */
+    public int write(Iterator<AddressChangeRow> rows, LocalDate stdDate) {
+        return write(rows, stdDate, null);
+    }
+
+    /**
+     * @Method 설명 : 체크포인트 키를 지정하여 TEMP 테이블에 INSERT
+     * commit-interval마다 누적 건수를 체크포인트에 함께 커밋하며, 재실행 시 이미 커밋된 앞부분은 건너뜀
+     * @param rows          파싱된 주소 변경 데이터 Iterator (재실행 시에도 동일한 순서여야 함)
+     * @param stdDate       기준일자
+     * @param checkpointKey 체크포인트 키 (null이면 재개 없이 처음부터)
+     * @return 이번 실행에서 커밋된 건수
+     */
+    public int write(Iterator<AddressChangeRow> rows, LocalDate stdDate, String checkpointKey) {
+        return write(rows, stdDate, checkpointKey, null);
+    }
+
+    /**
+     * @Method 설명 : write와 동일하며, 커밋마다 커밋된 row 목록을 onCommitted로 전달
+     * @param onCommitted 커밋된 row 수신 (null이면 보관/전달하지 않음)
+     */
+    public int write(Iterator<AddressChangeRow> rows, LocalDate stdDate, String checkpointKey,
+                     Consumer<List<AddressChangeRow>> onCommitted) {
+        return insertTemp("JUSUKR", rows, stdDate, checkpointKey, AddressChangeRow::setStdDate,
+                TempTableLayout.address(properties.getBulk()), AddressChangeMapper::insertTempAddress, onCommitted);
+    }
+
+    /**
+     * @Method 설명 : 컬럼형 배치(AddressChangeColumnBatch)를 TEMP 테이블에 INSERT
+     * JDBC_BATCH / MULTI_ROW 전략은 배치 컬럼 값을 바로 바인딩하고, MYBATIS 전략만 row 단위로 DTO를 복원
+     * 체크포인트/재개 기준은 row 건수로 write와 동일
+     * @param batches       컬럼형 배치 Iterator (재실행 시에도 동일한 순서여야 함)
+     * @param stdDate       기준일자 (배치마다 1회 세팅)
+     * @param checkpointKey 체크포인트 키 (null이면 재개 없이 처음부터)
+     * @return 이번 실행에서 커밋된 건수
+     */
+    public int writeColumnar(Iterator<AddressChangeColumnBatch> batches, LocalDate stdDate, String checkpointKey) {
+        return writeColumnar(batches, stdDate, checkpointKey, null);
+    }
+
+    /**
+     * @Method 설명 : writeColumnar와 동일하며, 커밋마다 커밋된 row 참조 목록을 onCommitted로 전달 (DTO 복원 없음)
+     * @param onCommitted 커밋된 row 참조 수신 (null이면 보관/전달하지 않음)
+     */
+    public int writeColumnar(Iterator<AddressChangeColumnBatch> batches, LocalDate stdDate, String checkpointKey,
+                             Consumer<List<AddressChangeColumnBatch.Ref>> onCommitted) {
+        return insertTemp("JUSUKR", new RefIterator(batches), stdDate, checkpointKey,
+                (ref, date) -> ref.batch().setStdDate(date),
+                TempTableLayout.addressColumnar(properties.getBulk()),
+                (mapper, ref) -> mapper.insertTempAddress(ref.toRow()), onCommitted);
+    }
+
+    /**
+     * @Method 설명 : 상세주소동표시 TEMP 테이블에 스트리밍 방식으로 INSERT
+     * @param rows          파싱된 상세주소동 데이터 Iterator
+     * @param stdDate       기준일자
+     * @param checkpointKey 체크포인트 키 (null이면 재개 없이 처음부터)
+     * @return 이번 실행에서 커밋된 건수
+     */
+    public int writeDongDetail(Iterator<AddressDongDetailRow> rows, LocalDate stdDate, String checkpointKey) {
+        return writeDongDetail(rows, stdDate, checkpointKey, null);
+    }
 
-        try {
-            AddressChangeMapper mapper = session.getMapper(AddressChangeMapper.class);
-            String stdDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    /**
+     * @Method 설명 : writeDongDetail과 동일하며, 커밋마다 커밋된 row 목록을 onCommitted로 전달
+     * @param onCommitted 커밋된 row 수신 (null이면 보관/전달하지 않음)
+     */
+    public int writeDongDetail(Iterator<AddressDongDetailRow> rows, LocalDate stdDate, String checkpointKey,
+                               Consumer<List<AddressDongDetailRow>> onCommitted) {
+        return insertTemp("JUSDG", rows, stdDate, checkpointKey, AddressDongDetailRow::setStdDate,
+                TempTableLayout.dongDetail(properties.getBulk()), AddressChangeMapper::insertTempDongDetail,
+                onCommitted);
+    }
 
-            for (AddressChangeRow row : rows) {
-                row.setStdDate(stdDate); // yyyyMMdd 문자열 세팅
-                mapper.insertTempAddress(row);
+    private <T> int insertTemp(String stage, Iterator<T> rows, LocalDate baseDate, String checkpointKey,
+                                     BiConsumer<T, String> stdDateSetter,
+                                     TempTableLayout<T> layout,
+                                     BiConsumer<AddressChangeMapper, T> mapperInsert,
+                                     Consumer<List<T>> onCommitted) {
+        AddressChangeProperties.Writer conf = properties.getWriter();
+        int flushInterval = Math.max(1, conf.getFlushInterval());
+        int commitInterval = conf.getCommitInterval();
+        String checkpointTable = checkpointKey == null || conf.getCheckpointTable() == null || conf.getCheckpointTable().isBlank()
+                ? null : conf.getCheckpointTable();
+
+        int resumeFrom = 0;
+        int seen = 0;
+        int committed = 0;
+        int pending = 0;
+        List<T> uncommitted = onCommitted == null ? null : new ArrayList<>();
+        long startNanos = System.nanoTime();
+
+        TempTableLoader.Strategy strategy = properties.getBulk().getStrategy();
+        SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false); // 수동 커밋
+
+        try (TempTableLoader<T> loader = loaderFactory.open(session, layout, mapperInsert)) {
+            BatchCheckpointMapper checkpointMapper = checkpointTable == null ? null : session.getMapper(BatchCheckpointMapper.class);
+            if (checkpointMapper != null) {
+                Integer rowsInDb = checkpointMapper.selectCommittedRows(checkpointTable, checkpointKey);
+                resumeFrom = rowsInDb == null ? 0 : rowsInDb;
+            } else if (checkpointKey != null) {
+                resumeFrom = checkpointStore.getCommittedRows(checkpointKey);
             }
+            committed = resumeFrom;
+            if (resumeFrom > 0) {
+                log.info("[{}] 체크포인트부터 재개 - 이미 커밋된 {}건 SKIP", stage, resumeFrom);
+            }
+            String stdDate = baseDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-            session.commit();
-            Log.info("AddressChangeWriter 커밋 완료 - 총 {}건", rows.size());
+            while (rows.hasNext()) {
+                T row = rows.next();
+                if (seen++ < resumeFrom) {
+                    continue;
+                }
+                stdDateSetter.accept(row, stdDate); // yyyyMMdd 문자열 세팅
+                loader.add(row);
+                pending++;
+                if (uncommitted != null) {
+                    uncommitted.add(row);
+                }
 
-            // 프로시저 호출 (SP_ROAD_NM_ADDR_CHG_RFLCT)
-            try {
-                mapper.callRoadNameAddrChangeReflectProcedure();
-                Log.info("도로명주소 변경분 반영 프로시저 호출 완료");
-            } catch (Exception e) {
-                Log.error("도로명주소 변경분 반영 프로시저 호출 실패", e.getMessage(), e);
+                if (pending % flushInterval == 0) {
+                    loader.flush();	// JDBC 배치 전송
+                }
+                if (commitInterval > 0 && pending >= commitInterval) {
+                    loader.flush();
+                    saveCheckpoint(checkpointMapper, checkpointTable, checkpointKey, committed + pending);
+                    session.commit(true);	// JDBC 직접 적재 시에도 커밋되도록 강제
+                    committed += pending;
+                    pending = 0;
+                    if (checkpointMapper == null && checkpointKey != null) {
+                        checkpointStore.markCommitted(checkpointKey, committed);
+                    }
+                    uncommitted = publish(uncommitted, onCommitted);
+                    log.debug("[{}] 중간 커밋 - 누적 {}건", stage, committed);
+                }
             }
 
+            loader.flush();
+            saveCheckpoint(checkpointMapper, checkpointTable, checkpointKey, committed + pending);
+            session.commit(true);
+            committed += pending;
+            pending = 0;
+            publish(uncommitted, onCommitted);
+
+            int inserted = committed - resumeFrom;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long elapsedMs = Math.max(1, elapsedNanos / 1_000_000);
+            metrics.recordInsert(stage, strategy.name(), inserted, elapsedNanos);
+            log.info("[{}] AddressChangeWriter 커밋 완료 - 총 {}건 (재개 SKIP {}건), {}ms, {}건/초, strategy={} batch={} commit={}",
+                    stage, inserted, resumeFrom, elapsedMs, inserted * 1000L / elapsedMs, strategy, flushInterval, commitInterval);
+            return inserted;
+
         } catch (Exception e) {
-            session.rollback();
-            Log.error("AddressChangeWriter 트랜잭션 롤백 발생 - 에러: {}", e.getMessage(), e);
-            
+            session.rollback(true);
+            log.error("[{}] AddressChangeWriter 트랜잭션 롤백 발생 (커밋 {}건 유지, 미커밋 {}건 롤백) - 에러: {}",
+                    stage, committed, pending, e.getMessage(), e);
+            throw new IllegalStateException("[" + stage + "] TEMP 테이블 적재 실패 (커밋 " + committed + "건까지 유지)", e);
+
         } finally {
             session.close();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 방금 커밋된 row를 전달하고 다음 트랜잭션용 목록 반환
+     */
+    private static <T> List<T> publish(List<T> committedRows, Consumer<List<T>> onCommitted) {
+        if (committedRows == null) {
+            return null;
+        }
+        if (!committedRows.isEmpty()) {
+            onCommitted.accept(committedRows);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * 커밋 row 수 체크포인트를 현재 트랜잭션에 추가 (BATCH 세션이므로 커밋 시 TEMP INSERT와 함께 전송)
+     */
+    private static void saveCheckpoint(BatchCheckpointMapper mapper, String table, String key, int rows) {
+        if (mapper == null) {
+            return;
+        }
+        mapper.deleteCommittedRows(table, key);
+        mapper.insertCommittedRows(table, key, rows);
+    }
+
+    /**
+     * 배치 Iterator를 row 참조(Ref) Iterator로 펼침
+     */
+    private static final class RefIterator implements Iterator<AddressChangeColumnBatch.Ref> {
+        private final Iterator<AddressChangeColumnBatch> batches;
+        private AddressChangeColumnBatch current;
+        private int row;
+
+        private RefIterator(Iterator<AddressChangeColumnBatch> batches) {
+            this.batches = batches;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || row >= current.size()) {
+                if (!batches.hasNext()) {
+                    return false;
+                }
+                current = batches.next();
+                row = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public AddressChangeColumnBatch.Ref next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.ref(row++);
+        }
+    }
+}
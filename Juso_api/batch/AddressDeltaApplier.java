@@ -0,0 +1,358 @@
+package com.addressApi.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : AddressDeltaApplier.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : JUSUKR 변동분을 TEMP 테이블 + 프로시저 없이 운영 주소 테이블에 직접 반영하는 델타 엔진
+ * 청크 단위로 도로명관리번호(PK)별 마지막 변동만 남긴 뒤 이동사유코드(mvRsnCd)로 분류
+ *  - 31(신규) / 34(수정) : 기존 row를 PK IN 조회 1회로 확인하여 없으면 INSERT, 내용 해시가 다르면 UPDATE, 같으면 SKIP
+ *  - 63(폐지)            : PK 기준 DELETE
+ * 모든 DML은 JDBC 배치로 전송하고 청크마다 커밋하므로 운영 테이블 잠금 구간이 짧게 유지됨
+ * 운영 테이블 컬럼 구성은 TEMP 테이블과 별도인 AddressTableLayout(delta.columns / delta.excluded-columns)을 따름
+ * onCommitted를 넘기면 청크 커밋마다 그 청크 row를 전달 (재개로 건너뛴 row는 전달하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AddressDeltaApplier {
+
+    public static final String MV_RSN_NEW = "31";
+    public static final String MV_RSN_MODIFIED = "34";
+    public static final String MV_RSN_DELETED = "63";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final AddressChangeProperties properties;
+    private final BatchCheckpointStore checkpointStore;
+    private final BatchMetrics metrics;
+
+    /**
+     * 반영 결과 집계
+     */
+    public static class DeltaStats {
+        int inserted;
+        int updated;
+        int unchanged;
+        int deleted;
+        int missing;		// 폐지 대상이 이미 없음
+        int ignored;		// 알 수 없는 이동사유코드
+        int roundTrips;
+
+        @Override
+        public String toString() {
+            return "insert=" + inserted + ", update=" + updated + ", unchanged=" + unchanged
+                    + ", delete=" + deleted + ", delete-missing=" + missing + ", ignored=" + ignored
+                    + ", roundTrips=" + roundTrips;
+        }
+    }
+
+    /**
+     * @Method 설명 : 변동분을 운영 테이블에 직접 반영
+     * @param rows          파싱된 주소 변경 데이터 Iterator (파일 순서)
+     * @param stdDate       기준일자
+     * @param checkpointKey 체크포인트 키 (null이면 재개 없이 처음부터)
+     * @return 이번 실행에서 처리한 row 수
+     */
+    public int apply(Iterator<AddressChangeRow> rows, LocalDate stdDate, String checkpointKey) {
+        return apply(rows, stdDate, checkpointKey, null);
+    }
+
+    /**
+     * @Method 설명 : apply와 동일하며, 청크 커밋마다 커밋된 row 목록을 onCommitted로 전달
+     * @param onCommitted 커밋된 row 수신 (null이면 전달하지 않음)
+     */
+    public int apply(Iterator<AddressChangeRow> rows, LocalDate stdDate, String checkpointKey,
+                     Consumer<List<AddressChangeRow>> onCommitted) {
+        AddressChangeProperties.Delta conf = properties.getDelta();
+        AddressTableLayout layout = AddressTableLayout.of(conf);
+        int chunkSize = Math.max(1, conf.getChunkSize());
+        int resumeFrom = checkpointKey == null ? 0 : checkpointStore.getCommittedRows(checkpointKey);
+        String std = stdDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        DeltaStats stats = new DeltaStats();
+        long startNanos = System.nanoTime();
+        int seen = 0;
+        int committed = resumeFrom;
+
+        if (resumeFrom > 0) {
+            log.info("[DELTA] 체크포인트부터 재개 - 이미 반영된 {}건 SKIP", resumeFrom);
+        }
+
+        try (SqlSession session = sqlSessionFactory.openSession(false)) {
+            Connection connection = session.getConnection();
+            List<AddressChangeRow> chunk = new ArrayList<>(chunkSize);
+
+            try {
+                while (rows.hasNext()) {
+                    AddressChangeRow row = rows.next();
+                    if (seen++ < resumeFrom) {
+                        continue;
+                    }
+                    row.setStdDate(std);
+                    chunk.add(row);
+
+                    if (chunk.size() >= chunkSize) {
+                        applyChunk(connection, layout, chunk, stats);
+                        session.commit(true);
+                        committed += chunk.size();
+                        if (checkpointKey != null) {
+                            checkpointStore.markCommitted(checkpointKey, committed);
+                        }
+                        chunk = committed(chunk, chunkSize, onCommitted);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    applyChunk(connection, layout, chunk, stats);
+                    session.commit(true);
+                    committed += chunk.size();
+                    chunk = committed(chunk, chunkSize, onCommitted);
+                }
+            } catch (Exception e) {
+                session.rollback(true);
+                log.error("[DELTA] 반영 실패 - 커밋 {}건 유지, 현재 청크 롤백: {}", committed, e.getMessage(), e);
+                throw new IllegalStateException("[DELTA] 운영 테이블 반영 실패 (커밋 " + committed + "건까지 유지)", e);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long elapsedMs = Math.max(1, elapsedNanos / 1_000_000);
+        int processed = committed - resumeFrom;
+        metrics.recordInsert(BatchStage.JUSUKR.name(), "DELTA", processed, elapsedNanos);
+        log.info("[DELTA] {} 반영 완료 - {}건, {}ms, {}", conf.getTargetTable(), processed, elapsedMs, stats);
+        return processed;
+    }
+
+    /**
+     * 커밋된 청크를 전달하고 다음 청크용 목록 반환 (전달한 목록은 재사용하지 않음)
+     */
+    private static List<AddressChangeRow> committed(List<AddressChangeRow> chunk, int chunkSize,
+                                                    Consumer<List<AddressChangeRow>> onCommitted) {
+        if (onCommitted == null) {
+            chunk.clear();
+            return chunk;
+        }
+        onCommitted.accept(chunk);
+        return new ArrayList<>(chunkSize);
+    }
+
+    private void applyChunk(Connection connection, AddressTableLayout layout,
+                            List<AddressChangeRow> chunk, DeltaStats stats) throws SQLException {
+        // 같은 PK가 청크 안에 여러 번 나오면 파일 순서상 마지막 변동만 적용
+        Map<String, AddressChangeRow> latest = new LinkedHashMap<>();
+        for (AddressChangeRow row : chunk) {
+            latest.remove(row.getRoadNmCtlNo());
+            latest.put(row.getRoadNmCtlNo(), row);
+        }
+
+        List<AddressChangeRow> upserts = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        for (AddressChangeRow row : latest.values()) {
+            String mvRsnCd = row.getMvRsnCd();
+            if (MV_RSN_NEW.equals(mvRsnCd) || MV_RSN_MODIFIED.equals(mvRsnCd)) {
+                upserts.add(row);
+            } else if (MV_RSN_DELETED.equals(mvRsnCd)) {
+                deletes.add(row.getRoadNmCtlNo());
+            } else {
+                stats.ignored++;
+                log.warn("[DELTA] 알 수 없는 이동사유코드 SKIP: 도로명관리번호={}, mvRsnCd={}", row.getRoadNmCtlNo(), mvRsnCd);
+            }
+        }
+
+        if (!upserts.isEmpty()) {
+            applyUpserts(connection, layout, upserts, stats);
+        }
+        if (!deletes.isEmpty()) {
+            applyDeletes(connection, layout, deletes, stats);
+        }
+    }
+
+    private void applyUpserts(Connection connection, AddressTableLayout layout,
+                              List<AddressChangeRow> upserts, DeltaStats stats) throws SQLException {
+        Map<String, Long> existing = selectContentHashes(connection, layout, upserts);
+        stats.roundTrips++;
+
+        List<String> columns = layout.getColumns();
+        List<Function<AddressChangeRow, String>> getters = layout.getGetters();
+        int pkIndex = columns.indexOf(layout.getPkColumn());
+
+        try (PreparedStatement insert = connection.prepareStatement(insertSql(layout));
+             PreparedStatement update = connection.prepareStatement(updateSql(layout))) {
+            int inserts = 0;
+            int updates = 0;
+
+            for (AddressChangeRow row : upserts) {
+                Long current = existing.get(row.getRoadNmCtlNo());
+                if (current == null) {
+                    int index = 1;
+                    for (Function<AddressChangeRow, String> getter : getters) {
+                        insert.setString(index++, getter.apply(row));
+                    }
+                    insert.addBatch();
+                    inserts++;
+                } else if (current != contentHash(layout, getters, row)) {
+                    int index = 1;
+                    for (int i = 0; i < getters.size(); i++) {
+                        if (i != pkIndex) {
+                            update.setString(index++, getters.get(i).apply(row));
+                        }
+                    }
+                    update.setString(index, row.getRoadNmCtlNo());
+                    update.addBatch();
+                    updates++;
+                } else {
+                    stats.unchanged++;	// 내용 변화 없음 -> DML 생략
+                }
+            }
+
+            if (inserts > 0) {
+                insert.executeBatch();
+                stats.inserted += inserts;
+                stats.roundTrips++;
+            }
+            if (updates > 0) {
+                update.executeBatch();
+                stats.updated += updates;
+                stats.roundTrips++;
+            }
+        }
+    }
+
+    private void applyDeletes(Connection connection, AddressTableLayout layout, List<String> keys, DeltaStats stats) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(
+                "DELETE FROM " + layout.getTable() + " WHERE " + layout.getPkColumn() + " = ?")) {
+            for (String key : keys) {
+                delete.setString(1, key);
+                delete.addBatch();
+            }
+            int[] results = delete.executeBatch();
+            stats.roundTrips++;
+            for (int result : results) {
+                if (result == 0) {
+                    stats.missing++;
+                } else {
+                    stats.deleted++;	// SUCCESS_NO_INFO(-2) 포함
+                }
+            }
+        }
+    }
+
+    /**
+     * 청크의 PK들로 기존 row를 한 번에 조회하여 PK -> 내용 해시 맵 생성
+     */
+    private Map<String, Long> selectContentHashes(Connection connection, AddressTableLayout layout,
+                                                  List<AddressChangeRow> rows) throws SQLException {
+        List<String> columns = layout.getColumns();
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(",", columns))
+                .append(" FROM ").append(layout.getTable())
+                .append(" WHERE ").append(layout.getPkColumn()).append(" IN (");
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        sql.append(')');
+
+        Map<String, Long> hashes = new HashMap<>(rows.size() * 2);
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < rows.size(); i++) {
+                ps.setString(i + 1, rows.get(i).getRoadNmCtlNo());
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long hash = FNV_OFFSET;
+                    for (int i = 0; i < columns.size(); i++) {
+                        if (layout.isCompared(i)) {
+                            hash = mix(hash, rs.getString(i + 1));
+                        }
+                    }
+                    hashes.put(trim(rs.getString(layout.getPkColumn())), hash);
+                }
+            }
+        }
+        return hashes;
+    }
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * 비교 대상 컬럼의 64bit FNV-1a 해시 (기준일자/이동사유코드는 제외, 공백/빈값은 null과 동일 취급)
+     */
+    private static long contentHash(AddressTableLayout layout,
+                                    List<Function<AddressChangeRow, String>> getters, AddressChangeRow row) {
+        List<String> columns = layout.getColumns();
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < columns.size(); i++) {
+            if (layout.isCompared(i)) {
+                hash = mix(hash, getters.get(i).apply(row));
+            }
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        String v = trim(value);
+        if (v != null) {
+            for (byte b : v.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= (b & 0xFF);
+                hash *= FNV_PRIME;
+            }
+        }
+        hash ^= 0x1F;	// 컬럼 구분자
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+    private static String trim(String value) {
+        if (value == null) {
+            return null;
+        }
+        String t = value.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    private static String insertSql(AddressTableLayout layout) {
+        List<String> columns = layout.getColumns();
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(layout.getTable())
+                .append(" (").append(String.join(",", columns)).append(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        return sql.append(')').toString();
+    }
+
+    private static String updateSql(AddressTableLayout layout) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(layout.getTable()).append(" SET ");
+        boolean first = true;
+        for (String column : layout.getColumns()) {
+            if (layout.getPkColumn().equals(column)) {
+                continue;
+            }
+            sql.append(first ? "" : ",").append(column).append(" = ?");
+            first = false;
+        }
+        return sql.append(" WHERE ").append(layout.getPkColumn()).append(" = ?").toString();
+    }
+}
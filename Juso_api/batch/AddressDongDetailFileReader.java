@@ -1,25 +1,41 @@
 package com.addressApi.batch;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 상세주소동표시(_dong.txt) 파일 파서
  * 기존 AddressChangeFileReader를 건드리지 않고, 이 클래스를 별도로 추가하여 분리 처리합니다.
+ * PipeDelimitedTokenizer로 바이트 단위 분해 후 필수 필드를 검증하고, 통과한 row만 디코딩합니다.
+ * 검증 실패 row는 RejectedRowSink(reject 파일 + 사유별 요약)로 전달합니다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class AddressDongDetailFileReader {
 
+    private static final String READER = BatchStage.JUSDG.name();
+
+    // ★ 실제 스펙에 맞는 기대 컬럼 수로 변경하세요 (예: 12)
+    private static final int EXPECTED_COLS = 12;
+
+    // ★ 실제 필수 필드 기준으로 수정하세요.
+    // 예시: 시도/시군구/읍면동 + 본번은 필수로 가정
+    private static final int[] REQUIRED_COLUMNS = { 0, 1, 2, 6 };
+
+    private final BatchMetrics metrics;
+    private final RejectedRowSink rejectedRowSink;
+
     /**
      * @Method 설명 : _dong.txt 파일을 한 줄씩 읽어 AddressDongDetailRow 리스트로 반환
      * @param file 압축 해제된 텍스트 파일 (_dong.txt)
@@ -28,79 +44,110 @@ public class AddressDongDetailFileReader {
      */
     public List<AddressDongDetailRow> read(File file) throws Exception {
         List<AddressDongDetailRow> rows = new ArrayList<>();
+        read(file, rows::add);
+        return rows;
+    }
 
+    /**
+     * @Method 설명 : _dong.txt 파일을 한 줄씩 읽어 파싱된 row를 즉시 sink로 전달 (스트리밍 모드)
+     * @param file 압축 해제된 텍스트 파일 (_dong.txt)
+     * @param sink 파싱된 row를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws Exception 파일 읽기 실패 시
+     */
+    public int read(File file, Consumer<AddressDongDetailRow> sink) throws Exception {
         if (file == null || !file.exists()) {
             throw new FileNotFoundException("대상 파일이 존재하지 않습니다: " + file);
         }
 
-        // 필요 시 EUC-KR/MS949 유지 (연계 파일 인코딩에 맞춰 조정)
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new FileInputStream(file), Charset.forName("MS949")))) {
-
-            String line;
-            int lineNo = 0;
-
-            while ((line = reader.readLine()) != null) {
-                lineNo++;
-                String[] tokens = line.split("\\|", -1); // 빈 항목 유지
-
-                // ★ 실제 스펙에 맞는 기대 컬럼 수로 변경하세요 (예: 12)
-                final int EXPECTED_COLS = 12;
-                if (tokens.length < EXPECTED_COLS) {
-                    log.warn("{}번째 줄: 필드 수 불일치 ({}개): {}", lineNo, tokens.length, line);
-                    continue;
-                }
+        try (InputStream in = new FileInputStream(file)) {
+            return read(in, sink);
+        }
+    }
 
-                AddressDongDetailRow row = new AddressDongDetailRow();
-                // ★ 인덱스 매핑을 실제 스펙에 맞게 조정하세요.
-                row.setSidoCd(nullIfEmpty(tokens[0]));
-                row.setSigunguCd(nullIfEmpty(tokens[1]));
-                row.setEmdCd(nullIfEmpty(tokens[2]));
-                row.setRiCd(nullIfEmpty(tokens[3]));
-                row.setAdminType(nullIfEmpty(tokens[4]));
-                row.setDongNm(nullIfEmpty(tokens[5]));
-                row.setBldMainNo(nullIfEmpty(tokens[6]));
-                row.setBldSubNo(nullIfEmpty(tokens[7]));
-                row.setDong(nullIfEmpty(tokens[8]));
-                row.setHo(nullIfEmpty(tokens[9]));
-                row.setFloorNo(nullIfEmpty(tokens[10]));
-                row.setNote(nullIfEmpty(tokens[11]));
-
-                if (!validateRequired(row)) {
-                    log.warn("{}번째 줄: 필수 필드 누락 SKIP: {}", lineNo, row);
-                    continue;
+    /**
+     * @Method 설명 : 스트림(예: ZipExtractor.openTextEntry 압축 해제 스트림)을 직접 파싱하여 sink로 전달
+     * 압축 해제 파일을 디스크에 쓰고 다시 읽는 과정 없이 바로 파싱
+     * @param in   MS949 텍스트 스트림 (호출자가 닫음)
+     * @param sink 파싱된 row를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws IOException 읽기 실패 시
+     */
+    public int read(InputStream in, Consumer<AddressDongDetailRow> sink) throws IOException {
+        // 필요 시 EUC-KR/MS949 유지 (연계 파일 인코딩에 맞춰 조정) - PipeDelimitedTokenizer.MS949
+        int[] count = { 0 };
+        try (RejectedRowSink.Run rejects = rejectedRowSink.open(READER)) {
+            new PipeDelimitedTokenizer().forEachLine(in, line -> {
+                AddressDongDetailRow row = toRow(line, rejects);
+                if (row != null) {
+                    sink.accept(row);
+                    count[0]++;
                 }
-
-                rows.add(row);
-            }
+            });
         }
 
-        log.info("AddressDongDetailRow 총 {}건 로딩 완료", rows.size());
-        return rows;
+        log.info("AddressDongDetailRow 총 {}건 로딩 완료", count[0]);
+        metrics.rowsParsed(READER, count[0]);
+        return count[0];
     }
 
-    private static boolean validateRequired(AddressDongDetailRow r) {
-        // ★ 실제 필수 필드 기준으로 수정하세요.
-        // 예시: 시도/시군구/읍면동 + 본번은 필수로 가정
-        if (isNullOrEmpty(r.getSidoCd())) { return false; }
-        if (isNullOrEmpty(r.getSigunguCd())) { return false; }
-        if (isNullOrEmpty(r.getEmdCd())) { return false; }
-        if (isNullOrEmpty(r.getBldMainNo())) { return false; }
-        return true;
+    /**
+     * @Method 설명 : _dong.txt 파일을 메모리 매핑 후 청크 단위로 병렬 파싱하여 sink로 전달 (전체 스냅샷 등 대용량 파일용)
+     * 경고 로그의 줄 번호는 파일 기준으로 유지되며, ordered=true면 파일 순서대로 전달
+     * @param file    압축 해제된 텍스트 파일
+     * @param options 병렬 파싱 설정
+     * @param sink    파싱된 row를 받을 소비자
+     * @return 전달한 row 건수
+     * @throws Exception 파일 읽기 실패 시
+     */
+    public int readParallel(File file, AddressChangeProperties.Parallel options, Consumer<AddressDongDetailRow> sink) throws Exception {
+        if (file == null || !file.exists()) {
+            throw new FileNotFoundException("대상 파일이 존재하지 않습니다: " + file);
+        }
+
+        int count;
+        try (RejectedRowSink.Run rejects = rejectedRowSink.open(READER)) {
+            count = MappedChunkParser.parse(file, options.getChunkSizeMb() * 1024L * 1024, options.getThreads(),
+                    options.isOrdered(), line -> toRow(line, rejects), batch -> batch.forEach(sink));
+        }
+        log.info("AddressDongDetailRow 총 {}건 로딩 완료 (병렬)", count);
+        metrics.rowsParsed(READER, count);
+        return count;
     }
 
-    private static String nullIfEmpty(String token) {
-        if (token == null) {
+    /**
+     * @Method 설명 : 분해된 한 줄을 검증 후 AddressDongDetailRow로 변환
+     * @param line    토크나이저 (현재 줄)
+     * @param rejects 검증 실패 row 기록
+     * @return 변환된 row (필드 수 불일치/필수 필드 누락 시 null)
+     */
+    AddressDongDetailRow toRow(PipeDelimitedTokenizer line, RejectedRowSink.Run rejects) {
+        if (line.fieldCount() < EXPECTED_COLS) {
+            rejects.reject(line, line.isBlankLine() ? RejectedRowSink.Reason.BLANK_LINE : RejectedRowSink.Reason.FIELD_COUNT);
             return null;
         }
-        String t = token.trim();
-        if (t.isEmpty()) {
-            return null;
+
+        for (int col : REQUIRED_COLUMNS) {
+            if (line.isBlank(col)) {
+                rejects.reject(line, RejectedRowSink.Reason.REQUIRED_FIELD);
+                return null;
+            }
         }
-        return t;
-    }
 
-    private static boolean isNullOrEmpty(String s) {
-        return s == null || s.trim().isEmpty();
+        AddressDongDetailRow row = new AddressDongDetailRow();
+        // ★ 인덱스 매핑을 실제 스펙에 맞게 조정하세요.
+        row.setSidoCd(line.get(0));
+        row.setSigunguCd(line.get(1));
+        row.setEmdCd(line.get(2));
+        row.setRiCd(line.get(3));
+        row.setAdminType(line.get(4));
+        row.setDongNm(line.get(5));
+        row.setBldMainNo(line.get(6));
+        row.setBldSubNo(line.get(7));
+        row.setDong(line.get(8));
+        row.setHo(line.get(9));
+        row.setFloorNo(line.get(10));
+        row.setNote(line.get(11));
+        return row;
     }
 }
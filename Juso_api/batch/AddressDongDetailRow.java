@@ -0,0 +1,33 @@
+package com.addressApi.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * @FileName  : AddressDongDetailRow.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 상세주소동표시(JUSDG) DTO
+ */
+@Getter @Setter
+@ToString
+public class AddressDongDetailRow {
+    private String sidoCd;          // 시도코드
+    private String sigunguCd;       // 시군구코드
+    private String emdCd;           // 읍면동코드
+    private String riCd;            // 리코드
+    private String adminType;       // 관리구분
+
+    private String dongNm;          // 동명
+    private String bldMainNo;       // 건물본번
+    private String bldSubNo;        // 건물부번
+    private String dong;            // 동
+    private String ho;              // 호
+
+    private String floorNo;         // 층번호
+    private String note;            // 비고
+
+    private String stdDate;         // 기준일자
+}
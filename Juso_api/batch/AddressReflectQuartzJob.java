@@ -0,0 +1,35 @@
+package com.addressApi.batch;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName : AddressReflectQuartzJob.java
+ * @Project  : Juso_api
+ * @Date     : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 도로명주소 변경분 반영 프로시저 단독 실행 Job
+ * address-change.reflect.cron 설정 시 일배치(TEMP 적재)와 별개의 시간에 반영 단계만 실행
+ */
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class AddressReflectQuartzJob implements Job {
+
+    private final AddressChangeReflector reflector;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        AddressChangeReflector.ReflectResult result = reflector.reflect("schedule");
+        if (result.getStatus() == AddressChangeReflector.Status.FAILED) {
+            throw new JobExecutionException("도로명주소 변경분 반영 실패: " + result.getMessage());
+        }
+    }
+}
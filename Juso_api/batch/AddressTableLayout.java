@@ -0,0 +1,117 @@
+package com.addressApi.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * @FileName  : AddressTableLayout.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 운영 주소 테이블(delta.target-table) 컬럼과 DTO 매핑 (DELTA 직접 반영 / 운영 테이블 조회용)
+ * TEMP 테이블 레이아웃(TempTableLayout)과 분리하여 운영 테이블 스키마가 달라도 설정으로 맞춤
+ *  - delta.columns          : 기본 컬럼명 -> 실제 컬럼명 (이름만 다른 컬럼)
+ *  - delta.excluded-columns : 운영 테이블에 없는 기본 컬럼 (PK는 제외 불가)
+ * 기준일자/이동사유코드는 변경 여부 비교(내용 해시)에서 제외
+ */
+@Getter
+public class AddressTableLayout {
+
+    public static final String PK = "ROAD_NM_CTL_NO";
+
+    private static final List<String> NOT_COMPARED = List.of("STD_DATE", "MV_RSN_CD");
+
+    private final String table;
+    private String pkColumn;
+    private final List<String> columns = new ArrayList<>();			// 실제 컬럼명
+    private final List<String> properties = new ArrayList<>();		// AddressChangeRow 속성명 (조회 결과 별칭)
+    private final List<Function<AddressChangeRow, String>> getters = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final List<Boolean> compared = new ArrayList<>();
+
+    private AddressTableLayout(String table) {
+        this.table = table;
+    }
+
+    /**
+     * @Method 설명 : delta 설정으로 운영 주소 테이블 레이아웃 생성
+     */
+    public static AddressTableLayout of(AddressChangeProperties.Delta conf) {
+        Map<String, String> renamed = conf.getColumns();
+        List<String> excluded = conf.getExcludedColumns();
+        if (excluded.contains(PK)) {
+            throw new IllegalStateException("운영 주소 테이블 PK 컬럼은 제외할 수 없습니다: " + PK);
+        }
+
+        AddressTableLayout layout = new AddressTableLayout(conf.getTargetTable());
+        Column.DEFAULTS.forEach(column -> {
+            if (!excluded.contains(column.name)) {
+                String physical = renamed.getOrDefault(column.name, column.name);
+                layout.columns.add(physical);
+                layout.properties.add(column.property);
+                layout.getters.add(column.getter);
+                layout.compared.add(!NOT_COMPARED.contains(column.name));
+                if (PK.equals(column.name)) {
+                    layout.pkColumn = physical;
+                }
+            }
+        });
+        return layout;
+    }
+
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    public boolean isCompared(int index) {
+        return compared.get(index);
+    }
+
+    /**
+     * 운영 주소 테이블 기본 컬럼 (기본 컬럼명 = JUSUKR 항목명)
+     */
+    private static final class Column {
+        private static final List<Column> DEFAULTS = List.of(
+                new Column("ROAD_NM_CTL_NO", "roadNmCtlNo", AddressChangeRow::getRoadNmCtlNo),
+                new Column("LGDONG_OSDCD", "lgdongOsdcd", AddressChangeRow::getLgdongOsdcd),
+                new Column("SIDO_NM", "sidoNm", AddressChangeRow::getSidoNm),
+                new Column("SIGUNGU_NM", "sigunguNm", AddressChangeRow::getSigunguNm),
+                new Column("EPMYNDN_NM", "epmyndnNm", AddressChangeRow::getEpmyndnNm),
+                new Column("RI_NM", "riNm", AddressChangeRow::getRiNm),
+                new Column("MUNTN_YN", "muntnYn", AddressChangeRow::getMuntnYn),
+                new Column("UPPER_HSNO", "upperHsno", AddressChangeRow::getUpperHsno),
+                new Column("SUB_HSNO", "subHsno", AddressChangeRow::getSubHsno),
+                new Column("ROAD_NM_CD", "roadNmCd", AddressChangeRow::getRoadNmCd),
+                new Column("ROAD_NM", "roadNm", AddressChangeRow::getRoadNm),
+                new Column("UND_GRD_YN", "undGrdYn", AddressChangeRow::getUndGrdYn),
+                new Column("BLD_UPPER_NO", "bldUpperNo", AddressChangeRow::getBldUpperNo),
+                new Column("BLD_SUB_NO", "bldSubNo", AddressChangeRow::getBldSubNo),
+                new Column("ADDONG_OSDCD", "addongOsdcd", AddressChangeRow::getAddongOsdcd),
+                new Column("ADDONG_EPMYNDN_NM", "addongEpmyndnNm", AddressChangeRow::getAddongEpmyndnNm),
+                new Column("ZIP_NO", "zipNo", AddressChangeRow::getZipNo),
+                new Column("BEF_ROAD_NM_ADDR", "befRoadNmAddr", AddressChangeRow::getBefRoadNmAddr),
+                new Column("APPLY_BGN_DATE", "applyBgnDate", AddressChangeRow::getApplyBgnDate),
+                new Column("CMM_BLD_YN", "cmmBldYn", AddressChangeRow::getCmmBldYn),
+                new Column("MV_RSN_CD", "mvRsnCd", AddressChangeRow::getMvRsnCd),
+                new Column("INST_BLD_NM", "instBldNm", AddressChangeRow::getInstBldNm),
+                new Column("BLD_NM", "bldNm", AddressChangeRow::getBldNm),
+                new Column("NOTE", "note", AddressChangeRow::getNote),
+                new Column("STD_DATE", "stdDate", AddressChangeRow::getStdDate));
+
+        private final String name;
+        private final String property;
+        private final Function<AddressChangeRow, String> getter;
+
+        private Column(String name, String property, Function<AddressChangeRow, String> getter) {
+            this.name = name;
+            this.property = property;
+            this.getter = getter;
+        }
+    }
+}
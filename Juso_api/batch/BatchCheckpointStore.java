@@ -0,0 +1,127 @@
+package com.addressApi.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : BatchCheckpointStore.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 일배치 진행 상황(적용 완료된 BatchUnit) 체크포인트 저장소
+ * 임시 파일에 기록 후 원자적 rename으로 교체하므로 기록 도중 중단되어도 이전 상태가 유지됨
+ * 재기동 시 완료된 단위는 건너뛰고 미완료 단위부터 이어서 처리
+ * 단위 적용 중에는 커밋된 row 수(ROWS|n)를 기록하여 중간 실패 시 커밋된 row 이후부터 재개
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchCheckpointStore {
+
+    private static final String DONE = "DONE";
+    private static final String ROWS = "ROWS";
+    private static final String DEFAULT_FILE_NAME = "batch-checkpoint.properties";
+
+    private final AddressChangeProperties properties;
+
+    private Properties state;
+
+    public synchronized boolean isDone(String key) {
+        String value = load().getProperty(key);
+        return value != null && value.startsWith(DONE);
+    }
+
+    /**
+     * @Method 설명 : 단위 적용 완료 기록 (즉시 디스크 반영)
+     * @param key BatchUnit.key()
+     */
+    public synchronized void markDone(String key) {
+        load().setProperty(key, DONE + "|" + LocalDateTime.now());
+        save();
+    }
+
+    /**
+     * @Method 설명 : 적용 중인 단위에서 이미 커밋된 row 수 (없거나 완료된 단위면 0)
+     * @param key BatchUnit.key()
+     */
+    public synchronized int getCommittedRows(String key) {
+        String value = load().getProperty(key);
+        if (value == null || !value.startsWith(ROWS + "|")) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.substring(ROWS.length() + 1));
+        } catch (NumberFormatException e) {
+            log.warn("배치 체크포인트 값 오류 - 처음부터 재처리: {}={}", key, value);
+            return 0;
+        }
+    }
+
+    /**
+     * @Method 설명 : 단위 적용 중 커밋된 누적 row 수 기록 (즉시 디스크 반영)
+     * @param key  BatchUnit.key()
+     * @param rows 누적 커밋 건수
+     */
+    public synchronized void markCommitted(String key, int rows) {
+        load().setProperty(key, ROWS + "|" + rows);
+        save();
+    }
+
+    private Properties load() {
+        if (state != null) {
+            return state;
+        }
+        state = new Properties();
+        Path file = checkpointFile();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                state.load(in);
+                log.info("배치 체크포인트 로딩 - {}건 ({})", state.size(), file);
+            } catch (IOException e) {
+                throw new IllegalStateException("배치 체크포인트 읽기 실패: " + file, e);
+            }
+        }
+        return state;
+    }
+
+    private void save() {
+        Path file = checkpointFile();
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                state.store(out, "address batch checkpoint");
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("배치 체크포인트 저장 실패: " + file, e);
+        }
+    }
+
+    private Path checkpointFile() {
+        String configured = properties.getPath().getCheckpointFile();
+        if (configured != null && !configured.isEmpty()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(properties.getPath().getExtractDir(), DEFAULT_FILE_NAME);
+    }
+}
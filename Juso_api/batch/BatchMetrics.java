@@ -0,0 +1,113 @@
+package com.addressApi.batch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : BatchMetrics.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 일배치 단계별 Micrometer 지표 (Actuator /actuator/prometheus 로 노출)
+ *  - juso.batch.zip.decompress   : ZIP 엔트리 압축 해제 시간 (mode=stream|disk, entry=엔트리 접미사)
+ *  - juso.batch.zip.bytes        : 압축 해제된 바이트 수
+ *  - juso.batch.rows.parsed      : Reader별 파싱 성공 row 수 (reader)
+ *  - juso.batch.rows.rejected    : Reader별 검증 실패 row 수 (reader, reason) - RejectedRowSink 종료 시 합산 기록
+ *  - juso.batch.rows.inserted    : Writer 적재 row 수 (stage, strategy) - rate()로 초당 적재 건수 확인
+ *  - juso.batch.insert           : Writer 1회(단위 1개) 적재 시간 (stage, strategy)
+ *  - juso.batch.insert.rate      : 마지막 적재의 초당 row 수 (stage)
+ *  - juso.batch.reflect          : 반영 프로시저 실행 시간 (trigger, status)
+ * Counter/Timer는 태그 조합별로 레지스트리에 한 번만 등록되고 이후 조회만 하므로 row 단위 호출도 부담이 작음
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, AtomicLong> insertRates = new ConcurrentHashMap<>();
+
+    /**
+     * @Method 설명 : ZIP 엔트리 압축 해제 시간/바이트 기록
+     * @param mode  stream(디스크 미사용 스트리밍) | disk(extractDir에 추출)
+     * @param entry 엔트리 접미사 (예: _mst.txt)
+     */
+    public void recordDecompress(String mode, String entry, long nanos, long bytes) {
+        Timer.builder("juso.batch.zip.decompress")
+                .description("ZIP entry decompress time")
+                .tags("mode", mode, "entry", entry)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("juso.batch.zip.bytes")
+                .baseUnit("bytes")
+                .tags("mode", mode, "entry", entry)
+                .register(registry)
+                .increment(bytes);
+    }
+
+    /**
+     * @Method 설명 : Reader 1회 호출의 파싱 성공 row 수 기록
+     */
+    public void rowsParsed(String reader, long rows) {
+        Counter.builder("juso.batch.rows.parsed")
+                .tag("reader", reader)
+                .register(registry)
+                .increment(rows);
+    }
+
+    /**
+     * @Method 설명 : 사유별 검증 실패 row 수 기록
+     * @param reason RejectedRowSink.Reason (BLANK_LINE / FIELD_COUNT / REQUIRED_FIELD)
+     */
+    public void rowsRejected(String reader, String reason, long rows) {
+        Counter.builder("juso.batch.rows.rejected")
+                .tags("reader", reader, "reason", reason)
+                .register(registry)
+                .increment(rows);
+    }
+
+    /**
+     * @Method 설명 : Writer 적재 결과 기록 (적재 건수, 소요 시간, 마지막 초당 적재 건수)
+     */
+    public void recordInsert(String stage, String strategy, long rows, long nanos) {
+        Counter.builder("juso.batch.rows.inserted")
+                .tags("stage", stage, "strategy", strategy)
+                .register(registry)
+                .increment(rows);
+        Timer.builder("juso.batch.insert")
+                .tags("stage", stage, "strategy", strategy)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        AtomicLong rate = insertRates.computeIfAbsent(stage, s -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("juso.batch.insert.rate", value, AtomicLong::get)
+                    .description("rows per second of the last insert run")
+                    .tag("stage", s)
+                    .register(registry);
+            return value;
+        });
+        rate.set(rows * 1_000_000_000L / Math.max(1, nanos));
+    }
+
+    /**
+     * @Method 설명 : 반영 프로시저 실행 시간 기록
+     */
+    public void recordReflect(String trigger, String status, long elapsedMs) {
+        Timer.builder("juso.batch.reflect")
+                .description("reflect procedure duration")
+                .tags("trigger", trigger, "status", status)
+                .register(registry)
+                .record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,21 @@
+package com.addressApi.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : BatchStage.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 일배치 처리 단계 (ZIP 파일명 필터 = enum 이름)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BatchStage {
+    JUSUKR("_mst.txt", "도로명주소한글"),
+    JUSDG("_dong.txt", "상세주소동표시");
+
+    private final String entrySuffix;	// ZIP 내부 엔트리 접미사
+    private final String description;
+}
@@ -0,0 +1,32 @@
+package com.addressApi.batch;
+
+import java.io.File;
+import java.time.LocalDate;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : BatchUnit.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 일배치 적용 단위 (날짜 폴더 x 단계 x ZIP 파일 1개)
+ * key()는 체크포인트 식별자로 사용 (예: 250901/JUSUKR/20250901_JUSUKR.zip)
+ */
+@Getter
+@RequiredArgsConstructor
+public class BatchUnit {
+    private final LocalDate date;		// 날짜 폴더 기준일자
+    private final BatchStage stage;
+    private final File zipFile;
+
+    public String key() {
+        return zipFile.getParentFile().getName() + "/" + stage.name() + "/" + zipFile.getName();
+    }
+
+    @Override
+    public String toString() {
+        return key();
+    }
+}
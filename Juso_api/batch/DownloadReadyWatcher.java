@@ -0,0 +1,147 @@
+package com.addressApi.batch;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : DownloadReadyWatcher.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 다운로드 폴더(zipDir) 감시 - 준비 완료 마커가 생기면 주소 일배치(addressChangeJob)를 즉시 실행
+ * 수집기(Juso_fetcher)는 날짜 폴더의 ZIP을 모두 받아 검증한 뒤 마커(ready.marker-file)를 원자적으로 생성
+ * zipDir에 새 날짜 폴더가 생기면 자동으로 감시 대상에 추가하고, 마커 이벤트는 debounce-ms 동안 모아 1회만 실행
+ * cron 스케줄은 그대로 유지되므로 감시가 실패해도 기존 시간에 일배치가 실행됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DownloadReadyWatcher implements InitializingBean, DisposableBean {
+
+    private static final JobKey ADDRESS_CHANGE_JOB = JobKey.jobKey("addressChangeJob");
+
+    private final AddressChangeProperties properties;
+    private final Scheduler scheduler;
+
+    private WatchService watchService;
+    private Thread worker;
+    private final Map<WatchKey, Path> watched = new HashMap<>();
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        AddressChangeProperties.Ready ready = properties.getReady();
+        if (!ready.isWatch()) {
+            return;
+        }
+
+        Path root = Paths.get(properties.getPath().getZipDir());
+        Files.createDirectories(root);
+        watchService = FileSystems.getDefault().newWatchService();
+        register(root);
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.filter(this::isDateDir).forEach(this::register);
+        }
+
+        worker = new Thread(() -> watchLoop(root, ready), "download-ready-watcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("다운로드 준비 완료 마커 감시 시작: {} (marker={})", root, ready.getMarkerFile());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (watchService != null) {
+            watchService.close();	// poll 대기 중인 감시 스레드 종료
+        }
+    }
+
+    private void watchLoop(Path root, AddressChangeProperties.Ready ready) {
+        TreeSet<String> readyDates = new TreeSet<>();
+        long lastEventAt = 0;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.poll(Math.max(100, ready.getDebounceMs()), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    Path dir = watched.get(key);
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (dir == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            continue;
+                        }
+                        Path child = dir.resolve((Path) event.context());
+
+                        if (dir.equals(root) && isDateDir(child)) {
+                            // 새 날짜 폴더 - 등록 전에 마커가 이미 생겼을 수 있으므로 함께 확인
+                            register(child);
+                            if (Files.exists(child.resolve(ready.getMarkerFile()))) {
+                                readyDates.add(child.getFileName().toString());
+                                lastEventAt = System.currentTimeMillis();
+                            }
+                        } else if (child.getFileName().toString().equals(ready.getMarkerFile())) {
+                            readyDates.add(dir.getFileName().toString());
+                            lastEventAt = System.currentTimeMillis();
+                        }
+                    }
+                    if (!key.reset()) {
+                        watched.remove(key);
+                    }
+                }
+
+                if (!readyDates.isEmpty() && System.currentTimeMillis() - lastEventAt >= ready.getDebounceMs()) {
+                    trigger(readyDates);
+                    readyDates.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 종료
+        }
+        log.info("다운로드 준비 완료 마커 감시 종료");
+    }
+
+    private void trigger(TreeSet<String> readyDates) {
+        try {
+            log.info("준비 완료 마커 감지 {} - 주소 일배치 즉시 실행 요청", readyDates);
+            scheduler.triggerJob(ADDRESS_CHANGE_JOB);	// 실행 중이면 끝난 뒤 실행 (@DisallowConcurrentExecution)
+        } catch (SchedulerException e) {
+            log.error("주소 일배치 실행 요청 실패 (cron 스케줄로 대체): {}", e.getMessage(), e);
+        }
+    }
+
+    private void register(Path dir) {
+        try {
+            WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watched.put(key, dir);
+        } catch (IOException e) {
+            log.warn("감시 등록 실패: {} - {}", dir, e.getMessage());
+        }
+    }
+
+    private boolean isDateDir(Path path) {
+        return Files.isDirectory(path) && path.getFileName().toString().matches("\\d{6}");
+    }
+}
@@ -0,0 +1,218 @@
+package com.addressApi.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : MappedChunkParser.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 압축 해제된 대용량 텍스트 파일을 메모리 매핑(FileChannel.map) 후 줄 경계 기준 청크로 나누어 병렬 파싱
+ * 청크는 분할 시 1회만 매핑하고, 줄 번호 계산과 파싱 모두 같은 매핑 버퍼를 사용 (청크를 힙 byte[]로 복사하지 않음)
+ * 1단계 : 청크별 개행 수를 병렬로 세어 각 청크 첫 줄의 파일 기준 줄 번호를 계산 (경고 로그의 줄 번호 유지)
+ * 2단계 : ForkJoinPool에서 청크별로 PipeDelimitedTokenizer + mapper를 실행하여 row 배치 생성 (매핑 버퍼에서 한 줄씩 분해)
+ * 순서 보장(ordered=true) 시 청크 순서대로, 아니면 완료되는 순서대로 sink에 전달하며
+ * 동시에 처리 중인 청크 수를 parallelism x 2로 제한하여 메모리 사용량을 고정
+ */
+@Slf4j
+public final class MappedChunkParser {
+
+    private static final long MAX_CHUNK_BYTES = 1L << 30;	// 청크 목표 크기 상한 (FileChannel.map은 int 범위까지만 매핑)
+
+    private MappedChunkParser() {
+    }
+
+    private static final class Chunk {
+        final int index;
+        final long offset;
+        final int length;
+        MappedByteBuffer mapped;	// 파싱 완료 후 null (매핑 해제는 GC에 맡김)
+        int firstLineNo;
+
+        Chunk(int index, long offset, int length, MappedByteBuffer mapped) {
+            this.index = index;
+            this.offset = offset;
+            this.length = length;
+            this.mapped = mapped;
+        }
+    }
+
+    /**
+     * @Method 설명 : 파일을 청크 단위로 병렬 파싱하여 row 배치를 sink로 전달
+     * @param file        대상 텍스트 파일
+     * @param chunkBytes  청크 목표 크기 (byte, 실제 경계는 다음 개행까지 확장, 최대 1GB)
+     * @param parallelism 파싱 스레드 수
+     * @param ordered     true면 파일 순서대로 배치 전달
+     * @param mapper      줄 -> row 변환 (null 반환 시 제외), 여러 스레드에서 동시에 호출됨
+     * @param sink        row 배치 소비자 (호출 스레드에서만 호출됨)
+     * @return 전달한 row 건수
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public static <T> int parse(File file, long chunkBytes, int parallelism, boolean ordered,
+                                Function<PipeDelimitedTokenizer, T> mapper, Consumer<List<T>> sink) throws IOException {
+        if (chunkBytes <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("chunkBytes, parallelism은 1 이상이어야 합니다.");
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            List<Chunk> chunks = split(channel, chunkBytes);
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+            try {
+                assignLineNumbers(pool, chunks);
+
+                // 비순서 모드만 CompletionService 사용 (순서 모드는 deque만 유지하여 전달한 배치가 바로 GC 대상이 되도록 함)
+                CompletionService<List<T>> completion = ordered ? null : new ExecutorCompletionService<>(pool);
+                Deque<Future<List<T>>> inFlight = new ArrayDeque<>();
+                int maxInFlight = parallelism * 2;
+                int next = 0;
+                int count = 0;
+
+                while (next < chunks.size() || !inFlight.isEmpty()) {
+                    while (next < chunks.size() && inFlight.size() < maxInFlight) {
+                        Chunk chunk = chunks.get(next++);
+                        Callable<List<T>> task = () -> parseChunk(chunk, mapper);
+                        inFlight.addLast(ordered ? pool.submit(task) : completion.submit(task));
+                    }
+
+                    Future<List<T>> done;
+                    if (ordered) {
+                        done = inFlight.pollFirst();
+                    } else {
+                        done = completion.take();
+                        inFlight.remove(done);
+                    }
+                    List<T> batch = await(done);
+                    count += batch.size();
+                    sink.accept(batch);
+                }
+
+                log.info("[{}] 병렬 파싱 완료 - 청크 {}개, 스레드 {}개, 총 {}건", file.getName(), chunks.size(), parallelism, count);
+                return count;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("병렬 파싱 중 인터럽트: " + file, e);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 목표 크기 근처의 다음 개행 직후를 청크 경계로 사용하여 모든 청크가 줄 단위로 시작/종료되도록 분할
+     */
+    private static List<Chunk> split(FileChannel channel, long chunkBytes) throws IOException {
+        long size = channel.size();
+        long target = Math.min(chunkBytes, MAX_CHUNK_BYTES);
+        List<Chunk> chunks = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(start + target, size);
+            while (end < size) {
+                probe.clear();
+                int n = channel.read(probe, end);
+                if (n <= 0) {
+                    end = size;
+                    break;
+                }
+                int nl = -1;
+                for (int i = 0; i < n; i++) {
+                    if (probe.get(i) == '\n') {
+                        nl = i;
+                        break;
+                    }
+                }
+                if (nl >= 0) {
+                    end += nl + 1;
+                    break;
+                }
+                end += n;
+            }
+            end = Math.min(end, size);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("한 줄이 너무 길어 청크를 나눌 수 없습니다 (offset=" + start + ")");
+            }
+            int length = (int) (end - start);
+            chunks.add(new Chunk(chunks.size(), start, length, channel.map(FileChannel.MapMode.READ_ONLY, start, length)));
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static void assignLineNumbers(ForkJoinPool pool, List<Chunk> chunks) throws InterruptedException, IOException {
+        List<Future<Integer>> counts = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            counts.add(pool.submit(() -> countLines(chunk)));
+        }
+        int lineNo = 1;
+        for (int i = 0; i < chunks.size(); i++) {
+            chunks.get(i).firstLineNo = lineNo;
+            lineNo += await(counts.get(i));
+        }
+    }
+
+    private static int countLines(Chunk chunk) {
+        MappedByteBuffer mapped = chunk.mapped;
+        int lines = 0;
+        for (int i = 0; i < chunk.length; i++) {
+            if (mapped.get(i) == '\n') {
+                lines++;
+            }
+        }
+        // 마지막 청크가 개행 없이 끝나는 경우 마지막 줄 포함
+        if (chunk.length > 0 && mapped.get(chunk.length - 1) != '\n') {
+            lines++;
+        }
+        return lines;
+    }
+
+    private static <T> List<T> parseChunk(Chunk chunk, Function<PipeDelimitedTokenizer, T> mapper) {
+        List<T> rows = new ArrayList<>();
+        new PipeDelimitedTokenizer().forEachLine(chunk.mapped, 0, chunk.length, chunk.firstLineNo, line -> {
+            T row = mapper.apply(line);
+            if (row != null) {
+                rows.add(row);
+            }
+        });
+        chunk.mapped = null;
+        return rows;
+    }
+
+    private static <V> V await(Future<V> future) throws InterruptedException, IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("청크 파싱 실패", cause);
+        }
+    }
+}
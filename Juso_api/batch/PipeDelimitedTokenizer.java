@@ -0,0 +1,317 @@
+package com.addressApi.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * @FileName  : PipeDelimitedTokenizer.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : MS949 '|' 구분자 텍스트 파일을 바이트 단위로 분해하는 토크나이저
+ * 줄 전체를 String으로 디코딩하거나 정규식 split을 사용하지 않고, 원본 바이트에서 '|'와 개행 위치만 기록
+ * 필수 필드 검증은 바이트 오프셋으로 수행하고, 실제로 저장되는 필드만 get() 호출 시점에 디코딩
+ *
+ * MS949의 2바이트 문자는 후행 바이트가 0x41 이상이므로 '|'(0x7C), '\n'(0x0A), 공백(0x20 이하)과 겹치지 않음
+ * 따라서 바이트 기준 분리/trim 결과는 String.split / String.trim 결과와 동일
+ * 내부 버퍼를 재사용하므로 인스턴스는 스레드별로 하나씩 사용
+ */
+public class PipeDelimitedTokenizer {
+
+    public static final Charset MS949 = Charset.forName("MS949");
+
+    private static final byte DELIMITER = '|';
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 한 줄이 분해될 때마다 호출되는 콜백 (tokenizer는 콜백 안에서만 유효)
+     */
+    @FunctionalInterface
+    public interface LineHandler {
+        void onLine(PipeDelimitedTokenizer line);
+    }
+
+    private byte[] buf;
+    private int lineStart;
+    private int lineEnd;
+    private int lineNo;
+
+    private int[] fieldStart = new int[32];
+    private int[] fieldEnd = new int[32];
+    private int fieldCount;
+
+    /**
+     * @Method 설명 : InputStream을 끝까지 읽으며 줄마다 handler 호출 (BufferedReader.readLine과 동일한 줄 구분)
+     * @param in      MS949 텍스트 스트림
+     * @param handler 줄 단위 콜백
+     * @return 읽은 줄 수
+     * @throws IOException 읽기 실패 시
+     */
+    public int forEachLine(InputStream in, LineHandler handler) throws IOException {
+        byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        int filled = 0;
+        int lines = 0;
+        int n;
+
+        while ((n = in.read(buffer, filled, buffer.length - filled)) != -1) {
+            filled += n;
+
+            int start = 0;
+            for (int i = indexOfNewline(buffer, start, filled); i >= 0; i = indexOfNewline(buffer, start, filled)) {
+                tokenize(buffer, start, i, ++lines);
+                handler.onLine(this);
+                start = i + 1;
+            }
+
+            // 미완성 줄은 버퍼 앞으로 당기고, 한 줄이 버퍼보다 길면 버퍼 확장
+            int remain = filled - start;
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, remain);
+            } else if (remain == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            filled = remain;
+        }
+
+        if (filled > 0) {
+            tokenize(buffer, 0, filled, ++lines);	// 마지막 줄 (개행 없음)
+            handler.onLine(this);
+        }
+        return lines;
+    }
+
+    /**
+     * @Method 설명 : 메모리 상의 바이트 구간 [from, to)를 줄 단위로 분해하며 handler 호출
+     * @param buffer      원본 바이트
+     * @param from        시작 오프셋 (줄 시작이어야 함)
+     * @param to          종료 오프셋 (exclusive)
+     * @param firstLineNo 구간 첫 줄의 파일 기준 줄 번호
+     * @param handler     줄 단위 콜백
+     * @return 처리한 줄 수
+     */
+    public int forEachLine(byte[] buffer, int from, int to, int firstLineNo, LineHandler handler) {
+        int lines = 0;
+        int start = from;
+        while (start < to) {
+            int nl = indexOfNewline(buffer, start, to);
+            int end = nl < 0 ? to : nl;
+            tokenize(buffer, start, end, firstLineNo + lines++);
+            handler.onLine(this);
+            start = end + 1;
+        }
+        return lines;
+    }
+
+    /**
+     * @Method 설명 : 메모리 매핑 버퍼의 구간 [from, to)를 줄 단위로 분해하며 handler 호출
+     * 구간 전체를 힙으로 복사하지 않고, 매핑 버퍼에서 개행을 찾아 한 줄씩 재사용 버퍼로 옮긴 뒤 분해
+     * 버퍼의 position/limit은 변경하지 않으므로 여러 스레드가 같은 매핑 버퍼를 구간별로 읽어도 됨
+     * @param buffer      원본 바이트 (MappedByteBuffer 등)
+     * @param from        시작 오프셋 (줄 시작이어야 함)
+     * @param to          종료 오프셋 (exclusive)
+     * @param firstLineNo 구간 첫 줄의 파일 기준 줄 번호
+     * @param handler     줄 단위 콜백
+     * @return 처리한 줄 수
+     */
+    public int forEachLine(ByteBuffer buffer, int from, int to, int firstLineNo, LineHandler handler) {
+        byte[] line = new byte[1024];
+        int lines = 0;
+        int start = from;
+        while (start < to) {
+            int end = start;
+            while (end < to && buffer.get(end) != '\n') {
+                end++;
+            }
+            int length = end - start;
+            if (length > line.length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            buffer.get(start, line, 0, length);
+            tokenize(line, 0, length, firstLineNo + lines++);
+            handler.onLine(this);
+            start = end + 1;
+        }
+        return lines;
+    }
+
+    /**
+     * @Method 설명 : 한 줄 [start, end)의 필드 경계를 기록 (끝의 '\r'은 제외)
+     */
+    public void tokenize(byte[] buffer, int start, int end, int lineNo) {
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        this.buf = buffer;
+        this.lineStart = start;
+        this.lineEnd = end;
+        this.lineNo = lineNo;
+
+        int count = 0;
+        int fs = start;
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == DELIMITER) {
+                addField(count++, fs, i);
+                fs = i + 1;
+            }
+        }
+        addField(count++, fs, end);	// split(-1)과 동일하게 마지막 빈 필드도 유지
+        this.fieldCount = count;
+    }
+
+    private void addField(int index, int start, int end) {
+        if (index == fieldStart.length) {
+            fieldStart = Arrays.copyOf(fieldStart, index * 2);
+            fieldEnd = Arrays.copyOf(fieldEnd, index * 2);
+        }
+        // trim (0x20 이하 제거)
+        while (start < end && (buf[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buf[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        fieldStart[index] = start;
+        fieldEnd[index] = end;
+    }
+
+    private static int indexOfNewline(byte[] buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    public int lineNo() {
+        return lineNo;
+    }
+
+    /**
+     * @Method 설명 : trim 후 빈 필드 여부 (디코딩 없음, 범위 밖 인덱스도 빈 값으로 간주)
+     */
+    public boolean isBlank(int index) {
+        return index >= fieldCount || fieldStart[index] == fieldEnd[index];
+    }
+
+    /**
+     * @Method 설명 : trim 후 필드 바이트 길이 (빈 값이면 0)
+     */
+    public int length(int index) {
+        return isBlank(index) ? 0 : fieldEnd[index] - fieldStart[index];
+    }
+
+    /**
+     * @Method 설명 : trim 후 필드가 ASCII 숫자로만 구성되었는지 여부 (빈 값이면 false)
+     */
+    public boolean isDigits(int index) {
+        if (isBlank(index)) {
+            return false;
+        }
+        for (int i = fieldStart[index], end = fieldEnd[index]; i < end; i++) {
+            if (buf[i] < '0' || buf[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Method 설명 : 숫자 필드의 [from, to) 자리를 디코딩 없이 long으로 변환 (isDigits 확인 후, 18자리 이하 구간만)
+     */
+    public long digits(int index, int from, int to) {
+        long value = 0;
+        for (int i = fieldStart[index] + from, end = fieldStart[index] + to; i < end; i++) {
+            value = value * 10 + (buf[i] - '0');
+        }
+        return value;
+    }
+
+    /**
+     * @Method 설명 : trim 후 필드 바이트의 해시 (디코딩 없음, Arrays.hashCode(bytes(index))와 동일)
+     */
+    public int hash(int index) {
+        int h = 1;
+        if (!isBlank(index)) {
+            for (int i = fieldStart[index], end = fieldEnd[index]; i < end; i++) {
+                h = 31 * h + buf[i];
+            }
+        }
+        return h;
+    }
+
+    /**
+     * @Method 설명 : trim 후 필드 바이트가 other와 같은지 여부 (디코딩 없음)
+     */
+    public boolean contentEquals(int index, byte[] other) {
+        if (length(index) != other.length) {
+            return false;
+        }
+        for (int i = 0, start = fieldStart[index]; i < other.length; i++) {
+            if (buf[start + i] != other[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Method 설명 : trim 후 필드 원본 바이트 복사본 (빈 값이면 길이 0)
+     */
+    public byte[] bytes(int index) {
+        return isBlank(index) ? new byte[0] : Arrays.copyOfRange(buf, fieldStart[index], fieldEnd[index]);
+    }
+
+    /**
+     * @Method 설명 : trim 후 필드를 디코딩하여 반환 (빈 값이면 null)
+     * 전부 ASCII인 필드(코드/번호류)는 문자셋 디코더를 거치지 않고 바로 생성
+     */
+    public String get(int index) {
+        if (isBlank(index)) {
+            return null;
+        }
+        int start = fieldStart[index];
+        int len = fieldEnd[index] - start;
+        for (int i = start, end = start + len; i < end; i++) {
+            if (buf[i] < 0) {
+                return new String(buf, start, len, MS949);
+            }
+        }
+        return new String(buf, start, len, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @Method 설명 : 빈 줄(공백/개행만 있는 줄 포함) 여부
+     */
+    public boolean isBlankLine() {
+        for (int i = lineStart; i < lineEnd; i++) {
+            if ((buf[i] & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Method 설명 : 현재 줄 원본 바이트를 디코딩 없이 출력 (reject 파일 기록용, 끝의 '\r' 제외)
+     */
+    public void writeRaw(OutputStream out) throws IOException {
+        out.write(buf, lineStart, lineEnd - lineStart);
+    }
+
+    /**
+     * @Method 설명 : 경고 로그용 원본 줄 디코딩 (정상 row 경로에서는 호출하지 않음)
+     */
+    public String line() {
+        return new String(buf, lineStart, lineEnd - lineStart, MS949);
+    }
+}
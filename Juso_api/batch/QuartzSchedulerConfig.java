@@ -58,4 +58,36 @@ public class QuartzSchedulerConfig {
                 .withSchedule(CronScheduleBuilder.cronSchedule(properties.getSchedule().getCron()))
                 .build();
     }
+
+    /**
+     * @Method 설명 : 반영 프로시저 단독 실행 JobDetail 설정
+     * @return JobDetail 객체 (AddressReflectQuartzJob 등록)
+     */
+    @Bean
+    JobDetail addressReflectJobDetail() {
+        return JobBuilder.newJob(AddressReflectQuartzJob.class)
+                .withIdentity("addressReflectJob")
+                .storeDurably()
+                .build();
+    }
+
+    /**
+     * @Method 설명 : 반영 프로시저 단독 실행 Trigger 설정 (address-change.reflect.cron 설정 시에만 등록)
+     * @return Trigger 객체
+     */
+    @Bean
+    Trigger addressReflectTrigger() {
+        String cron = properties.getReflect().getCron();
+        if (cron == null || cron.isEmpty()) {
+            log.info("addressReflectTrigger 등록되지 않음 (reflect.cron 미설정)");
+            return null;
+        }
+        log.info("addressReflectTrigger 등록됨 -> cron: {}", cron);
+
+        return TriggerBuilder.newTrigger()
+                .forJob(addressReflectJobDetail())
+                .withIdentity("addressReflectTrigger")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.addressApi.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : RejectedRowSink.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : Reader 검증 실패 row 기록기 (줄마다 WARN 로그를 남기던 방식 대체)
+ * Reader 호출 1회(원본 파일 1개)마다 Run을 열고, 실패 row는 버퍼 출력으로 reject 파일에 기록
+ *  - 파일 위치 : {reject.dir}/yyyyMMdd/{reader}-HHmmssSSS-{순번}.rej (실패 row가 있을 때만 생성)
+ *  - 한 줄 형식 : 줄번호 \t 사유코드 \t 필드수 \t 원본 바이트(MS949, 개행 제외)
+ * 로그는 Run당 앞의 reject.max-log-lines건만 WARN으로 남기고, 종료 시 사유별 건수를 한 줄로 요약
+ * 병렬 파싱 시 여러 스레드에서 동시에 호출되므로 기록은 Run 단위로 동기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RejectedRowSink {
+
+    private static final DateTimeFormatter DATE_DIR = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmmssSSS");
+
+    private final AddressChangeProperties properties;
+    private final BatchMetrics metrics;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public enum Reason {
+        BLANK_LINE,		// 빈 줄
+        FIELD_COUNT,	// 필드 수 부족
+        REQUIRED_FIELD	// 필수 필드 누락
+    }
+
+    /**
+     * @Method 설명 : Reader 호출 1회분 기록 시작
+     * @param reader Reader 구분 (JUSUKR / JUSDG)
+     */
+    public Run open(String reader) {
+        return new Run(reader);
+    }
+
+    private Path rejectDir() {
+        AddressChangeProperties.Reject reject = properties.getReject();
+        if (reject.getDir() != null && !reject.getDir().isBlank()) {
+            return Paths.get(reject.getDir());
+        }
+        AddressChangeProperties.Path path = properties.getPath();
+        if (path != null && path.getExtractDir() != null) {
+            return Paths.get(path.getExtractDir(), "rejects");
+        }
+        return Paths.get("rejects");
+    }
+
+    /**
+     * Reader 호출 1회분 reject 기록 (close 시 파일 닫기 + 요약 로그 + 지표 기록)
+     */
+    public final class Run implements AutoCloseable {
+        private final String reader;
+        private final Map<Reason, Long> counts = new EnumMap<>(Reason.class);
+        private final int maxLogLines;
+
+        private Path file;
+        private OutputStream out;
+        private boolean openFailed;
+        private long total;
+
+        private Run(String reader) {
+            this.reader = reader;
+            this.maxLogLines = Math.max(0, properties.getReject().getMaxLogLines());
+        }
+
+        /**
+         * @Method 설명 : 실패 row 1건 기록 (tokenizer의 현재 줄)
+         */
+        public synchronized void reject(PipeDelimitedTokenizer line, Reason reason) {
+            counts.merge(reason, 1L, Long::sum);
+            total++;
+
+            if (total <= maxLogLines) {
+                log.warn("[{}] {}번째 줄 SKIP ({}, 필드 {}개): {}", reader, line.lineNo(), reason, line.fieldCount(), line.line());
+                if (total == maxLogLines) {
+                    log.warn("[{}] 실패 row 로그 {}건 도달 - 이후는 reject 파일에만 기록", reader, maxLogLines);
+                }
+            }
+            write(line, reason);
+        }
+
+        private void write(PipeDelimitedTokenizer line, Reason reason) {
+            if (openFailed || !properties.getReject().isFileEnabled()) {
+                return;
+            }
+            try {
+                if (out == null) {
+                    LocalDateTime now = LocalDateTime.now();
+                    Path dir = rejectDir().resolve(now.format(DATE_DIR));
+                    Files.createDirectories(dir);
+                    file = dir.resolve(reader + "-" + now.format(TIME) + "-" + sequence.incrementAndGet() + ".rej");
+                    out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+                }
+                out.write((line.lineNo() + "\t" + reason + "\t" + line.fieldCount() + "\t").getBytes(StandardCharsets.US_ASCII));
+                line.writeRaw(out);
+                out.write('\n');
+            } catch (IOException e) {
+                openFailed = true;	// 이후 기록 생략 (배치는 계속 진행)
+                log.error("[{}] reject 파일 기록 실패 - 이후 건수만 집계: {}", reader, e.getMessage());
+            }
+        }
+
+        public synchronized long getTotal() {
+            return total;
+        }
+
+        public synchronized Map<Reason, Long> getCounts() {
+            return new EnumMap<>(counts);
+        }
+
+        @Override
+        public synchronized void close() {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    log.error("[{}] reject 파일 닫기 실패: {}", reader, e.getMessage());
+                }
+                out = null;
+            }
+            if (total == 0) {
+                return;
+            }
+            counts.forEach((reason, count) -> metrics.rowsRejected(reader, reason.name(), count));
+            log.warn("[{}] 검증 실패 row 총 {}건 {} - reject 파일: {}", reader, total, counts, file != null ? file : "(미기록)");
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.addressApi.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : StreamingRowPipe.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 파일 파싱(생산자)과 DB 적재(소비자)를 겹쳐서 실행하기 위한 청크 단위 파이프
+ * 생산자 스레드가 row를 chunkSize 단위로 묶어 bounded queue에 적재하고, 소비자는 Iterator로 꺼내 사용
+ * 큐가 가득 차면 생산자가 대기하므로 파일 크기와 무관하게 메모리 사용량은 (chunkSize x queueCapacity)건으로 고정됨
+ */
+@Slf4j
+public class StreamingRowPipe<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * 파이프에 row를 밀어넣는 생산자 (예: sink -> fileReader.read(file, sink))
+     */
+    @FunctionalInterface
+    public interface RowProducer<T> {
+        void produce(Consumer<T> sink) throws Exception;
+    }
+
+    private final String name;
+    private final int chunkSize;
+    private final BlockingQueue<List<T>> queue;
+    private final List<T> endOfStream = new ArrayList<>(0);	// 종료 표식 (참조 비교)
+    private Thread producerThread;
+
+    private volatile Throwable failure;
+    private volatile boolean closed;
+
+    private List<T> current = Collections.emptyList();
+    private int cursor;
+    private boolean finished;
+
+    private StreamingRowPipe(String name, int chunkSize, int queueCapacity) {
+        if (chunkSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("chunkSize, queueCapacity는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * @Method 설명 : 생산자 스레드를 기동하고 소비용 파이프를 반환
+     * @param name          스레드/로그 식별명 (예: JUSUKR)
+     * @param chunkSize     청크당 row 수
+     * @param queueCapacity 대기 가능한 최대 청크 수
+     * @param producer      row 생산 로직
+     * @return 소비자가 순회할 파이프
+     */
+    public static <T> StreamingRowPipe<T> start(String name, int chunkSize, int queueCapacity, RowProducer<T> producer) {
+        StreamingRowPipe<T> pipe = new StreamingRowPipe<>(name, chunkSize, queueCapacity);
+        pipe.producerThread = new Thread(() -> pipe.runProducer(producer), "row-pipe-" + name);
+        pipe.producerThread.setDaemon(true);
+        pipe.producerThread.start();
+        return pipe;
+    }
+
+    private void runProducer(RowProducer<T> producer) {
+        List<T> buffer = new ArrayList<>(chunkSize);
+        try {
+            producer.produce(row -> {
+                if (closed) {
+                    throw new IllegalStateException("[" + name + "] 소비자가 파이프를 닫아 생산을 중단합니다.");
+                }
+                buffer.add(row);
+                if (buffer.size() >= chunkSize) {
+                    put(new ArrayList<>(buffer));
+                    buffer.clear();
+                }
+            });
+            if (!buffer.isEmpty()) {
+                put(new ArrayList<>(buffer));
+            }
+        } catch (Throwable t) {
+            if (!closed) {
+                log.error("[{}] 파이프 생산 중 예외: {}", name, t.getMessage());
+                failure = t;
+            }
+        } finally {
+            buffer.clear();
+            if (!closed) {
+                try {
+                    queue.put(endOfStream);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void put(List<T> chunk) {
+        try {
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[" + name + "] 파이프 적재 중 인터럽트", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (cursor >= current.size()) {
+            if (finished) {
+                return false;
+            }
+            List<T> chunk;
+            try {
+                chunk = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("[" + name + "] 파이프 대기 중 인터럽트", e);
+            }
+            if (chunk == endOfStream) {
+                finished = true;
+                current = Collections.emptyList();
+                cursor = 0;
+                if (failure != null) {
+                    throw new IllegalStateException("[" + name + "] 파일 파싱 실패: " + failure.getMessage(), failure);
+                }
+                return false;
+            }
+            current = chunk;
+            cursor = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T row = current.get(cursor);
+        current.set(cursor++, null);	// 소비한 row는 즉시 GC 대상이 되도록 해제
+        return row;
+    }
+
+    /**
+     * 소비자가 중간에 중단(예: DB 오류)한 경우에도 생산자 스레드를 정리
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (producerThread != null && producerThread.isAlive()) {
+            producerThread.interrupt();
+            queue.clear();
+            try {
+                producerThread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        queue.clear();
+    }
+}
@@ -0,0 +1,130 @@
+package com.addressApi.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * @FileName  : TempTableLayout.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : TEMP 테이블 컬럼 순서와 DTO getter 매핑 (JDBC 직접 적재용)
+ * 컬럼 순서는 원본 파일 항목 순서, 기본 컬럼명은 항목명이며 실제 TEMP 스키마와 이름이 다르면 설정으로 맞춤
+ *  - bulk.address-columns     : JUSUKR 기본 컬럼명 -> 실제 컬럼명
+ *  - bulk.dong-detail-columns : JUSDG 기본 컬럼명 -> 실제 컬럼명
+ * MYBATIS 전략은 매퍼(insertTempAddress / insertTempDongDetail)의 컬럼 구성을 따르므로 이 설정과 무관
+ */
+@Getter
+public class TempTableLayout<T> {
+
+    private final String table;
+    private final List<String> columns = new ArrayList<>();
+    private final List<Function<T, String>> getters = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> renamed;
+    @Getter(AccessLevel.NONE)
+    private final Set<String> defaults = new HashSet<>();
+
+    private TempTableLayout(String table, Map<String, String> renamed) {
+        this.table = table;
+        this.renamed = renamed;
+    }
+
+    private TempTableLayout<T> column(String name, Function<T, String> getter) {
+        defaults.add(name);
+        columns.add(renamed.getOrDefault(name, name));
+        getters.add(getter);
+        return this;
+    }
+
+    /**
+     * @Method 설명 : 컬럼명 설정에 기본 컬럼이 아닌 이름이 있으면 예외 (오타로 설정이 무시되는 것 방지)
+     */
+    private TempTableLayout<T> validate() {
+        for (String name : renamed.keySet()) {
+            if (!defaults.contains(name)) {
+                throw new IllegalStateException("TEMP 테이블(" + table + ") 컬럼 설정에 알 수 없는 기본 컬럼명: " + name + " (사용 가능: " + defaults + ")");
+            }
+        }
+        return this;
+    }
+
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * @Method 설명 : 도로명주소한글(JUSUKR) TEMP 테이블 레이아웃
+     */
+    public static TempTableLayout<AddressChangeRow> address(AddressChangeProperties.Bulk conf) {
+        return new TempTableLayout<AddressChangeRow>(conf.getAddressTable(), conf.getAddressColumns())
+                .column("ROAD_NM_CTL_NO", AddressChangeRow::getRoadNmCtlNo)
+                .column("LGDONG_OSDCD", AddressChangeRow::getLgdongOsdcd)
+                .column("SIDO_NM", AddressChangeRow::getSidoNm)
+                .column("SIGUNGU_NM", AddressChangeRow::getSigunguNm)
+                .column("EPMYNDN_NM", AddressChangeRow::getEpmyndnNm)
+                .column("RI_NM", AddressChangeRow::getRiNm)
+                .column("MUNTN_YN", AddressChangeRow::getMuntnYn)
+                .column("UPPER_HSNO", AddressChangeRow::getUpperHsno)
+                .column("SUB_HSNO", AddressChangeRow::getSubHsno)
+                .column("ROAD_NM_CD", AddressChangeRow::getRoadNmCd)
+                .column("ROAD_NM", AddressChangeRow::getRoadNm)
+                .column("UND_GRD_YN", AddressChangeRow::getUndGrdYn)
+                .column("BLD_UPPER_NO", AddressChangeRow::getBldUpperNo)
+                .column("BLD_SUB_NO", AddressChangeRow::getBldSubNo)
+                .column("ADDONG_OSDCD", AddressChangeRow::getAddongOsdcd)
+                .column("ADDONG_EPMYNDN_NM", AddressChangeRow::getAddongEpmyndnNm)
+                .column("ZIP_NO", AddressChangeRow::getZipNo)
+                .column("BEF_ROAD_NM_ADDR", AddressChangeRow::getBefRoadNmAddr)
+                .column("APPLY_BGN_DATE", AddressChangeRow::getApplyBgnDate)
+                .column("CMM_BLD_YN", AddressChangeRow::getCmmBldYn)
+                .column("MV_RSN_CD", AddressChangeRow::getMvRsnCd)
+                .column("INST_BLD_NM", AddressChangeRow::getInstBldNm)
+                .column("BLD_NM", AddressChangeRow::getBldNm)
+                .column("NOTE", AddressChangeRow::getNote)
+                .column("STD_DATE", AddressChangeRow::getStdDate)
+                .validate();
+    }
+
+    /**
+     * @Method 설명 : 도로명주소한글(JUSUKR) TEMP 테이블 레이아웃 - 컬럼형 배치(AddressChangeColumnBatch)에서 바로 바인딩
+     */
+    public static TempTableLayout<AddressChangeColumnBatch.Ref> addressColumnar(AddressChangeProperties.Bulk conf) {
+        List<String> names = address(conf).getColumns();	// 이름 변경 적용 후 컬럼명
+        List<Function<AddressChangeColumnBatch.Ref, String>> refGetters = AddressChangeColumnBatch.refGetters();
+        TempTableLayout<AddressChangeColumnBatch.Ref> layout = new TempTableLayout<>(conf.getAddressTable(), Map.of());
+        for (int i = 0; i < names.size(); i++) {
+            layout.column(names.get(i), refGetters.get(i));
+        }
+        return layout;
+    }
+
+    /**
+     * @Method 설명 : 상세주소동표시(JUSDG) TEMP 테이블 레이아웃
+     */
+    public static TempTableLayout<AddressDongDetailRow> dongDetail(AddressChangeProperties.Bulk conf) {
+        return new TempTableLayout<AddressDongDetailRow>(conf.getDongDetailTable(), conf.getDongDetailColumns())
+                .column("SIDO_CD", AddressDongDetailRow::getSidoCd)
+                .column("SIGUNGU_CD", AddressDongDetailRow::getSigunguCd)
+                .column("EMD_CD", AddressDongDetailRow::getEmdCd)
+                .column("RI_CD", AddressDongDetailRow::getRiCd)
+                .column("ADMIN_TYPE", AddressDongDetailRow::getAdminType)
+                .column("DONG_NM", AddressDongDetailRow::getDongNm)
+                .column("BLD_MAIN_NO", AddressDongDetailRow::getBldMainNo)
+                .column("BLD_SUB_NO", AddressDongDetailRow::getBldSubNo)
+                .column("DONG", AddressDongDetailRow::getDong)
+                .column("HO", AddressDongDetailRow::getHo)
+                .column("FLOOR_NO", AddressDongDetailRow::getFloorNo)
+                .column("NOTE", AddressDongDetailRow::getNote)
+                .column("STD_DATE", AddressDongDetailRow::getStdDate)
+                .validate();
+    }
+}
@@ -0,0 +1,39 @@
+package com.addressApi.batch;
+
+import java.sql.SQLException;
+
+/**
+ * @FileName  : TempTableLoader.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : TEMP 테이블 적재 전략 인터페이스 (AddressChangeWriter에서 사용)
+ * 트랜잭션(커밋/롤백)과 체크포인트는 Writer가 관리하고, 적재기는 row 버퍼링과 DB 전송만 담당
+ */
+public interface TempTableLoader<T> extends AutoCloseable {
+
+    /**
+     * 적재 방식 (address-change.bulk.strategy)
+     */
+    enum Strategy {
+        MYBATIS,		// 기존 매퍼 insert + ExecutorType.BATCH (기본값, 모든 DB)
+        JDBC_BATCH,		// 단일 PreparedStatement 파라미터 바인딩 + addBatch (매퍼 오버헤드 제거)
+        MULTI_ROW		// 다건 INSERT (VALUES (...),(...), Oracle은 SELECT ... FROM DUAL UNION ALL 형태)
+    }
+
+    /**
+     * @Method 설명 : row 1건 적재 요청 (전략에 따라 버퍼링)
+     */
+    void add(T row) throws SQLException;
+
+    /**
+     * @Method 설명 : 버퍼링된 row를 DB로 전송 (커밋 전 반드시 호출)
+     */
+    void flush() throws SQLException;
+
+    /**
+     * @Method 설명 : 적재기 자원 정리 (세션/커넥션은 닫지 않음)
+     */
+    @Override
+    void close();
+}
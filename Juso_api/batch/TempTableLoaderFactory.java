@@ -0,0 +1,225 @@
+package com.addressApi.batch;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.stereotype.Component;
+
+import com.addressApi.mapper.AddressChangeMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : TempTableLoaderFactory.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 설정(address-change.bulk.strategy)에 따라 TEMP 테이블 적재기를 생성
+ * JDBC 직접 적재 방식도 MyBatis 세션의 커넥션을 그대로 사용하므로 트랜잭션 경계는 Writer와 동일
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TempTableLoaderFactory {
+
+    private final AddressChangeProperties properties;
+
+    /**
+     * @Method 설명 : 적재기 생성
+     * @param session      Writer가 연 SqlSession (ExecutorType.BATCH, 수동 커밋)
+     * @param layout       JDBC 직접 적재 시 사용할 테이블/컬럼 매핑
+     * @param mapperInsert MYBATIS 전략에서 사용할 매퍼 insert 메서드
+     */
+    public <T> TempTableLoader<T> open(SqlSession session, TempTableLayout<T> layout,
+                                       BiConsumer<AddressChangeMapper, T> mapperInsert) throws SQLException {
+        AddressChangeProperties.Bulk bulk = properties.getBulk();
+        switch (bulk.getStrategy()) {
+            case JDBC_BATCH:
+                return new JdbcBatchLoader<>(session.getConnection(), layout);
+            case MULTI_ROW:
+                return new MultiRowInsertLoader<>(session.getConnection(), layout, Math.max(1, bulk.getRowsPerStatement()));
+            case MYBATIS:
+            default:
+                return new MyBatisLoader<>(session, mapperInsert);
+        }
+    }
+
+    /**
+     * 기존 방식 : 매퍼 insert를 BATCH 세션에 누적 후 flushStatements
+     */
+    private static final class MyBatisLoader<T> implements TempTableLoader<T> {
+        private final SqlSession session;
+        private final AddressChangeMapper mapper;
+        private final BiConsumer<AddressChangeMapper, T> insert;
+
+        private MyBatisLoader(SqlSession session, BiConsumer<AddressChangeMapper, T> insert) {
+            this.session = session;
+            this.mapper = session.getMapper(AddressChangeMapper.class);
+            this.insert = insert;
+        }
+
+        @Override
+        public void add(T row) {
+            insert.accept(mapper, row);
+        }
+
+        @Override
+        public void flush() {
+            session.flushStatements();
+        }
+
+        @Override
+        public void close() {
+            // 세션은 Writer가 닫음
+        }
+    }
+
+    /**
+     * 단일 row INSERT를 PreparedStatement.addBatch로 누적 (매퍼 파라미터 매핑 생략)
+     */
+    private static final class JdbcBatchLoader<T> implements TempTableLoader<T> {
+        private final PreparedStatement ps;
+        private final List<Function<T, String>> getters;
+
+        private JdbcBatchLoader(Connection connection, TempTableLayout<T> layout) throws SQLException {
+            this.ps = connection.prepareStatement(insertSql(layout, 1));
+            this.getters = layout.getGetters();
+        }
+
+        @Override
+        public void add(T row) throws SQLException {
+            bind(ps, 1, row, getters);
+            ps.addBatch();
+        }
+
+        @Override
+        public void flush() throws SQLException {
+            ps.executeBatch();
+        }
+
+        @Override
+        public void close() {
+            closeQuietly(ps);
+        }
+    }
+
+    /**
+     * rowsPerStatement건을 하나의 INSERT 문으로 묶어 전송
+     * Oracle은 다건 VALUES를 지원하지 않으므로 INSERT ... SELECT ... FROM DUAL UNION ALL ... 형태로 생성
+     * (INSERT ALL은 INTO 절 전체 컬럼 수가 999개로 제한되어 25개 컬럼 기준 39건을 넘을 수 없음)
+     * 가득 찬 문장은 addBatch로 누적하고, flush 시 남은 row는 잔여 건수 크기의 문장으로 전송
+     */
+    private static final class MultiRowInsertLoader<T> implements TempTableLoader<T> {
+        private final Connection connection;
+        private final TempTableLayout<T> layout;
+        private final int rowsPerStatement;
+        private final boolean oracle;
+        private final PreparedStatement fullStatement;
+        private final List<T> buffer;
+        private int batched;
+
+        private MultiRowInsertLoader(Connection connection, TempTableLayout<T> layout, int rowsPerStatement) throws SQLException {
+            this.connection = connection;
+            this.layout = layout;
+            this.rowsPerStatement = rowsPerStatement;
+            this.oracle = isOracle(connection);
+            this.fullStatement = connection.prepareStatement(multiRowSql(layout, rowsPerStatement, oracle));
+            this.buffer = new ArrayList<>(rowsPerStatement);
+        }
+
+        @Override
+        public void add(T row) throws SQLException {
+            buffer.add(row);
+            if (buffer.size() == rowsPerStatement) {
+                bindRows(fullStatement, buffer);
+                fullStatement.addBatch();
+                batched++;
+                buffer.clear();
+            }
+        }
+
+        @Override
+        public void flush() throws SQLException {
+            if (batched > 0) {
+                fullStatement.executeBatch();
+                batched = 0;
+            }
+            if (!buffer.isEmpty()) {
+                try (PreparedStatement rest = connection.prepareStatement(multiRowSql(layout, buffer.size(), oracle))) {
+                    bindRows(rest, buffer);
+                    rest.executeUpdate();
+                }
+                buffer.clear();
+            }
+        }
+
+        private void bindRows(PreparedStatement ps, List<T> rows) throws SQLException {
+            int index = 1;
+            for (T row : rows) {
+                index = bind(ps, index, row, layout.getGetters());
+            }
+        }
+
+        @Override
+        public void close() {
+            buffer.clear();
+            closeQuietly(fullStatement);
+        }
+    }
+
+    private static boolean isOracle(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("oracle");
+    }
+
+    private static <T> String insertSql(TempTableLayout<T> layout, int rows) {
+        return multiRowSql(layout, rows, false);
+    }
+
+    /**
+     * @Method 설명 : rows건 INSERT 문 생성
+     * 일반 : INSERT INTO t (c1,c2) VALUES (?,?),(?,?)
+     * Oracle : INSERT INTO t (c1,c2) SELECT ?,? FROM DUAL UNION ALL SELECT ?,? FROM DUAL
+     */
+    private static <T> String multiRowSql(TempTableLayout<T> layout, int rows, boolean oracle) {
+        List<String> columns = layout.getColumns();
+        StringBuilder params = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            params.append(i == 0 ? "?" : ",?");
+        }
+        String tuple = oracle ? "SELECT " + params + " FROM DUAL" : "(" + params + ")";
+        String separator = oracle ? " UNION ALL " : ",";
+
+        StringBuilder sql = new StringBuilder(64 + rows * (tuple.length() + separator.length()))
+                .append("INSERT INTO ").append(layout.getTable())
+                .append(" (").append(String.join(",", columns)).append(oracle ? ") " : ") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(separator);
+            }
+            sql.append(tuple);
+        }
+        return sql.toString();
+    }
+
+    private static <T> int bind(PreparedStatement ps, int index, T row, List<Function<T, String>> getters) throws SQLException {
+        for (Function<T, String> getter : getters) {
+            ps.setString(index++, getter.apply(row));
+        }
+        return index;
+    }
+
+    private static void closeQuietly(PreparedStatement ps) {
+        try {
+            ps.close();
+        } catch (SQLException e) {
+            log.warn("PreparedStatement 닫기 실패: {}", e.getMessage());
+        }
+    }
+}
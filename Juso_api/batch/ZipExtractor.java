@@ -1,16 +1,29 @@
 package com.addressApi.batch;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ZipExtractor {
 
+    private final BatchMetrics metrics;
+
     /**
      * ZIP 선택(파일명에 nameContains 포함) → ZIP 내부에서 entrySuffix로 끝나는 첫 파일만 추출
      * 예)
@@ -24,21 +37,20 @@ public class ZipExtractor {
      * @return              추출된 파일 객체
      */
     public File extractTextFile(String zipDir, String extractRoot, String nameContains, String entrySuffix) throws IOException {
-        if (nameContains == null || nameContains.isEmpty()) {
-            throw new IllegalArgumentException("nameContains는 필수입니다.");
-        }
-        if (entrySuffix == null || entrySuffix.isEmpty()) {
-            throw new IllegalArgumentException("entrySuffix는 필수입니다.");
-        }
-
-        File zipDirectory = new File(zipDir);
-        if (!zipDirectory.exists() || !zipDirectory.isDirectory()) {
-            throw new IllegalArgumentException("ZIP 디렉터리가 존재하지 않습니다: " + zipDir);
-        }
+        return extractTextFile(findZipFile(zipDir, nameContains, entrySuffix), extractRoot, entrySuffix);
+    }
 
+    /**
+     * 지정한 ZIP에서 entrySuffix로 끝나는 첫 파일만 extractRoot/날짜폴더 하위에 추출
+     *
+     * @param zipFile       대상 ZIP (상위 폴더명이 날짜, 예: 250901)
+     * @param extractRoot   압축해제 루트
+     * @param entrySuffix   ZIP 내부 엔트리 접미사(대소문자 무시)
+     * @return              추출된 파일 객체
+     */
+    public File extractTextFile(File zipFile, String extractRoot, String entrySuffix) throws IOException {
         // 날짜 폴더명 추출 (예: 250901)
-        String[] parts = zipDir.replace("\\", "/").split("/");
-        String datePart = parts[parts.length - 1];
+        String datePart = zipFile.getAbsoluteFile().getParentFile().getName();
 
         // 압축 해제 루트/날짜 하위 폴더 생성
         File targetDir = new File(extractRoot, datePart);
@@ -46,6 +58,59 @@ public class ZipExtractor {
             throw new IOException("압축 해제 대상 디렉토리 생성 실패: " + targetDir.getAbsolutePath());
         }
 
+        return extractFirstEntryBySuffix(zipFile, targetDir, entrySuffix);
+    }
+
+    /**
+     * ZIP 선택 후 entrySuffix로 끝나는 첫 엔트리를 디스크에 쓰지 않고 InputStream으로 반환
+     *
+     * @param zipDir        ZIP 파일들이 위치한 날짜 폴더
+     * @param nameContains  ZIP 파일명 필터(대소문자 무시)
+     * @param entrySuffix   ZIP 내부 엔트리 접미사(대소문자 무시)
+     * @return              압축 해제 스트림 (MS949 원본 바이트)
+     */
+    public InputStream openTextEntry(String zipDir, String nameContains, String entrySuffix) throws IOException {
+        return openTextEntry(findZipFile(zipDir, nameContains, entrySuffix), entrySuffix);
+    }
+
+    /**
+     * 지정한 ZIP에서 entrySuffix로 끝나는 첫 엔트리를 디스크에 쓰지 않고 InputStream으로 반환
+     * ZipFile(중앙 디렉터리 기반 임의 접근)로 엔트리를 바로 찾으므로 앞쪽 엔트리를 풀어가며 스캔하지 않음
+     * 반환된 스트림을 닫으면 ZIP 파일도 함께 닫힘
+     * 스트림을 넘기기 전에 엔트리 전체를 한 번 풀어 CRC32/크기를 중앙 디렉터리 값과 비교하므로,
+     * 손상되거나 잘린 ZIP은 row가 하나도 적재/반영되기 전에 ZipException으로 실패 (해당 단위는 적용 실패 처리)
+     * 반환된 스트림도 EOF에서 다시 비교 (검증 후 파일이 바뀐 경우)
+     *
+     * @param zipFile       대상 ZIP
+     * @param entrySuffix   ZIP 내부 엔트리 접미사(대소문자 무시)
+     * @return              압축 해제 스트림 (MS949 원본 바이트)
+     */
+    public InputStream openTextEntry(File zipFile, String entrySuffix) throws IOException {
+        ZipFile zip = new ZipFile(zipFile);
+        try {
+            ZipEntry entry = findEntryBySuffix(zip, entrySuffix);
+            verifyEntry(zip, entry, entrySuffix);
+            log.info("ZIP 엔트리 스트리밍: {}!{}", zipFile.getAbsolutePath(), entry.getName());
+            CrcVerifyingInputStream in = new CrcVerifyingInputStream(zip.getInputStream(entry), entry);
+            return new ZipEntryInputStream(zip, in, () -> metrics.recordDecompress("stream", entrySuffix, in.readNanos, in.size));
+        } catch (IOException | RuntimeException e) {
+            zip.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 날짜 폴더에서 파일명에 nameContains를 포함하는 ZIP 목록을 파일명 순으로 반환 (없으면 빈 목록)
+     *
+     * @param zipDirectory  날짜 폴더
+     * @param nameContains  ZIP 파일명 필터(대소문자 무시)
+     * @return              파일명 오름차순 ZIP 목록
+     */
+    public List<File> findZipFiles(File zipDirectory, String nameContains) {
+        if (nameContains == null || nameContains.isEmpty()) {
+            throw new IllegalArgumentException("nameContains는 필수입니다.");
+        }
+
         final String needle = nameContains.toLowerCase();
         File[] zipFiles = zipDirectory.listFiles((dir, name) -> {
             String lower = name.toLowerCase();
@@ -55,52 +120,185 @@ public class ZipExtractor {
             return lower.contains(needle);
         });
 
-        if (zipFiles == null || zipFiles.length == 0) {
+        if (zipFiles == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(zipFiles, Comparator.comparing(File::getName));
+        return Arrays.asList(zipFiles);
+    }
+
+    private File findZipFile(String zipDir, String nameContains, String entrySuffix) throws IOException {
+        if (entrySuffix == null || entrySuffix.isEmpty()) {
+            throw new IllegalArgumentException("entrySuffix는 필수입니다.");
+        }
+
+        File zipDirectory = new File(zipDir);
+        if (!zipDirectory.exists() || !zipDirectory.isDirectory()) {
+            throw new IllegalArgumentException("ZIP 디렉터리가 존재하지 않습니다: " + zipDir);
+        }
+
+        List<File> zipFiles = findZipFiles(zipDirectory, nameContains);
+        if (zipFiles.isEmpty()) {
             throw new FileNotFoundException("조건(nameContains=" + nameContains + ")에 맞는 .zip 파일이 없습니다: " + zipDir);
         }
 
-        // 여러 개면 첫 번째만 사용 (운영 정책 상 날짜/종류별 1개 가정)
-        File zipFile = zipFiles[0];
+        // 날짜 폴더 단위 호출 시에는 첫 번째만 사용 (여러 개는 findZipFiles로 개별 처리)
+        File zipFile = zipFiles.get(0);
         log.info("[{}] 압축 해제 대상 ZIP: {}", nameContains, zipFile.getAbsolutePath());
-
-        return extractFirstEntryBySuffix(zipFile, targetDir, entrySuffix);
+        return zipFile;
     }
 
     /**
-     * 단일 ZIP에서 entrySuffix로 끝나는 첫 파일만 추출
+     * 단일 ZIP에서 entrySuffix로 끝나는 첫 파일만 추출 (감사/디버그용 디스크 추출)
      */
     private File extractFirstEntryBySuffix(File zipFile, File targetDir, String entrySuffix) throws IOException {
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            ZipEntry entry = findEntryBySuffix(zip, entrySuffix);
+            File extractedFile = new File(targetDir, entry.getName());
+
+            // ZIP 내부에 폴더 경로가 포함될 수 있으므로 상위 폴더 생성
+            File parent = extractedFile.getParentFile();
+            if (!parent.exists() && !parent.mkdirs()) {
+                throw new IOException("하위 디렉토리 생성 실패: " + parent.getAbsolutePath());
+            }
+
+            long started = System.nanoTime();
+            long bytes;
+            try (InputStream in = new CrcVerifyingInputStream(zip.getInputStream(entry), entry)) {
+                bytes = Files.copy(in, extractedFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            metrics.recordDecompress("disk", entrySuffix, System.nanoTime() - started, bytes);
+
+            log.info("압축 해제 완료: {}", extractedFile.getAbsolutePath());
+            return extractedFile;
+        }
+    }
+
+    /**
+     * 엔트리 전체를 풀어 버리면서 CRC32/크기 검증 (스트리밍 적재 전 사전 검증, 디스크에는 쓰지 않음)
+     */
+    private void verifyEntry(ZipFile zip, ZipEntry entry, String entrySuffix) throws IOException {
+        long started = System.nanoTime();
+        byte[] buffer = new byte[64 * 1024];
+        long bytes = 0;
+        try (InputStream in = new CrcVerifyingInputStream(zip.getInputStream(entry), entry)) {
+            int n;
+            while ((n = in.read(buffer, 0, buffer.length)) >= 0) {
+                bytes += n;
+            }
+        }
+        metrics.recordDecompress("verify", entrySuffix, System.nanoTime() - started, bytes);
+    }
+
+    private ZipEntry findEntryBySuffix(ZipFile zip, String entrySuffix) throws FileNotFoundException {
         final String suffixLower = entrySuffix.toLowerCase();
 
-        try (ZipInputStream zis = new ZipInputStream(new FileInputStream(zipFile))) {
-            ZipEntry entry = zis.getNextEntry();
-
-            while (entry != null) {
-                String fileName = entry.getName();
-                if (fileName != null && fileName.toLowerCase().endsWith(suffixLower)) {
-                    File extractedFile = new File(targetDir, fileName);
-
-                    // ZIP 내부에 폴더 경로가 포함될 수 있으므로 상위 폴더 생성
-                    File parent = extractedFile.getParentFile();
-                    if (!parent.exists() && !parent.mkdirs()) {
-                        throw new IOException("하위 디렉토리 생성 실패: " + parent.getAbsolutePath());
-                    }
-
-                    try (FileOutputStream fos = new FileOutputStream(extractedFile)) {
-                        byte[] buffer = new byte[8192];
-                        int len;
-                        while ((len = zis.read(buffer)) > 0) {
-                            fos.write(buffer, 0, len);
-                        }
-                    }
-
-                    log.info("압축 해제 완료: {}", extractedFile.getAbsolutePath());
-                    return extractedFile;
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            String fileName = entry.getName();
+            if (!entry.isDirectory() && fileName != null && fileName.toLowerCase().endsWith(suffixLower)) {
+                return entry;
+            }
+        }
+
+        throw new FileNotFoundException("ZIP 내부에 '" + entrySuffix + "' 파일이 존재하지 않습니다. (" + new File(zip.getName()).getName() + ")");
+    }
+
+    /**
+     * 읽은 바이트의 CRC32/크기를 누적하여 EOF에서 중앙 디렉터리 값과 비교하는 래퍼 (잘리거나 손상된 ZIP 감지)
+     * 스트리밍 시 압축 해제 시간은 파싱과 섞이므로 하위 스트림 read 시간만 누적 (readNanos)
+     */
+    private static final class CrcVerifyingInputStream extends FilterInputStream {
+        private final ZipEntry entry;
+        private final CRC32 crc = new CRC32();
+        private long size;
+        private long readNanos;
+        private boolean verified;
+
+        private CrcVerifyingInputStream(InputStream in, ZipEntry entry) {
+            super(in);
+            this.entry = entry;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b < 0) {
+                verify();
+            } else {
+                crc.update(b);
+                size++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long started = System.nanoTime();
+            int n = super.read(b, off, len);
+            readNanos += System.nanoTime() - started;
+            if (n < 0) {
+                verify();
+            } else {
+                crc.update(b, off, n);
+                size += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // CRC 계산을 위해 건너뛰지 않고 읽어서 버림
+            byte[] buffer = new byte[(int) Math.min(8192, Math.max(1, n))];
+            long skipped = 0;
+            while (skipped < n) {
+                int r = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (r < 0) {
+                    break;
                 }
-                entry = zis.getNextEntry();
+                skipped += r;
             }
+            return skipped;
         }
 
-        throw new FileNotFoundException("ZIP 내부에 '" + entrySuffix + "' 파일이 존재하지 않습니다. (" + zipFile.getName() + ")");
+        private void verify() throws ZipException {
+            if (verified) {
+                return;
+            }
+            verified = true;
+            if ((entry.getCrc() >= 0 && crc.getValue() != entry.getCrc()) || (entry.getSize() >= 0 && size != entry.getSize())) {
+                throw new ZipException("ZIP 엔트리 CRC/크기 불일치 (손상 또는 전송 중 잘림): " + entry.getName());
+            }
+        }
+    }
+
+    /**
+     * 엔트리 스트림을 닫을 때 ZipFile도 함께 닫고 압축 해제 지표를 기록하는 래퍼
+     */
+    private static final class ZipEntryInputStream extends FilterInputStream {
+        private final ZipFile zip;
+        private final Runnable onClose;
+        private boolean closed;
+
+        private ZipEntryInputStream(ZipFile zip, InputStream in, Runnable onClose) {
+            super(in);
+            this.zip = zip;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                zip.close();
+                onClose.run();
+            }
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.addressApi.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @FileName  : AddressCacheProperties.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 운영 테이블 주소 조회 캐시 설정 (address-cache.*)
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "address-cache")
+@Component
+public class AddressCacheProperties {
+    private boolean enabled = true;		// false면 캐시 없이 매 조회마다 DB 조회
+    private long maxAddresses = 200000;	// 도로명관리번호별 주소 캐시 최대 건수 (없는 번호의 조회 결과 포함)
+    private long maxBuildings = 50000;	// 건물별 상세주소(동/호) 캐시 최대 건수
+    private String dongDetailTable = "TB_DTL_ADDR_DONG";	// 상세주소동표시 운영 테이블 (주소는 address-change.delta.target-table)
+    private Map<String, String> dongDetailColumns = new LinkedHashMap<>();	// 운영 테이블 컬럼명이 다를 때 기본 컬럼명 -> 실제 컬럼명 (예: NOTE: RMK)
+    private List<String> dongDetailExcludedColumns = new ArrayList<>();		// 운영 테이블에 없는 기본 컬럼 (예: [ADMIN_TYPE])
+}
@@ -0,0 +1,57 @@
+package com.addressApi.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.AddressDongDetailRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : AddressLookupController.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 운영 테이블 주소 조회 API (AddressReadCache 경유)
+ *  - GET /api/lookup/address/{roadNmCtlNo}                                           : 도로명관리번호 단건
+ *  - GET /api/lookup/building?sidoCd=&sigunguCd=&emdCd=[&riCd=]&bldMainNo=[&bldSubNo=] : 건물의 상세주소(동/호)
+ *  - GET /api/lookup/cache                                                           : 캐시 상태
+ */
+@RestController
+@RequestMapping("/api/lookup")
+@RequiredArgsConstructor
+public class AddressLookupController {
+
+    private final AddressReadCache readCache;
+
+    @GetMapping("/address/{roadNmCtlNo}")
+    public ResponseEntity<AddressChangeRow> getAddress(@PathVariable String roadNmCtlNo) {
+        AddressChangeRow row = readCache.getAddress(roadNmCtlNo);
+        return row == null ? new ResponseEntity<>(HttpStatus.NOT_FOUND) : new ResponseEntity<>(row, HttpStatus.OK);
+    }
+
+    @GetMapping("/building")
+    public ResponseEntity<List<AddressDongDetailRow>> getDongDetails(@RequestParam String sidoCd,
+                                                                     @RequestParam String sigunguCd,
+                                                                     @RequestParam String emdCd,
+                                                                     @RequestParam(required = false) String riCd,
+                                                                     @RequestParam String bldMainNo,
+                                                                     @RequestParam(required = false) String bldSubNo) {
+        BuildingKey key = BuildingKey.of(sidoCd, sigunguCd, emdCd, riCd, bldMainNo, bldSubNo);
+        return new ResponseEntity<>(readCache.getDongDetails(key), HttpStatus.OK);
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> status() {
+        return new ResponseEntity<>(readCache.status(), HttpStatus.OK);
+    }
+}
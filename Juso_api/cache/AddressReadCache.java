@@ -0,0 +1,222 @@
+package com.addressApi.cache;
+
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import com.addressApi.batch.AddressChangeColumnBatch;
+import com.addressApi.batch.AddressChangeListener;
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressChangeReflector;
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.AddressDongDetailRow;
+import com.addressApi.batch.BatchUnit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : AddressReadCache.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 운영 테이블 주소 조회 앞단의 read-through 캐시 (Caffeine, 크기 제한 + W-TinyLFU 퇴출)
+ *  - 주소     : 도로명관리번호 -> 주소 (없는 번호도 Optional.empty로 캐시하여 반복 미스가 DB로 가지 않게 함)
+ *  - 상세주소 : 건물(BuildingKey) -> 동/호 목록
+ * 일배치가 적용한 변동 row의 키만 골라 무효화하고 전체 비우기는 하지 않음
+ *  - row 청크는 커밋된 row만 전달되므로 받는 즉시 아래 규칙으로 처리 (컬럼형 배치는 도로명관리번호만 꺼냄)
+ *  - TEMP 적재분은 운영 테이블 반영 전이므로 키를 보류해 두었다가 반영 프로시저 성공(onReflected) 시
+ *    그 실행 시작 전에 보류된 키만 무효화 (실행 중 적재된 키는 다음 반영까지 유지)
+ *  - delta.mode=DELTA의 JUSUKR은 운영 테이블에 바로 커밋되므로 즉시 무효화
+ * 지표 : cache.gets/cache.evictions/cache.size 등(cache=juso.cache.address|juso.cache.building),
+ *        juso.cache.hit.ratio, juso.cache.invalidated
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AddressReadCache implements AddressChangeListener, InitializingBean {
+
+    private static final String ADDRESS_CACHE = "juso.cache.address";
+    private static final String BUILDING_CACHE = "juso.cache.building";
+
+    private final AddressCacheProperties properties;
+    private final AddressChangeProperties changeProperties;
+    private final AddressReadRepository repository;
+    private final MeterRegistry registry;
+
+    // 반영 대기 중인 키 -> 보류 시각(epoch ms, 같은 키가 다시 오면 최신 시각)
+    private final Map<String, Long> pendingAddresses = new ConcurrentHashMap<>();
+    private final Map<BuildingKey, Long> pendingBuildings = new ConcurrentHashMap<>();
+
+    private LoadingCache<String, Optional<AddressChangeRow>> addresses;
+    private LoadingCache<BuildingKey, List<AddressDongDetailRow>> buildings;
+    private Counter addressInvalidated;
+    private Counter buildingInvalidated;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isEnabled()) {
+            log.info("주소 조회 캐시 비활성화 - 모든 조회를 DB에서 처리");
+            return;
+        }
+        addresses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxAddresses())
+                .recordStats()
+                .build(roadNmCtlNo -> Optional.ofNullable(repository.selectAddress(roadNmCtlNo)));
+        buildings = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuildings())
+                .recordStats()
+                .build(key -> List.copyOf(repository.selectDongDetails(key)));
+
+        addressInvalidated = register(ADDRESS_CACHE, addresses);
+        buildingInvalidated = register(BUILDING_CACHE, buildings);
+        log.info("주소 조회 캐시 초기화 - 주소 최대 {}건, 건물 최대 {}건", properties.getMaxAddresses(), properties.getMaxBuildings());
+    }
+
+    private Counter register(String name, Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        Gauge.builder("juso.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("캐시 적중률 (기동 이후 누적)")
+                .tag("cache", name)
+                .register(registry);
+        return Counter.builder("juso.cache.invalidated")
+                .description("일배치 변동으로 무효화한 키 수")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    /**
+     * @Method 설명 : 도로명관리번호로 주소 조회 (없으면 null)
+     */
+    public AddressChangeRow getAddress(String roadNmCtlNo) {
+        if (addresses == null) {
+            return repository.selectAddress(roadNmCtlNo);
+        }
+        return addresses.get(roadNmCtlNo).orElse(null);
+    }
+
+    /**
+     * @Method 설명 : 건물 1개의 상세주소(동/호) 목록 조회 (읽기 전용 목록)
+     */
+    public List<AddressDongDetailRow> getDongDetails(BuildingKey key) {
+        if (buildings == null) {
+            return repository.selectDongDetails(key);
+        }
+        return buildings.get(key);
+    }
+
+    @Override
+    public void onAddressRowsApplied(BatchUnit unit, List<AddressChangeRow> rows) {
+        if (addresses == null) {
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        for (AddressChangeRow row : rows) {
+            keys.add(row.getRoadNmCtlNo());
+        }
+        addressesCommitted(unit, keys);
+    }
+
+    @Override
+    public void onAddressBatchApplied(BatchUnit unit, AddressChangeColumnBatch batch, int from, int to) {
+        if (addresses == null) {
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            keys.add(batch.getRoadNmCtlNo(i));
+        }
+        addressesCommitted(unit, keys);
+    }
+
+    @Override
+    public void onDongDetailRowsApplied(BatchUnit unit, List<AddressDongDetailRow> rows) {
+        if (buildings == null) {
+            return;
+        }
+        Set<BuildingKey> keys = new HashSet<>();
+        for (AddressDongDetailRow row : rows) {
+            keys.add(BuildingKey.of(row));
+        }
+        hold(pendingBuildings, keys);
+    }
+
+    private void addressesCommitted(BatchUnit unit, Set<String> keys) {
+        if (changeProperties.getDelta().getMode() == AddressChangeProperties.ApplyMode.DELTA) {
+            addresses.invalidateAll(keys);
+            addressInvalidated.increment(keys.size());
+            log.debug("[{}] 주소 캐시 즉시 무효화 - {}건", unit, keys.size());
+        } else {
+            hold(pendingAddresses, keys);
+        }
+    }
+
+    private static <K> void hold(Map<K, Long> pending, Set<K> keys) {
+        long now = System.currentTimeMillis();
+        for (K key : keys) {
+            pending.put(key, now);
+        }
+    }
+
+    @Override
+    public void onReflected(AddressChangeReflector.ReflectResult result) {
+        if (addresses == null || result.getStatus() != AddressChangeReflector.Status.SUCCESS) {
+            return;
+        }
+        long cutoff = result.getStartedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        int addressCount = invalidatePending(pendingAddresses, addresses, addressInvalidated, cutoff);
+        int buildingCount = invalidatePending(pendingBuildings, buildings, buildingInvalidated, cutoff);
+        log.info("[{}] 반영 완료 - 캐시 무효화 주소 {}건, 건물 {}건 (보류 중 주소 {}건, 건물 {}건)",
+                result.getTrigger(), addressCount, buildingCount, pendingAddresses.size(), pendingBuildings.size());
+    }
+
+    private static <K> int invalidatePending(Map<K, Long> pending, Cache<K, ?> cache, Counter counter, long cutoff) {
+        int count = 0;
+        for (Map.Entry<K, Long> entry : pending.entrySet()) {
+            // 반영 시작 이후에 다시 보류된 키는 이번 프로시저에 포함되지 않았을 수 있으므로 남겨 둠
+            if (entry.getValue() <= cutoff && pending.remove(entry.getKey(), entry.getValue())) {
+                cache.invalidate(entry.getKey());
+                count++;
+            }
+        }
+        counter.increment(count);
+        return count;
+    }
+
+    /**
+     * @Method 설명 : 캐시 상태 (조회 API용)
+     */
+    public Map<String, Object> status() {
+        if (addresses == null) {
+            return Map.of("enabled", false);
+        }
+        return Map.of("enabled", true,
+                "address", stats(addresses, pendingAddresses.size()),
+                "building", stats(buildings, pendingBuildings.size()));
+    }
+
+    private static Map<String, Object> stats(Cache<?, ?> cache, int pending) {
+        CacheStats stats = cache.stats();
+        return Map.of("size", cache.estimatedSize(),
+                "hitRatio", stats.hitRate(),
+                "hits", stats.hitCount(),
+                "misses", stats.missCount(),
+                "evictions", stats.evictionCount(),
+                "pendingInvalidation", pending);
+    }
+}
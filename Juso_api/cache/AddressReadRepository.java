@@ -0,0 +1,60 @@
+package com.addressApi.cache;
+
+import java.util.List;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Component;
+
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.AddressDongDetailRow;
+import com.addressApi.batch.AddressTableLayout;
+import com.addressApi.mapper.AddressReadMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : AddressReadRepository.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 운영 주소 테이블 단건 조회 (AddressReadCache의 read-through 원본)
+ *  - 주소     : address-change.delta.target-table에서 도로명관리번호(PK) 1건
+ *  - 상세주소 : address-cache.dong-detail-table에서 건물 1개의 동/호 전체
+ * 조회는 AddressReadMapper로 수행하며, 주소 컬럼 구성은 DELTA 반영과 같은 운영 테이블 레이아웃(AddressTableLayout)을,
+ * 상세주소 컬럼 구성은 상세주소동표시 운영 테이블 레이아웃(DongDetailTableLayout)을 따름
+ */
+@Component
+@RequiredArgsConstructor
+public class AddressReadRepository {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final AddressChangeProperties changeProperties;
+    private final AddressCacheProperties properties;
+
+    /**
+     * @Method 설명 : 도로명관리번호로 주소 1건 조회 (없으면 null)
+     */
+    public AddressChangeRow selectAddress(String roadNmCtlNo) {
+        AddressTableLayout layout = AddressTableLayout.of(changeProperties.getDelta());
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            return session.getMapper(AddressReadMapper.class).selectAddress(layout, roadNmCtlNo);
+        } catch (PersistenceException e) {
+            throw new IllegalStateException("주소 조회 실패 - 도로명관리번호=" + roadNmCtlNo, e);
+        }
+    }
+
+    /**
+     * @Method 설명 : 건물 1개의 상세주소(동/호) 전체 조회 (동, 층, 호 순)
+     */
+    public List<AddressDongDetailRow> selectDongDetails(BuildingKey key) {
+        DongDetailTableLayout layout = DongDetailTableLayout.of(properties);
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            return session.getMapper(AddressReadMapper.class).selectDongDetails(layout, key);
+        } catch (PersistenceException e) {
+            throw new IllegalStateException("상세주소 조회 실패 - " + key, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.addressApi.cache;
+
+import com.addressApi.batch.AddressDongDetailRow;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * @FileName  : BuildingKey.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 상세주소(동/호) 조회 단위인 건물 식별 키
+ * 시도/시군구/읍면동/리 코드 + 건물본번/부번 (앞뒤 공백 제거, 빈 값은 null)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class BuildingKey {
+    private final String sidoCd;
+    private final String sigunguCd;
+    private final String emdCd;
+    private final String riCd;
+    private final String bldMainNo;
+    private final String bldSubNo;
+
+    public static BuildingKey of(String sidoCd, String sigunguCd, String emdCd, String riCd,
+                                 String bldMainNo, String bldSubNo) {
+        return new BuildingKey(trim(sidoCd), trim(sigunguCd), trim(emdCd), trim(riCd), trim(bldMainNo), trim(bldSubNo));
+    }
+
+    public static BuildingKey of(AddressDongDetailRow row) {
+        return of(row.getSidoCd(), row.getSigunguCd(), row.getEmdCd(), row.getRiCd(), row.getBldMainNo(), row.getBldSubNo());
+    }
+
+    private static String trim(String value) {
+        if (value == null) {
+            return null;
+        }
+        String t = value.trim();
+        return t.isEmpty() ? null : t;
+    }
+}
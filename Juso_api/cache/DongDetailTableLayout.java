@@ -0,0 +1,98 @@
+package com.addressApi.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * @FileName  : DongDetailTableLayout.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 상세주소동표시 운영 테이블(address-cache.dong-detail-table) 컬럼과 DTO 매핑 (운영 테이블 조회용)
+ * TEMP 테이블 레이아웃(TempTableLayout)과 분리하여 운영 테이블 스키마가 달라도 설정으로 맞춤
+ *  - address-cache.dong-detail-columns          : 기본 컬럼명 -> 실제 컬럼명 (이름만 다른 컬럼)
+ *  - address-cache.dong-detail-excluded-columns : 운영 테이블에 없는 기본 컬럼 (건물 키/동/층/호는 제외 불가)
+ */
+@Getter
+public class DongDetailTableLayout {
+
+    private static final List<String> REQUIRED = List.of(
+            "SIDO_CD", "SIGUNGU_CD", "EMD_CD", "RI_CD", "BLD_MAIN_NO", "BLD_SUB_NO", "DONG", "FLOOR_NO", "HO");
+
+    private final String table;
+    private final List<String> columns = new ArrayList<>();		// 실제 컬럼명
+    private final List<String> properties = new ArrayList<>();	// AddressDongDetailRow 속성명 (조회 결과 별칭)
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> renamed;
+
+    private DongDetailTableLayout(String table, Map<String, String> renamed) {
+        this.table = table;
+        this.renamed = renamed;
+    }
+
+    /**
+     * @Method 설명 : address-cache 설정으로 상세주소동표시 운영 테이블 레이아웃 생성
+     */
+    public static DongDetailTableLayout of(AddressCacheProperties conf) {
+        Map<String, String> renamed = conf.getDongDetailColumns();
+        List<String> excluded = conf.getDongDetailExcludedColumns();
+        for (String name : excluded) {
+            if (REQUIRED.contains(name)) {
+                throw new IllegalStateException("상세주소동표시 운영 테이블 조회 키/정렬 컬럼은 제외할 수 없습니다: " + name);
+            }
+        }
+
+        DongDetailTableLayout layout = new DongDetailTableLayout(conf.getDongDetailTable(), renamed);
+        Column.DEFAULTS.forEach(column -> {
+            if (!excluded.contains(column.name)) {
+                layout.columns.add(renamed.getOrDefault(column.name, column.name));
+                layout.properties.add(column.property);
+            }
+        });
+        return layout;
+    }
+
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * @Method 설명 : 기본 컬럼명의 실제 컬럼명 (조회 조건/정렬용)
+     */
+    public String column(String name) {
+        return renamed.getOrDefault(name, name);
+    }
+
+    /**
+     * 상세주소동표시 운영 테이블 기본 컬럼 (기본 컬럼명 = JUSDG TEMP 컬럼명)
+     */
+    private static final class Column {
+        private static final List<Column> DEFAULTS = List.of(
+                new Column("SIDO_CD", "sidoCd"),
+                new Column("SIGUNGU_CD", "sigunguCd"),
+                new Column("EMD_CD", "emdCd"),
+                new Column("RI_CD", "riCd"),
+                new Column("ADMIN_TYPE", "adminType"),
+                new Column("DONG_NM", "dongNm"),
+                new Column("BLD_MAIN_NO", "bldMainNo"),
+                new Column("BLD_SUB_NO", "bldSubNo"),
+                new Column("DONG", "dong"),
+                new Column("HO", "ho"),
+                new Column("FLOOR_NO", "floorNo"),
+                new Column("NOTE", "note"),
+                new Column("STD_DATE", "stdDate"));
+
+        private final String name;
+        private final String property;
+
+        private Column(String name, String property) {
+            this.name = name;
+            this.property = property;
+        }
+    }
+}
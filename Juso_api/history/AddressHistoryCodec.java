@@ -0,0 +1,314 @@
+package com.addressApi.history;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+import com.addressApi.batch.AddressChangeRow;
+
+/**
+ * @FileName  : AddressHistoryCodec.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 변경 이력 파일(.jhc) 바이너리 형식
+ * 파일 = 매직 "JHC1" + 레코드 반복, 레코드 = varint(payload 길이) + payload + CRC32(payload, 4바이트)
+ *  - ROW  payload   : 0x01 + 효력일자(int yyyyMMdd) + 25개 컬럼 (도로명관리번호가 첫 컬럼)
+ *  - COMMIT payload : 0x03 (DB에 커밋된 청크의 ROW 레코드를 쓴 뒤 기록)
+ *  - UNIT payload   : 0x02 + 적용 단위 키 (단위의 마지막 청크까지 쓴 뒤 기록, 재적용 시 중복 기록 방지용)
+ * 문자열은 varint(UTF-8 길이 + 1) + UTF-8 바이트 (0 = null), 컬럼명/구분자 없이 값만 저장
+ * 쓰기 도중 중단되어 CRC가 맞지 않는 꼬리 레코드는 읽기 시 파일 끝으로 간주
+ * ROW는 뒤따르는 COMMIT 또는 UNIT 레코드까지 있어야 유효하며, 마지막 COMMIT/UNIT 이후의 ROW(중단된 쓰기)는 읽기 시 버림
+ * (COMMIT 레코드 추가 전 파일은 UNIT 레코드만 있으므로 그대로 읽힘)
+ */
+final class AddressHistoryCodec {
+
+    static final byte[] MAGIC = { 'J', 'H', 'C', '1' };
+
+    static final byte TYPE_ROW = 1;
+    static final byte TYPE_UNIT = 2;
+    static final byte TYPE_COMMIT = 3;
+
+    private static final int MAX_PAYLOAD = 1 << 20;
+
+    static final int COL_ROAD_NM_CTL_NO = 0;
+    static final int COL_APPLY_BGN_DATE = 18;
+    static final int COL_STD_DATE = 24;
+
+    // 컬럼 순서 = TempTableLayout.address (형식이 바뀌면 MAGIC 버전을 올림)
+    private static final List<Function<AddressChangeRow, String>> GETTERS = List.of(
+            AddressChangeRow::getRoadNmCtlNo, AddressChangeRow::getLgdongOsdcd, AddressChangeRow::getSidoNm,
+            AddressChangeRow::getSigunguNm, AddressChangeRow::getEpmyndnNm, AddressChangeRow::getRiNm,
+            AddressChangeRow::getMuntnYn, AddressChangeRow::getUpperHsno, AddressChangeRow::getSubHsno,
+            AddressChangeRow::getRoadNmCd, AddressChangeRow::getRoadNm, AddressChangeRow::getUndGrdYn,
+            AddressChangeRow::getBldUpperNo, AddressChangeRow::getBldSubNo, AddressChangeRow::getAddongOsdcd,
+            AddressChangeRow::getAddongEpmyndnNm, AddressChangeRow::getZipNo, AddressChangeRow::getBefRoadNmAddr,
+            AddressChangeRow::getApplyBgnDate, AddressChangeRow::getCmmBldYn, AddressChangeRow::getMvRsnCd,
+            AddressChangeRow::getInstBldNm, AddressChangeRow::getBldNm, AddressChangeRow::getNote,
+            AddressChangeRow::getStdDate);
+
+    private static final List<BiConsumer<AddressChangeRow, String>> SETTERS = List.of(
+            AddressChangeRow::setRoadNmCtlNo, AddressChangeRow::setLgdongOsdcd, AddressChangeRow::setSidoNm,
+            AddressChangeRow::setSigunguNm, AddressChangeRow::setEpmyndnNm, AddressChangeRow::setRiNm,
+            AddressChangeRow::setMuntnYn, AddressChangeRow::setUpperHsno, AddressChangeRow::setSubHsno,
+            AddressChangeRow::setRoadNmCd, AddressChangeRow::setRoadNm, AddressChangeRow::setUndGrdYn,
+            AddressChangeRow::setBldUpperNo, AddressChangeRow::setBldSubNo, AddressChangeRow::setAddongOsdcd,
+            AddressChangeRow::setAddongEpmyndnNm, AddressChangeRow::setZipNo, AddressChangeRow::setBefRoadNmAddr,
+            AddressChangeRow::setApplyBgnDate, AddressChangeRow::setCmmBldYn, AddressChangeRow::setMvRsnCd,
+            AddressChangeRow::setInstBldNm, AddressChangeRow::setBldNm, AddressChangeRow::setNote,
+            AddressChangeRow::setStdDate);
+
+    /**
+     * 파일 스캔 중 커밋된 row마다 row, 완료된 단위마다 unit 호출
+     */
+    interface Visitor {
+        void row(long offset, int length, int effectiveDate, String roadNmCtlNo);
+
+        void unit(String unitKey);
+    }
+
+    private AddressHistoryCodec() {
+    }
+
+    /**
+     * @Method 설명 : ROW 레코드를 out 끝에 추가
+     */
+    static void writeRow(ByteArrayOutputStream out, int effectiveDate, AddressChangeRow row) {
+        writeRow(out, effectiveDate, columns(row));
+    }
+
+    /**
+     * @Method 설명 : DTO의 컬럼 인덱스별 값 (writeRow / 효력일자 계산용)
+     */
+    static IntFunction<String> columns(AddressChangeRow row) {
+        return column -> GETTERS.get(column).apply(row);
+    }
+
+    /**
+     * @Method 설명 : 컬럼 인덱스(0 ~ 24, GETTERS 순서)로 값을 꺼내 ROW 레코드를 out 끝에 추가 (컬럼형 배치용, DTO 복원 없음)
+     */
+    static void writeRow(ByteArrayOutputStream out, int effectiveDate, IntFunction<String> column) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+        payload.write(TYPE_ROW);
+        payload.write(effectiveDate >>> 24);
+        payload.write(effectiveDate >>> 16);
+        payload.write(effectiveDate >>> 8);
+        payload.write(effectiveDate);
+        for (int i = 0; i < GETTERS.size(); i++) {
+            writeString(payload, column.apply(i));
+        }
+        frame(out, payload);
+    }
+
+    /**
+     * @Method 설명 : COMMIT 레코드를 out 끝에 추가
+     */
+    static void writeCommit(ByteArrayOutputStream out) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(1);
+        payload.write(TYPE_COMMIT);
+        frame(out, payload);
+    }
+
+    /**
+     * @Method 설명 : UNIT 레코드를 out 끝에 추가
+     */
+    static void writeUnit(ByteArrayOutputStream out, String unitKey) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        payload.write(TYPE_UNIT);
+        writeString(payload, unitKey);
+        frame(out, payload);
+    }
+
+    private static void frame(ByteArrayOutputStream out, ByteArrayOutputStream payload) {
+        byte[] bytes = payload.toByteArray();
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+        int crc = crc(bytes);
+        out.write(crc >>> 24);
+        out.write(crc >>> 16);
+        out.write(crc >>> 8);
+        out.write(crc);
+    }
+
+    /**
+     * @Method 설명 : 매직 이후의 레코드를 순서대로 읽어 visitor에 전달
+     * ROW는 COMMIT/UNIT 레코드를 만날 때까지 모아 두었다가 함께 전달 (그 전에 끝난 row는 전달하지 않음)
+     * @param start 첫 레코드의 파일 오프셋 (매직 길이)
+     * @return 마지막 COMMIT/UNIT 레코드의 끝 오프셋 (이후는 중단된 쓰기로 간주)
+     */
+    static long scan(InputStream in, long start, Visitor visitor) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        List<PendingRow> unitRows = new ArrayList<>();
+        long offset = start;
+        long committed = start;
+        while (true) {
+            int length;
+            byte[] payload;
+            int headerBytes;
+            try {
+                length = readVarint(data);
+                if (length < 0) {
+                    return committed;		// 정상 종료
+                }
+                if (length == 0 || length > MAX_PAYLOAD) {
+                    return committed;
+                }
+                headerBytes = varintSize(length);
+                payload = new byte[length];
+                data.readFully(payload);
+                if (data.readInt() != crc(payload)) {
+                    return committed;
+                }
+            } catch (EOFException e) {
+                return committed;
+            }
+
+            int recordLength = headerBytes + length + 4;
+            if (payload[0] == TYPE_ROW) {
+                int[] pos = { 5 };
+                int effectiveDate = ((payload[1] & 0xFF) << 24) | ((payload[2] & 0xFF) << 16)
+                        | ((payload[3] & 0xFF) << 8) | (payload[4] & 0xFF);
+                unitRows.add(new PendingRow(offset, recordLength, effectiveDate, readString(payload, pos)));
+            } else if (payload[0] == TYPE_COMMIT || payload[0] == TYPE_UNIT) {
+                for (PendingRow row : unitRows) {
+                    visitor.row(row.offset, row.length, row.effectiveDate, row.roadNmCtlNo);
+                }
+                unitRows.clear();
+                if (payload[0] == TYPE_UNIT) {
+                    visitor.unit(readString(payload, new int[] { 1 }));
+                }
+                committed = offset + recordLength;
+            }
+            offset += recordLength;
+        }
+    }
+
+    /**
+     * COMMIT/UNIT 레코드 전까지 보류 중인 ROW 위치
+     */
+    private static final class PendingRow {
+        private final long offset;
+        private final int length;
+        private final int effectiveDate;
+        private final String roadNmCtlNo;
+
+        private PendingRow(long offset, int length, int effectiveDate, String roadNmCtlNo) {
+            this.offset = offset;
+            this.length = length;
+            this.effectiveDate = effectiveDate;
+            this.roadNmCtlNo = roadNmCtlNo;
+        }
+    }
+
+    /**
+     * @Method 설명 : ROW 레코드 1건(길이 + payload + CRC) 복원
+     * @return 효력일자는 별도 보관하므로 row만 반환
+     */
+    static AddressChangeRow decodeRow(byte[] record) throws IOException {
+        int[] pos = { 0 };
+        int length = readVarint(record, pos);
+        if (length <= 0 || pos[0] + length + 4 > record.length) {
+            throw new IOException("이력 레코드 길이 불일치");
+        }
+        byte[] payload = new byte[length];
+        System.arraycopy(record, pos[0], payload, 0, length);
+        int p = pos[0] + length;
+        int crc = ((record[p] & 0xFF) << 24) | ((record[p + 1] & 0xFF) << 16) | ((record[p + 2] & 0xFF) << 8) | (record[p + 3] & 0xFF);
+        if (crc != crc(payload) || payload[0] != TYPE_ROW) {
+            throw new IOException("이력 레코드 손상 (CRC/형식 불일치)");
+        }
+
+        AddressChangeRow row = new AddressChangeRow();
+        int[] at = { 5 };
+        for (BiConsumer<AddressChangeRow, String> setter : SETTERS) {
+            setter.accept(row, readString(payload, at));
+        }
+        return row;
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarint(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length + 1);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(byte[] payload, int[] pos) {
+        int length = readVarint(payload, pos) - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(payload, pos[0], length, StandardCharsets.UTF_8);
+        pos[0] += length;
+        return value;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int readVarint(byte[] bytes, int[] pos) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = bytes[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("varint 형식 오류");
+    }
+
+    /**
+     * 스트림에서 varint 읽기 (첫 바이트에서 스트림이 끝나면 -1)
+     */
+    private static int readVarint(DataInputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return -1;
+        }
+        int value = first & 0x7F;
+        if ((first & 0x80) == 0) {
+            return value;
+        }
+        for (int shift = 7; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        return 0;	// 형식 오류 -> 호출부에서 파일 끝으로 처리
+    }
+}
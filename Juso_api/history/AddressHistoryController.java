@@ -0,0 +1,71 @@
+package com.addressApi.history;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : AddressHistoryController.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 변경 이력 조회 API (이력 파일에서 조회, 운영 DB 테이블을 조회하지 않음)
+ *  - GET /api/address/history/{roadNmCtlNo}?date=20250901                     : 해당 날짜 기준 주소 (date 생략 시 오늘)
+ *  - GET /api/address/history/{roadNmCtlNo}/changes?from=20250101&to=20251231 : 효력일자가 기간 안인 변경 이력
+ * 날짜 형식 오류는 400, 이력 없음은 404, 저장소 비활성화 시 503
+ */
+@RestController
+@RequestMapping("/api/address/history")
+@RequiredArgsConstructor
+public class AddressHistoryController {
+
+    private final AddressHistoryStore historyStore;
+
+    @GetMapping("/{roadNmCtlNo}")
+    public ResponseEntity<AddressVersion> asOf(@PathVariable String roadNmCtlNo,
+                                               @RequestParam(required = false) String date) {
+        if (!historyStore.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        LocalDate day = date == null ? LocalDate.now() : parse(date);
+        if (day == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        AddressVersion version = historyStore.asOf(roadNmCtlNo, day);
+        return version == null ? new ResponseEntity<>(HttpStatus.NOT_FOUND) : new ResponseEntity<>(version, HttpStatus.OK);
+    }
+
+    @GetMapping("/{roadNmCtlNo}/changes")
+    public ResponseEntity<List<AddressVersion>> changes(@PathVariable String roadNmCtlNo,
+                                                        @RequestParam String from,
+                                                        @RequestParam String to) {
+        if (!historyStore.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        LocalDate fromDay = parse(from);
+        LocalDate toDay = parse(to);
+        if (fromDay == null || toDay == null || fromDay.isAfter(toDay)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(historyStore.changes(roadNmCtlNo, fromDay, toDay, historyStore.getMaxResults()), HttpStatus.OK);
+    }
+
+    private static LocalDate parse(String value) {
+        try {
+            return LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.addressApi.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @FileName  : AddressHistoryProperties.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 변경 이력 저장소 설정 (address-history.*)
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "address-history")
+@Component
+public class AddressHistoryProperties {
+    private boolean enabled = false;	// true면 일배치가 적용한 JUSUKR 변동 row를 날짜별 이력 파일에 추가 기록
+    private String dir;					// 이력 파일 폴더 (날짜 폴더 기준일자별 yyyyMMdd.jhc, 미설정 시 address-change.path.extract-dir/history)
+    private int maxResults = 1000;		// 기간 변경 이력 조회 1회 최대 반환 건수
+}
@@ -0,0 +1,480 @@
+package com.addressApi.history;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import com.addressApi.batch.AddressChangeColumnBatch;
+import com.addressApi.batch.AddressChangeListener;
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.BatchStage;
+import com.addressApi.batch.BatchUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : AddressHistoryStore.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 도로명주소 변경 이력 저장소 (추가 전용 바이너리 로그 + 도로명관리번호별 버전 색인)
+ * 일배치가 커밋한 JUSUKR row 청크를 날짜 폴더 기준일자별 파일(yyyyMMdd.jhc)에 이어 쓰고 COMMIT 레코드 + fsync 후 색인
+ *  - 단위가 끝나면 UNIT 레코드를 씀 (단위가 도중에 실패해도 커밋된 청크는 유지되고, 재실행 시 이후 청크가 이어서 기록됨)
+ *  - 컬럼형 배치는 DTO로 복원하지 않고 배치 컬럼에서 바로 기록
+ *  - 파일은 추가만 하고 수정/삭제하지 않음 (형식은 AddressHistoryCodec)
+ *  - UNIT 레코드까지 기록한 단위(BatchUnit.key)가 다시 오면 건너뜀 (체크포인트 없는 재적용 시 중복 방지)
+ * 버전 색인은 도로명관리번호 -> long[] (버전마다 [효력일자 << 32 | 레코드 길이, 파일 번호 << 40 | 오프셋], 효력일자 순)
+ * 기동 시 파일을 순서대로 훑어 색인을 다시 만들고, 마지막 COMMIT/UNIT 레코드 이후(쓰기 도중 중단된 청크)는 잘라냄
+ * 조회는 색인에서 이진 탐색 후 해당 레코드만 위치 지정 읽기 (운영 DB 테이블을 조회하지 않음)
+ *  - asOf    : 특정 날짜 기준 주소 (효력일자가 그 날짜 이하인 마지막 버전)
+ *  - changes : 효력일자가 기간 안에 있는 버전 전체
+ * 이력은 저장소를 켠 이후 적용된 변동분부터 쌓임
+ * 지표 : juso.history.keys (이력이 있는 도로명관리번호 수), juso.history.rows.appended
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AddressHistoryStore implements AddressChangeListener, InitializingBean, DisposableBean {
+
+    private static final String MV_RSN_DELETE = "63";
+    private static final String FILE_SUFFIX = ".jhc";
+    private static final String DEFAULT_DIR = "history";
+    private static final long OFFSET_MASK = (1L << 40) - 1;
+
+    private final AddressHistoryProperties properties;
+    private final AddressChangeProperties changeProperties;
+    private final MeterRegistry registry;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Partition> partitions = new ArrayList<>();			// 파일 번호 = 위치
+    private final Map<Integer, Partition> partitionsByDate = new HashMap<>();
+    private final Map<String, long[]> versions = new HashMap<>();
+    private final Set<String> loggedUnits = new HashSet<>();
+    private Path dir;
+    private Counter appended;
+    private volatile boolean ready;
+
+    /**
+     * 날짜 1개의 이력 파일 (쓰기/위치 지정 읽기 공용 채널)
+     */
+    private static final class Partition {
+        private final int no;
+        private final int date;
+        private final FileChannel channel;
+        private long size;
+
+        private Partition(int no, int date, FileChannel channel, long size) {
+            this.no = no;
+            this.date = date;
+            this.channel = channel;
+            this.size = size;
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String configured = properties.getDir();
+        dir = configured != null && !configured.isBlank()
+                ? Paths.get(configured)
+                : Paths.get(changeProperties.getPath().getExtractDir(), DEFAULT_DIR);
+        Files.createDirectories(dir);
+
+        long startNanos = System.nanoTime();
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(file -> file.getFileName().toString().matches("\\d{8}\\.jhc"))
+                    .sorted()
+                    .toList();
+        }
+        long rows = 0;
+        for (Path file : files) {
+            rows += load(file);
+        }
+
+        appended = Counter.builder("juso.history.rows.appended")
+                .description("address change rows appended to the history log")
+                .register(registry);
+        Gauge.builder("juso.history.keys", this, store -> store.keyCount())
+                .description("road name management numbers with history")
+                .register(registry);
+        ready = true;
+        log.info("주소 변경 이력 색인 구축 - 파일 {}개, 이력 {}건, 도로명관리번호 {}건 ({}ms): {}",
+                files.size(), rows, versions.size(), (System.nanoTime() - startNanos) / 1_000_000, dir);
+    }
+
+    @Override
+    public void destroy() {
+        lock.writeLock().lock();
+        try {
+            for (Partition partition : partitions) {
+                try {
+                    partition.channel.close();
+                } catch (IOException e) {
+                    log.warn("이력 파일 닫기 실패 - {}: {}", partition.date, e.getMessage());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getMaxResults() {
+        return properties.getMaxResults();
+    }
+
+    private int keyCount() {
+        lock.readLock().lock();
+        try {
+            return versions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기존 이력 파일 1개를 훑어 버전 색인에 추가 (COMMIT/UNIT 레코드로 끝나지 않은 꼬리는 잘라냄)
+     */
+    private long load(Path file) throws IOException {
+        int date = Integer.parseInt(file.getFileName().toString().substring(0, 8));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size < AddressHistoryCodec.MAGIC.length) {
+            channel.truncate(0);
+            writeFully(channel, ByteBuffer.wrap(AddressHistoryCodec.MAGIC), 0);
+            register(new Partition(partitions.size(), date, channel, AddressHistoryCodec.MAGIC.length));
+            return 0;
+        }
+        ByteBuffer magic = ByteBuffer.allocate(AddressHistoryCodec.MAGIC.length);
+        readFully(channel, magic, 0);
+        if (!Arrays.equals(magic.array(), AddressHistoryCodec.MAGIC)) {
+            channel.close();
+            throw new IllegalStateException("주소 변경 이력 파일 형식 오류 (매직 불일치): " + file);
+        }
+
+        Partition partition = new Partition(partitions.size(), date, channel, size);
+        long[] rows = { 0 };
+        long end;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            in.skipNBytes(AddressHistoryCodec.MAGIC.length);
+            end = AddressHistoryCodec.scan(in, AddressHistoryCodec.MAGIC.length, new AddressHistoryCodec.Visitor() {
+                @Override
+                public void row(long offset, int length, int effectiveDate, String roadNmCtlNo) {
+                    index(roadNmCtlNo, effectiveDate, length, partition.no, offset);
+                    rows[0]++;
+                }
+
+                @Override
+                public void unit(String unitKey) {
+                    loggedUnits.add(unitKey);
+                }
+            });
+        }
+        if (end < size) {
+            log.warn("주소 변경 이력 파일 끝의 미완료 청크 제거 - {}바이트: {}", size - end, file);
+            channel.truncate(end);
+            partition.size = end;
+        }
+        register(partition);
+        return rows[0];
+    }
+
+    private void register(Partition partition) {
+        partitions.add(partition);
+        partitionsByDate.put(partition.date, partition);
+    }
+
+    @Override
+    public void onAddressRowsApplied(BatchUnit unit, List<AddressChangeRow> rows) {
+        appendChunk(unit, rows.size(), i -> AddressHistoryCodec.columns(rows.get(i)));
+    }
+
+    @Override
+    public void onAddressBatchApplied(BatchUnit unit, AddressChangeColumnBatch batch, int from, int to) {
+        appendChunk(unit, to - from, i -> column -> column == AddressHistoryCodec.COL_STD_DATE
+                ? batch.getStdDate() : batch.get(from + i, column));
+    }
+
+    @Override
+    public void onUnitApplied(BatchUnit unit) {
+        if (!ready || unit.getStage() != BatchStage.JUSUKR) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loggedUnits.contains(unit.key())) {
+                log.info("[{}] 이미 이력에 기록된 단위 - 건너뜀", unit);
+                return;
+            }
+            Partition partition = partition(toInt(unit.getDate()));
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+            AddressHistoryCodec.writeUnit(buffer, unit.key());
+            write(unit, partition, buffer);
+            loggedUnits.add(unit.key());
+            log.info("[{}] 주소 변경 이력 단위 기록 완료 ({}{}, {}바이트)", unit, partition.date, FILE_SUFFIX, partition.size);
+        } catch (IOException e) {
+            throw new IllegalStateException("[" + unit + "] 주소 변경 이력 기록 실패", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋된 청크의 ROW 레코드 + COMMIT 레코드를 파일 끝에 쓰고 fsync한 뒤 색인에 반영
+     * 이미 UNIT 레코드까지 기록된 단위가 다시 오면(체크포인트 없이 재적용) 건너뜀
+     * @param rows 청크 내 위치 -> 컬럼 인덱스별 값 (AddressHistoryCodec 컬럼 순서)
+     */
+    private void appendChunk(BatchUnit unit, int size, IntFunction<IntFunction<String>> rows) {
+        if (!ready || size == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loggedUnits.contains(unit.key())) {
+                return;
+            }
+            Partition partition = partition(toInt(unit.getDate()));
+            long base = partition.size;
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(size * 256);
+            List<String> keys = new ArrayList<>(size);
+            long[] entries = new long[size * 2];	// 레코드마다 [효력일자 << 32 | 레코드 길이, 오프셋]
+            for (int i = 0; i < size; i++) {
+                IntFunction<String> row = rows.apply(i);
+                String roadNmCtlNo = row.apply(AddressHistoryCodec.COL_ROAD_NM_CTL_NO);
+                if (roadNmCtlNo == null) {
+                    continue;
+                }
+                int start = buffer.size();
+                int effectiveDate = effectiveDate(row, partition.date);
+                AddressHistoryCodec.writeRow(buffer, effectiveDate, row);
+                entries[keys.size() * 2] = (long) effectiveDate << 32 | (buffer.size() - start);
+                entries[keys.size() * 2 + 1] = base + start;
+                keys.add(roadNmCtlNo);
+            }
+            if (keys.isEmpty()) {
+                return;
+            }
+            AddressHistoryCodec.writeCommit(buffer);
+            write(unit, partition, buffer);
+
+            for (int i = 0; i < keys.size(); i++) {
+                long entry = entries[i * 2];
+                index(keys.get(i), (int) (entry >>> 32), (int) entry, partition.no, entries[i * 2 + 1]);
+            }
+            appended.increment(keys.size());
+            log.debug("[{}] 주소 변경 이력 청크 기록 - {}건 ({}{})", unit, keys.size(), partition.date, FILE_SUFFIX);
+        } catch (IOException e) {
+            throw new IllegalStateException("[" + unit + "] 주소 변경 이력 기록 실패", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레코드를 파일 끝에 쓰고 fsync (실패하면 쓰기 전 위치로 잘라냄)
+     */
+    private void write(BatchUnit unit, Partition partition, ByteArrayOutputStream buffer) throws IOException {
+        long base = partition.size;
+        try {
+            writeFully(partition.channel, ByteBuffer.wrap(buffer.toByteArray()), base);
+            partition.channel.force(false);
+        } catch (IOException e) {
+            try {
+                partition.channel.truncate(base);
+            } catch (IOException truncateFailure) {
+                // 잘라내지 못한 꼬리는 다음 쓰기로 덮이거나 재기동 시 COMMIT 없는 레코드로 제거됨
+                log.warn("[{}] 미완료 이력 잘라내기 실패: {}", unit, truncateFailure.getMessage());
+            }
+            throw e;
+        }
+        partition.size = base + buffer.size();
+    }
+
+    private Partition partition(int date) throws IOException {
+        Partition partition = partitionsByDate.get(date);
+        if (partition == null) {
+            FileChannel channel = FileChannel.open(dir.resolve(date + FILE_SUFFIX),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            writeFully(channel, ByteBuffer.wrap(AddressHistoryCodec.MAGIC), 0);
+            partition = new Partition(partitions.size(), date, channel, AddressHistoryCodec.MAGIC.length);
+            register(partition);
+        }
+        return partition;
+    }
+
+    /**
+     * 버전 추가 (효력일자 순 유지, 같은 효력일자면 기록 순서대로 뒤에)
+     */
+    private void index(String roadNmCtlNo, int effectiveDate, int length, int partitionNo, long offset) {
+        long[] current = versions.get(roadNmCtlNo);
+        int count = current == null ? 0 : current.length / 2;
+        int at = current == null ? 0 : upperBound(current, effectiveDate);
+        long[] next = new long[(count + 1) * 2];
+        if (current != null) {
+            System.arraycopy(current, 0, next, 0, at * 2);
+            System.arraycopy(current, at * 2, next, at * 2 + 2, (count - at) * 2);
+        }
+        next[at * 2] = (long) effectiveDate << 32 | length;
+        next[at * 2 + 1] = (long) partitionNo << 40 | offset;
+        versions.put(roadNmCtlNo, next);
+    }
+
+    /**
+     * 효력일자가 date 이하인 버전 수
+     */
+    private static int upperBound(long[] entries, int date) {
+        int low = 0;
+        int high = entries.length / 2;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((int) (entries[mid * 2] >>> 32) <= date) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @Method 설명 : date 기준 주소 (그 날짜 이하 효력의 마지막 버전, 폐지 이력이면 deleted=true)
+     * @return 이력이 없거나 date가 첫 이력보다 이전이면 null
+     */
+    public AddressVersion asOf(String roadNmCtlNo, LocalDate date) {
+        lock.readLock().lock();
+        try {
+            long[] entries = versions.get(roadNmCtlNo);
+            if (entries == null) {
+                return null;
+            }
+            int at = upperBound(entries, toInt(date)) - 1;
+            return at < 0 ? null : read(entries, at);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @Method 설명 : 효력일자가 from ~ to(포함)인 변경 이력 (효력일자 순, 최대 limit건)
+     */
+    public List<AddressVersion> changes(String roadNmCtlNo, LocalDate from, LocalDate to, int limit) {
+        lock.readLock().lock();
+        try {
+            long[] entries = versions.get(roadNmCtlNo);
+            if (entries == null) {
+                return Collections.emptyList();
+            }
+            int start = upperBound(entries, toInt(from) - 1);
+            int end = upperBound(entries, toInt(to));
+            List<AddressVersion> result = new ArrayList<>(Math.max(0, Math.min(end - start, limit)));
+            for (int i = start; i < end && result.size() < limit; i++) {
+                result.add(read(entries, i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private AddressVersion read(long[] entries, int at) {
+        int effectiveDate = (int) (entries[at * 2] >>> 32);
+        int length = (int) entries[at * 2];
+        Partition partition = partitions.get((int) (entries[at * 2 + 1] >>> 40));
+        long offset = entries[at * 2 + 1] & OFFSET_MASK;
+        try {
+            ByteBuffer record = ByteBuffer.allocate(length);
+            readFully(partition.channel, record, offset);
+            AddressChangeRow row = AddressHistoryCodec.decodeRow(record.array());
+            return new AddressVersion(String.valueOf(effectiveDate), row.getStdDate(),
+                    MV_RSN_DELETE.equals(row.getMvRsnCd()), row);
+        } catch (IOException e) {
+            throw new IllegalStateException("주소 변경 이력 읽기 실패 - " + partition.date + FILE_SUFFIX + " @" + offset, e);
+        }
+    }
+
+    /**
+     * 효력일자 = 효력발생일(applyBgnDate) -> 기준일자(stdDate) -> 날짜 폴더 기준일자 순으로 유효한 첫 값
+     */
+    private static int effectiveDate(IntFunction<String> row, int unitDate) {
+        int date = parseDate(row.apply(AddressHistoryCodec.COL_APPLY_BGN_DATE));
+        if (date < 0) {
+            date = parseDate(row.apply(AddressHistoryCodec.COL_STD_DATE));
+        }
+        return date < 0 ? unitDate : date;
+    }
+
+    private static int parseDate(String value) {
+        if (value == null) {
+            return -1;
+        }
+        String v = value.trim();
+        if (v.length() != 8) {
+            return -1;
+        }
+        int n = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = v.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            n = n * 10 + (c - '0');
+        }
+        int month = n / 100 % 100;
+        int day = n % 100;
+        return month >= 1 && month <= 12 && day >= 1 && day <= 31 ? n : -1;
+    }
+
+    private static int toInt(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("이력 파일이 예상보다 짧음 (offset " + position + ")");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.addressApi.history;
+
+import com.addressApi.batch.AddressChangeRow;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * @FileName  : AddressVersion.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 도로명관리번호 1건의 변경 이력 1개 (이력 파일의 ROW 레코드)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class AddressVersion {
+    private final String effectiveDate;		// 효력일자 yyyyMMdd (효력발생일, 없으면 기준일자)
+    private final String stdDate;			// 일배치 기준일자 yyyyMMdd
+    private final boolean deleted;			// 폐지(mvRsnCd 63) 이력이면 true (이 날짜부터 주소 없음)
+    private final AddressChangeRow address;	// 변동 row 원본 (이전도로명주소 포함)
+}
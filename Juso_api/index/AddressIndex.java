@@ -0,0 +1,507 @@
+package com.addressApi.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.addressApi.batch.AddressChangeRow;
+
+/**
+ * @FileName  : AddressIndex.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 도로명주소 조회용 불변 인메모리 색인 (스냅샷 1개 = 특정 시점의 전체 주소)
+ * row 객체를 보관하지 않고 정렬된 primitive 배열로만 구성하여 수백만 건도 GC 부담 없이 상주
+ *  - 도로명관리번호 : 자릿수 + 앞자리(hi) / 뒤 18자리(lo) long 2개, 정렬 순서 = row 번호 (이진 탐색)
+ *  - 나머지 컬럼    : 전체 문자열 사전(정렬된 String[])의 id를 row x 컬럼 int 배열(cells)에 보관
+ *                     (시도/시군구/도로명/건물번호 등은 반복이 많아 사전 1개로 크게 줄어듦)
+ *  - 보조 색인      : (도로명, 건물본번, 건물부번) / 우편번호 / 법정동코드 순으로 정렬한 row 번호 배열
+ *                     같은 키의 row가 연속 구간이므로 이진 탐색 2회로 범위 조회
+ * 조회 결과는 호출마다 새 AddressChangeRow로 복원 (mvRsnCd는 보관하지 않음)
+ * 변경분 반영은 apply()로 새 스냅샷을 만들고, 서비스에서 참조를 원자적으로 교체
+ */
+public final class AddressIndex {
+
+    // cells 컬럼 순서 (도로명관리번호, 이동사유코드 제외)
+    public static final int LGDONG_OSDCD = 0;
+    public static final int SIDO_NM = 1;
+    public static final int SIGUNGU_NM = 2;
+    public static final int EPMYNDN_NM = 3;
+    public static final int RI_NM = 4;
+    public static final int MUNTN_YN = 5;
+    public static final int UPPER_HSNO = 6;
+    public static final int SUB_HSNO = 7;
+    public static final int ROAD_NM_CD = 8;
+    public static final int ROAD_NM = 9;
+    public static final int UND_GRD_YN = 10;
+    public static final int BLD_UPPER_NO = 11;
+    public static final int BLD_SUB_NO = 12;
+    public static final int ADDONG_OSDCD = 13;
+    public static final int ADDONG_EPMYNDN_NM = 14;
+    public static final int ZIP_NO = 15;
+    public static final int BEF_ROAD_NM_ADDR = 16;
+    public static final int APPLY_BGN_DATE = 17;
+    public static final int CMM_BLD_YN = 18;
+    public static final int INST_BLD_NM = 19;
+    public static final int BLD_NM = 20;
+    public static final int NOTE = 21;
+    public static final int STD_DATE = 22;
+    static final int STRIDE = 23;
+
+    private static final List<Function<AddressChangeRow, String>> GETTERS = List.of(
+            AddressChangeRow::getLgdongOsdcd, AddressChangeRow::getSidoNm, AddressChangeRow::getSigunguNm,
+            AddressChangeRow::getEpmyndnNm, AddressChangeRow::getRiNm, AddressChangeRow::getMuntnYn,
+            AddressChangeRow::getUpperHsno, AddressChangeRow::getSubHsno, AddressChangeRow::getRoadNmCd,
+            AddressChangeRow::getRoadNm, AddressChangeRow::getUndGrdYn, AddressChangeRow::getBldUpperNo,
+            AddressChangeRow::getBldSubNo, AddressChangeRow::getAddongOsdcd, AddressChangeRow::getAddongEpmyndnNm,
+            AddressChangeRow::getZipNo, AddressChangeRow::getBefRoadNmAddr, AddressChangeRow::getApplyBgnDate,
+            AddressChangeRow::getCmmBldYn, AddressChangeRow::getInstBldNm, AddressChangeRow::getBldNm,
+            AddressChangeRow::getNote, AddressChangeRow::getStdDate);
+
+    private static final List<BiConsumer<AddressChangeRow, String>> SETTERS = List.of(
+            AddressChangeRow::setLgdongOsdcd, AddressChangeRow::setSidoNm, AddressChangeRow::setSigunguNm,
+            AddressChangeRow::setEpmyndnNm, AddressChangeRow::setRiNm, AddressChangeRow::setMuntnYn,
+            AddressChangeRow::setUpperHsno, AddressChangeRow::setSubHsno, AddressChangeRow::setRoadNmCd,
+            AddressChangeRow::setRoadNm, AddressChangeRow::setUndGrdYn, AddressChangeRow::setBldUpperNo,
+            AddressChangeRow::setBldSubNo, AddressChangeRow::setAddongOsdcd, AddressChangeRow::setAddongEpmyndnNm,
+            AddressChangeRow::setZipNo, AddressChangeRow::setBefRoadNmAddr, AddressChangeRow::setApplyBgnDate,
+            AddressChangeRow::setCmmBldYn, AddressChangeRow::setInstBldNm, AddressChangeRow::setBldNm,
+            AddressChangeRow::setNote, AddressChangeRow::setStdDate);
+
+    private static final int[] ROAD_COLUMNS = { ROAD_NM, BLD_UPPER_NO, BLD_SUB_NO };
+    private static final int[] ZIP_COLUMNS = { ZIP_NO };
+    private static final int[] LGDONG_COLUMNS = { LGDONG_OSDCD };
+
+    // 도로명관리번호 키 : hi = 자릿수(6비트) << 50 | 앞자리(최대 15자리), lo = 뒤 18자리
+    private static final int WIDTH_SHIFT = 50;
+    private static final long HI_MASK = (1L << WIDTH_SHIFT) - 1;
+    private static final int LO_DIGITS = 18;
+    private static final int MAX_DIGITS = 33;
+
+    public static final AddressIndex EMPTY = new Builder().build();
+
+    private final String[] strings;		// 정렬된 문자열 사전 (id = 위치 + 1, 0 = null)
+    private final long[] keyHi;
+    private final long[] keyLo;
+    private final int[] cells;			// row * STRIDE + 컬럼 = 사전 id
+    private final int[] roadRows;
+    private final int[] zipRows;
+    private final int[] lgdongRows;
+    private final int size;
+    private final LocalDateTime builtAt = LocalDateTime.now();
+
+    private AddressIndex(String[] strings, long[] keyHi, long[] keyLo, int[] cells, int size) {
+        this.strings = strings;
+        this.keyHi = keyHi;
+        this.keyLo = keyLo;
+        this.cells = cells;
+        this.size = size;
+        this.roadRows = sortRows(ROAD_COLUMNS);
+        this.zipRows = sortRows(ZIP_COLUMNS);
+        this.lgdongRows = sortRows(LGDONG_COLUMNS);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dictionarySize() {
+        return strings.length;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * @Method 설명 : 도로명관리번호로 단건 조회 (없으면 null)
+     */
+    public AddressChangeRow get(String roadNmCtlNo) {
+        int row = find(roadNmCtlNo);
+        return row < 0 ? null : row(row);
+    }
+
+    public boolean contains(String roadNmCtlNo) {
+        return find(roadNmCtlNo) >= 0;
+    }
+
+    /**
+     * @Method 설명 : 도로명 + 건물본번(+ 건물부번) 조회
+     * @param bldSubNo null이면 본번이 같은 모든 부번
+     */
+    public List<AddressChangeRow> findByRoad(String roadNm, String bldUpperNo, String bldSubNo, int limit) {
+        int[] target = bldSubNo == null
+                ? new int[] { id(roadNm), id(bldUpperNo) }
+                : new int[] { id(roadNm), id(bldUpperNo), id(bldSubNo) };
+        return range(roadRows, ROAD_COLUMNS, target, limit);
+    }
+
+    public List<AddressChangeRow> findByZipNo(String zipNo, int limit) {
+        return range(zipRows, ZIP_COLUMNS, new int[] { id(zipNo) }, limit);
+    }
+
+    public List<AddressChangeRow> findByLgdongOsdcd(String lgdongOsdcd, int limit) {
+        return range(lgdongRows, LGDONG_COLUMNS, new int[] { id(lgdongOsdcd) }, limit);
+    }
+
+    /**
+     * @Method 설명 : 변경분을 반영한 새 스냅샷 생성 (현재 스냅샷은 그대로 유지)
+     * 기존 row는 사전 id만 새 사전으로 옮겨 복사하고, 변경 키는 기존 row를 제외한 뒤 새 row를 추가
+     * @param changes 도로명관리번호 -> 최종 row (null = 폐지)
+     */
+    public AddressIndex apply(Map<String, AddressChangeRow> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        boolean[] replaced = new boolean[size];
+        for (String roadNmCtlNo : changes.keySet()) {
+            int row = find(roadNmCtlNo);
+            if (row >= 0) {
+                replaced[row] = true;
+            }
+        }
+
+        Builder builder = new Builder(size + changes.size());
+        int[] remap = new int[strings.length + 1];
+        Arrays.fill(remap, 1, remap.length, -1);
+        for (int row = 0; row < size; row++) {
+            if (!replaced[row]) {
+                builder.copy(this, row, remap);
+            }
+        }
+        for (AddressChangeRow row : changes.values()) {
+            if (row != null) {
+                builder.add(row);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @Method 설명 : row 번호로 주소 복원
+     */
+    public AddressChangeRow row(int row) {
+        AddressChangeRow r = new AddressChangeRow();
+        r.setRoadNmCtlNo(roadNmCtlNo(row));
+        int base = row * STRIDE;
+        for (int col = 0; col < STRIDE; col++) {
+            SETTERS.get(col).accept(r, string(cells[base + col]));
+        }
+        return r;
+    }
+
+    /**
+     * @Method 설명 : row 번호의 컬럼 값 (컬럼 상수 사용)
+     */
+    public String value(int row, int column) {
+        return string(cells[row * STRIDE + column]);
+    }
+
+    /**
+     * @Method 설명 : row 번호의 컬럼 사전 id (0 = null, 같은 스냅샷 안에서만 유효)
+     */
+    int valueId(int row, int column) {
+        return cells[row * STRIDE + column];
+    }
+
+    /**
+     * @Method 설명 : 사전 id의 문자열 (id 범위 1 ~ dictionarySize())
+     */
+    String dictionaryValue(int id) {
+        return string(id);
+    }
+
+    /**
+     * @Method 설명 : AddressChangeRow에서 컬럼 상수에 해당하는 값
+     */
+    static String columnValue(AddressChangeRow row, int column) {
+        return GETTERS.get(column).apply(row);
+    }
+
+    public String roadNmCtlNo(int row) {
+        int width = (int) (keyHi[row] >>> WIDTH_SHIFT);
+        StringBuilder sb = new StringBuilder(width);
+        if (width > LO_DIGITS) {
+            appendPadded(sb, keyHi[row] & HI_MASK, width - LO_DIGITS);
+        }
+        appendPadded(sb, keyLo[row], Math.min(width, LO_DIGITS));
+        return sb.toString();
+    }
+
+    /**
+     * @Method 설명 : 도로명관리번호의 row 번호 (없으면 -1)
+     */
+    public int find(String roadNmCtlNo) {
+        long hi = keyHi(roadNmCtlNo);
+        if (hi < 0) {
+            return -1;
+        }
+        long lo = keyLo(roadNmCtlNo);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = Long.compare(keyHi[mid], hi);
+            if (c == 0) {
+                c = Long.compare(keyLo[mid], lo);
+            }
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private List<AddressChangeRow> range(int[] rows, int[] columns, int[] target, int limit) {
+        for (int id : target) {
+            if (id < 0) {
+                return Collections.emptyList();	// 사전에 없는 값
+            }
+        }
+        int from = bound(rows, columns, target, false);
+        int to = bound(rows, columns, target, true);
+        int n = Math.min(to - from, Math.max(0, limit));
+        List<AddressChangeRow> result = new ArrayList<>(n);
+        for (int i = from; i < from + n; i++) {
+            result.add(row(rows[i]));
+        }
+        return result;
+    }
+
+    /**
+     * @Method 설명 : target(앞쪽 컬럼 일부 가능)과 같은 구간의 시작(upper=false) / 끝(upper=true) 위치
+     */
+    private int bound(int[] rows, int[] columns, int[] target, boolean upper) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int c = compare(rows[mid], columns, target);
+            if (c < 0 || (upper && c == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int row, int[] columns, int[] target) {
+        int base = row * STRIDE;
+        for (int k = 0; k < target.length; k++) {
+            int id = cells[base + columns[k]];
+            if (id != target[k]) {
+                return Integer.compare(id, target[k]);
+            }
+        }
+        return 0;
+    }
+
+    private int[] sortRows(int[] columns) {
+        int[] order = PrimitiveSort.identity(size);
+        for (int k = columns.length - 1; k >= 0; k--) {
+            order = PrimitiveSort.byColumn(order, cells, STRIDE, columns[k]);
+        }
+        return order;
+    }
+
+    private String string(int id) {
+        return id == 0 ? null : strings[id - 1];
+    }
+
+    /**
+     * @Method 설명 : 문자열의 사전 id (null = 0, 사전에 없으면 -1)
+     */
+    private int id(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int pos = Arrays.binarySearch(strings, value);
+        return pos < 0 ? -1 : pos + 1;
+    }
+
+    private static void appendPadded(StringBuilder sb, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            sb.append('0');
+        }
+        sb.append(digits);
+    }
+
+    /**
+     * @Method 설명 : 도로명관리번호 앞자리 키 (숫자가 아니거나 33자리 초과면 -1)
+     */
+    static long keyHi(String roadNmCtlNo) {
+        if (roadNmCtlNo == null || roadNmCtlNo.isEmpty() || roadNmCtlNo.length() > MAX_DIGITS) {
+            return -1;
+        }
+        int len = roadNmCtlNo.length();
+        for (int i = 0; i < len; i++) {
+            char ch = roadNmCtlNo.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+        }
+        return ((long) len << WIDTH_SHIFT) | parseDigits(roadNmCtlNo, 0, Math.max(0, len - LO_DIGITS));
+    }
+
+    static long keyLo(String roadNmCtlNo) {
+        int len = roadNmCtlNo.length();
+        return parseDigits(roadNmCtlNo, Math.max(0, len - LO_DIGITS), len);
+    }
+
+    private static long parseDigits(String s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 스냅샷 구축기 (단일 스레드 사용)
+     * 같은 도로명관리번호가 여러 번 추가되면 마지막 row만 남김
+     */
+    public static final class Builder {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();	// 임시 id - 1 위치
+        private long[] hi;
+        private long[] lo;
+        private int[] cells;
+        private int size;
+        private int rejected;
+
+        public Builder() {
+            this(1024);
+        }
+
+        public Builder(int capacity) {
+            capacity = Math.max(16, capacity);
+            this.hi = new long[capacity];
+            this.lo = new long[capacity];
+            this.cells = new int[capacity * STRIDE];
+        }
+
+        /**
+         * @Method 설명 : row 추가 (도로명관리번호가 숫자가 아니면 제외하고 false)
+         */
+        public boolean add(AddressChangeRow row) {
+            long h = keyHi(row.getRoadNmCtlNo());
+            if (h < 0) {
+                rejected++;
+                return false;
+            }
+            ensureCapacity();
+            hi[size] = h;
+            lo[size] = keyLo(row.getRoadNmCtlNo());
+            int base = size * STRIDE;
+            for (int col = 0; col < STRIDE; col++) {
+                cells[base + col] = intern(GETTERS.get(col).apply(row));
+            }
+            size++;
+            return true;
+        }
+
+        /**
+         * @Method 설명 : 기존 스냅샷의 row를 문자열 복원 없이 복사
+         * @param remap 원본 사전 id -> 임시 id (-1 = 미확인, 호출 간 재사용)
+         */
+        void copy(AddressIndex source, int row, int[] remap) {
+            ensureCapacity();
+            hi[size] = source.keyHi[row];
+            lo[size] = source.keyLo[row];
+            int base = size * STRIDE;
+            int sourceBase = row * STRIDE;
+            for (int col = 0; col < STRIDE; col++) {
+                int id = source.cells[sourceBase + col];
+                int mapped = remap[id];
+                if (mapped < 0) {
+                    mapped = intern(source.string(id));
+                    remap[id] = mapped;
+                }
+                cells[base + col] = mapped;
+            }
+            size++;
+        }
+
+        public int getRejected() {
+            return rejected;
+        }
+
+        public AddressIndex build() {
+            // 사전을 정렬하고 id 재부여 (조회 시 이진 탐색)
+            String[] strings = values.toArray(new String[0]);
+            Arrays.sort(strings);
+            int[] finalId = new int[values.size() + 1];
+            for (int i = 0; i < values.size(); i++) {
+                finalId[i + 1] = Arrays.binarySearch(strings, values.get(i)) + 1;
+            }
+
+            // 도로명관리번호 순 정렬 (안정 정렬이므로 같은 키는 나중에 추가된 row가 뒤에 위치)
+            int[] order = PrimitiveSort.identity(size);
+            order = PrimitiveSort.byLong(order, lo);
+            order = PrimitiveSort.byLong(order, hi);
+
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (!sameKeyAsNext(order, i)) {
+                    unique++;
+                }
+            }
+            long[] keyHi = new long[unique];
+            long[] keyLo = new long[unique];
+            int[] packed = new int[unique * STRIDE];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (sameKeyAsNext(order, i)) {
+                    continue;
+                }
+                int row = order[i];
+                keyHi[n] = hi[row];
+                keyLo[n] = lo[row];
+                int base = n * STRIDE;
+                int sourceBase = row * STRIDE;
+                for (int col = 0; col < STRIDE; col++) {
+                    packed[base + col] = finalId[cells[sourceBase + col]];
+                }
+                n++;
+            }
+            return new AddressIndex(strings, keyHi, keyLo, packed, unique);
+        }
+
+        private boolean sameKeyAsNext(int[] order, int i) {
+            return i + 1 < size && hi[order[i]] == hi[order[i + 1]] && lo[order[i]] == lo[order[i + 1]];
+        }
+
+        private int intern(String value) {
+            if (value == null) {
+                return 0;
+            }
+            return ids.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size();
+            });
+        }
+
+        private void ensureCapacity() {
+            if (size < hi.length) {
+                return;
+            }
+            int capacity = hi.length + (hi.length >> 1);
+            hi = Arrays.copyOf(hi, capacity);
+            lo = Arrays.copyOf(lo, capacity);
+            cells = Arrays.copyOf(cells, capacity * STRIDE);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.addressApi.index;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.addressApi.batch.AddressChangeRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : AddressIndexController.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 인메모리 주소 색인 조회 API (DB를 거치지 않음)
+ *  - GET /api/address/{roadNmCtlNo}                          : 도로명관리번호 단건
+ *  - GET /api/address/road?roadNm=&bldUpperNo=[&bldSubNo=]   : 도로명 + 건물본번(+ 부번)
+ *  - GET /api/address/zip/{zipNo}                            : 우편번호
+ *  - GET /api/address/lgdong/{lgdongOsdcd}                   : 법정동코드
+ *  - GET /api/address/index                                  : 색인 상태
+ * 색인 비활성화 또는 스냅샷 적재 중에는 503, 목록 조회는 limit(최대 max-results)건까지 반환
+ */
+@RestController
+@RequestMapping("/api/address")
+@RequiredArgsConstructor
+public class AddressIndexController {
+
+    private final AddressIndexService indexService;
+
+    @GetMapping("/{roadNmCtlNo}")
+    public ResponseEntity<AddressChangeRow> get(@PathVariable String roadNmCtlNo) {
+        if (!indexService.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        AddressChangeRow row = indexService.current().get(roadNmCtlNo);
+        return row == null ? new ResponseEntity<>(HttpStatus.NOT_FOUND) : new ResponseEntity<>(row, HttpStatus.OK);
+    }
+
+    @GetMapping("/road")
+    public ResponseEntity<List<AddressChangeRow>> findByRoad(@RequestParam String roadNm,
+                                                             @RequestParam String bldUpperNo,
+                                                             @RequestParam(required = false) String bldSubNo,
+                                                             @RequestParam(required = false) Integer limit) {
+        if (!indexService.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<>(indexService.current().findByRoad(roadNm, bldUpperNo, bldSubNo, limit(limit)), HttpStatus.OK);
+    }
+
+    @GetMapping("/zip/{zipNo}")
+    public ResponseEntity<List<AddressChangeRow>> findByZipNo(@PathVariable String zipNo,
+                                                              @RequestParam(required = false) Integer limit) {
+        if (!indexService.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<>(indexService.current().findByZipNo(zipNo, limit(limit)), HttpStatus.OK);
+    }
+
+    @GetMapping("/lgdong/{lgdongOsdcd}")
+    public ResponseEntity<List<AddressChangeRow>> findByLgdongOsdcd(@PathVariable String lgdongOsdcd,
+                                                                    @RequestParam(required = false) Integer limit) {
+        if (!indexService.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<>(indexService.current().findByLgdongOsdcd(lgdongOsdcd, limit(limit)), HttpStatus.OK);
+    }
+
+    @GetMapping("/index")
+    public ResponseEntity<Map<String, Object>> status() {
+        AddressIndex index = indexService.current();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", indexService.isEnabled());
+        status.put("ready", indexService.isReady());
+        status.put("rows", index.size());
+        status.put("dictionary", index.dictionarySize());
+        status.put("builtAt", index.getBuiltAt().toString());
+        return new ResponseEntity<>(status, HttpStatus.OK);
+    }
+
+    private int limit(Integer requested) {
+        int max = indexService.getMaxResults();
+        return requested == null || requested <= 0 ? max : Math.min(requested, max);
+    }
+}
@@ -0,0 +1,24 @@
+package com.addressApi.index;
+
+import java.util.Map;
+
+import com.addressApi.batch.AddressChangeRow;
+
+/**
+ * @FileName  : AddressIndexListener.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 색인 스냅샷 교체 알림 (색인에서 파생되는 검색/상세 색인 등 갱신용)
+ * AddressIndexService가 참조를 교체한 직후 교체를 수행한 스레드에서 호출 (교체 간에는 순서대로 1회씩)
+ */
+public interface AddressIndexListener {
+
+    /**
+     * @Method 설명 : 스냅샷 교체
+     * @param before  교체 전 스냅샷 (전체 적재 시 AddressIndex.EMPTY)
+     * @param after   교체 후 스냅샷
+     * @param changes 이번 교체에 반영된 변경 (도로명관리번호 -> 최종 row, null = 폐지), 전체 적재면 null
+     */
+    void onIndexSwapped(AddressIndex before, AddressIndex after, Map<String, AddressChangeRow> changes);
+}
@@ -0,0 +1,43 @@
+package com.addressApi.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @FileName  : AddressIndexProperties.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 인메모리 주소 조회 색인 설정 (address-index.*)
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "address-index")
+@Component
+public class AddressIndexProperties {
+    private boolean enabled = false;	// true면 기동 시 스냅샷을 적재하고 일배치 적용분으로 색인을 갱신
+    private String snapshotFile;		// 초기 적재용 전체 스냅샷 (JUSUKR 변동자료 형식의 .txt 또는 _mst.txt를 담은 .zip, 미설정 시 빈 색인에서 시작)
+    private int maxResults = 100;		// 목록 조회(도로명/우편번호/법정동) 1회 최대 반환 건수
+    private Search search = new Search();
+    private DongHo dongHo = new DongHo();
+
+    @Getter @Setter
+    public static class Search {
+        private boolean enabled = true;		// 주소 색인 교체 시 자동완성 색인(AddressSearchIndex)도 함께 갱신
+        private int maxResults = 10;		// 자동완성 1회 최대 반환 건수
+        private int cacheMaxEntries = 100000;	// 스냅샷당 순위 결과 캐시 최대 건수 (가득 차면 더 담지 않음, 교체 시 비움)
+        private int cacheMaxLength = 3;		// 결과를 캐시할 최대 검색어 길이 (짧은 검색어일수록 후보가 많고 반복 조회됨)
+        private int fuzzyMinLength = 2;		// 접두어 결과가 부족할 때 오타 보정(n-gram)을 시도할 최소 검색어 길이
+    }
+
+    @Getter @Setter
+    public static class DongHo {
+        private boolean enabled = false;	// true면 기동 시 상세주소 스냅샷을 적재하고 일배치 JUSDG 적용분으로 동/호 색인(DongHoIndex)을 갱신
+        private String snapshotFile;		// 초기 적재용 전체 스냅샷 (JUSDG 형식의 .txt 또는 _dong.txt를 담은 .zip, 미설정 시 빈 색인에서 시작)
+        private boolean replaceBuildings = false;	// true면 일배치 단위에 나온 건물의 동/호 목록을 통째로 교체 (변동분이 건물 단위 전체 목록인 경우), false면 추가/갱신만
+    }
+}
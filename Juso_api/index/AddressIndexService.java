@@ -0,0 +1,273 @@
+package com.addressApi.index;
+
+import java.io.File;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.addressApi.batch.AddressChangeColumnBatch;
+import com.addressApi.batch.AddressChangeFileReader;
+import com.addressApi.batch.AddressChangeListener;
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressChangeReflector;
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.BatchStage;
+import com.addressApi.batch.BatchUnit;
+import com.addressApi.batch.ZipExtractor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : AddressIndexService.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 인메모리 주소 색인(AddressIndex) 보관 및 갱신
+ * 기동 시 전체 스냅샷(snapshot-file)을 백그라운드로 적재하고, 이후에는 일배치가 적용한 JUSUKR row로 갱신
+ *  - row 청크 알림 : 커밋된 row의 도로명관리번호별 최종 변경을 대기분에 모아 둠 (31/34 = 최신 row, 63 = 폐지)
+ *    컬럼형 배치는 폐지 row를 DTO로 복원하지 않음
+ *  - 반영 성공 알림 : 반영 프로시저 시작 전에 커밋된 대기분으로 새 스냅샷을 만든 뒤 참조를 원자적으로 교체
+ *    (반영 실패/예약 상태에서는 운영 테이블에 없는 변경이므로 교체하지 않고 다음 반영 성공까지 보류)
+ *  - 배치 종료 알림 : delta.mode=DELTA면 운영 테이블에 바로 커밋되었으므로 대기분 전체로 교체
+ * 조회 스레드는 교체 전 스냅샷을 끝까지 일관되게 읽고, 교체 후 요청부터 새 스냅샷을 사용 (조회 경로에 락 없음)
+ * 스냅샷 적재 중에 끝난 배치의 변경분은 적재 완료 직후 이어서 반영
+ * 교체 후 AddressIndexListener(검색 색인 등)에 교체 전/후 스냅샷과 변경분을 전달
+ * 지표 : juso.index.rows (현재 스냅샷 row 수), juso.index.build (스냅샷 구축 시간, trigger=snapshot|batch)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AddressIndexService implements AddressChangeListener, InitializingBean, DisposableBean {
+
+    private static final String MV_RSN_DELETE = "63";
+
+    private final AddressIndexProperties properties;
+    private final AddressChangeProperties changeProperties;
+    private final AddressChangeFileReader fileReader;
+    private final ZipExtractor zipExtractor;
+    private final MeterRegistry registry;
+    private final ObjectProvider<AddressIndexListener> indexListeners;
+
+    private final AtomicReference<AddressIndex> current = new AtomicReference<>(AddressIndex.EMPTY);
+    private final Map<String, AddressChangeRow> pending = new LinkedHashMap<>();	// 도로명관리번호 -> 최종 row (null = 폐지)
+    private final Map<String, Long> pendingSince = new HashMap<>();	// 도로명관리번호 -> 커밋 알림 시각 (epoch ms)
+    private long releasedUpTo = Long.MIN_VALUE;	// 이 시각까지 커밋된 대기분은 운영 테이블에 있음 (pending 락으로 보호)
+    private volatile boolean ready;
+    private Thread loader;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Gauge.builder("juso.index.rows", current, ref -> ref.get().size())
+                .description("rows in the current in-memory address index")
+                .register(registry);
+
+        loader = new Thread(this::loadSnapshot, "address-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (loader != null) {
+            loader.interrupt();
+        }
+    }
+
+    /**
+     * @Method 설명 : 현재 스냅샷 (조회마다 한 번 꺼내 쓰면 그 요청 안에서는 일관된 결과)
+     */
+    public AddressIndex current() {
+        return current.get();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getMaxResults() {
+        return properties.getMaxResults();
+    }
+
+    @Override
+    public void onAddressRowsApplied(BatchUnit unit, List<AddressChangeRow> rows) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (pending) {
+            for (AddressChangeRow row : rows) {
+                stage(row.getRoadNmCtlNo(), MV_RSN_DELETE.equals(row.getMvRsnCd()) ? null : row, now);
+            }
+        }
+    }
+
+    @Override
+    public void onAddressBatchApplied(BatchUnit unit, AddressChangeColumnBatch batch, int from, int to) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (pending) {
+            for (int i = from; i < to; i++) {
+                stage(batch.getRoadNmCtlNo(i), MV_RSN_DELETE.equals(batch.getMvRsnCd(i)) ? null : batch.toRow(i), now);
+            }
+        }
+    }
+
+    private void stage(String roadNmCtlNo, AddressChangeRow row, long now) {
+        pending.remove(roadNmCtlNo);	// 파일 순서상 마지막 변경이 뒤에 오도록
+        pending.put(roadNmCtlNo, row);
+        pendingSince.put(roadNmCtlNo, now);
+    }
+
+    @Override
+    public void onBatchFinished(boolean reflected) {
+        if (!properties.isEnabled() || changeProperties.getDelta().getMode() != AddressChangeProperties.ApplyMode.DELTA) {
+            return;	// TEMP 적재분은 반영 프로시저 성공(onReflected) 시 교체
+        }
+        release(System.currentTimeMillis());
+        if (ready) {
+            applyPending("batch");	// 스냅샷 적재 중이면 적재 완료 후 반영
+        }
+    }
+
+    @Override
+    public void onReflected(AddressChangeReflector.ReflectResult result) {
+        if (!properties.isEnabled() || result.getStatus() != AddressChangeReflector.Status.SUCCESS) {
+            return;
+        }
+        // 반영 시작 이후에 커밋된 row는 이번 프로시저에 포함되지 않았을 수 있으므로 다음 반영까지 보류
+        release(result.getStartedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (ready) {
+            applyPending("reflect");
+        }
+    }
+
+    private void release(long upTo) {
+        synchronized (pending) {
+            releasedUpTo = Math.max(releasedUpTo, upTo);
+        }
+    }
+
+    private void loadSnapshot() {
+        String snapshotFile = properties.getSnapshotFile();
+        if (snapshotFile == null || snapshotFile.isBlank()) {
+            log.warn("주소 색인 스냅샷 미설정 - 빈 색인에서 시작하여 일배치 적용분만 반영");
+            swap(AddressIndex.EMPTY, AddressIndex.EMPTY, null);
+        } else {
+            long startNanos = System.nanoTime();
+            try {
+                AddressIndex.Builder builder = new AddressIndex.Builder(1 << 20);
+                File file = new File(snapshotFile);
+                if (file.getName().toLowerCase().endsWith(".zip")) {
+                    try (InputStream in = zipExtractor.openTextEntry(file, BatchStage.JUSUKR.getEntrySuffix())) {
+                        fileReader.read(in, row -> addSnapshotRow(builder, row));
+                    }
+                } else {
+                    fileReader.read(file, row -> addSnapshotRow(builder, row));
+                }
+                AddressIndex index = builder.build();
+                long nanos = System.nanoTime() - startNanos;
+                recordBuild("snapshot", nanos);
+                swap(AddressIndex.EMPTY, index, null);
+                log.info("주소 색인 스냅샷 적재 완료 - {}건 (사전 {}건, 제외 {}건, {}ms): {}",
+                        index.size(), index.dictionarySize(), builder.getRejected(), nanos / 1_000_000, file);
+            } catch (Exception e) {
+                log.error("주소 색인 스냅샷 적재 실패 - 빈 색인에서 시작: {}", e.getMessage(), e);
+                swap(AddressIndex.EMPTY, AddressIndex.EMPTY, null);
+            }
+        }
+        ready = true;
+        applyPending("snapshot");
+    }
+
+    private static void addSnapshotRow(AddressIndex.Builder builder, AddressChangeRow row) {
+        if (!MV_RSN_DELETE.equals(row.getMvRsnCd())) {
+            builder.add(row);
+        }
+    }
+
+    /**
+     * @Method 설명 : 운영 테이블에 반영된 대기분으로 새 스냅샷을 만들어 교체 (교체는 이 메서드에서만 수행)
+     */
+    private synchronized void applyPending(String trigger) {
+        Map<String, AddressChangeRow> changes = new LinkedHashMap<>();
+        synchronized (pending) {
+            Iterator<Map.Entry<String, AddressChangeRow>> it = pending.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, AddressChangeRow> entry = it.next();
+                if (pendingSince.get(entry.getKey()) <= releasedUpTo) {
+                    changes.put(entry.getKey(), entry.getValue());
+                    pendingSince.remove(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        AddressIndex before = current.get();
+        AddressIndex after;
+        try {
+            after = before.apply(changes);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            // 다음 반영 시 다시 시도하도록 변경분을 되돌려 둠 (그 사이 들어온 변경이 우선)
+            synchronized (pending) {
+                changes.forEach((roadNmCtlNo, row) -> {
+                    if (!pending.containsKey(roadNmCtlNo)) {
+                        pending.put(roadNmCtlNo, row);
+                        pendingSince.put(roadNmCtlNo, Long.MIN_VALUE);
+                    }
+                });
+            }
+            throw e;
+        }
+        long nanos = System.nanoTime() - startNanos;
+        recordBuild("batch", nanos);
+        swap(before, after, changes);
+        log.info("[{}] 주소 색인 교체 - 변경 {}건, {}건 -> {}건 ({}ms)", trigger, changes.size(), before.size(), after.size(), nanos / 1_000_000);
+    }
+
+    private void swap(AddressIndex before, AddressIndex after, Map<String, AddressChangeRow> changes) {
+        current.set(after);
+        indexListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onIndexSwapped(before, after, changes);
+            } catch (Exception e) {
+                log.error("주소 색인 교체 리스너 처리 실패 - {}: {}", listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        });
+    }
+
+    private void recordBuild(String trigger, long nanos) {
+        Timer.builder("juso.index.build")
+                .description("in-memory address index build time")
+                .tag("trigger", trigger)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,41 @@
+package com.addressApi.index;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : AddressSearchController.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 명칭 자동완성 API (DB LIKE 조회 대체)
+ *  - GET /api/address/search?q=중앙&type=ROAD&limit=10
+ *    q    : 검색어 (초성 "ㅈㅇㄹ", 입력 중인 음절 "중아", 오타 "중암로" 허용)
+ *    type : SIDO / SIGUNGU / EMD / ROAD / BUILDING (생략 시 전체)
+ * 자동완성 색인 준비 전에는 503
+ */
+@RestController
+@RequestMapping("/api/address/search")
+@RequiredArgsConstructor
+public class AddressSearchController {
+
+    private final AddressSearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<AddressSuggestion>> search(@RequestParam String q,
+                                                          @RequestParam(required = false) AddressSearchIndex.TermType type,
+                                                          @RequestParam(required = false) Integer limit) {
+        if (!searchService.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<>(searchService.search(q, type, limit), HttpStatus.OK);
+    }
+}
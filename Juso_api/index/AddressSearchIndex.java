@@ -0,0 +1,656 @@
+package com.addressApi.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import com.addressApi.batch.AddressChangeRow;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * @FileName  : AddressSearchIndex.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 명칭 자동완성 색인 (시도/시군구/읍면동/도로명/건물명) - 불변 스냅샷
+ * 명칭(term)마다 사용하는 주소 수(count)를 순위로 사용하고, 공백 제거/소문자화한 검색 키로 비교
+ *  - 접두어    : 검색 키를 정렬한 배열 = 평탄화한 트라이 (접두어 하나가 연속 구간 1개, 이진 탐색 2회)
+ *                입력 중인 마지막 음절은 받침 유무와 무관하게 일치 ("중아" -> 중앙로, "간" -> 가나로)
+ *  - 초성      : 음절을 초성으로 바꾼 키를 따로 정렬 ("ㅈㅇㄹ", "중ㅇ" -> 중앙로)
+ *  - 오타 보정 : 음절 bigram 역색인(CSR 배열)으로 후보를 모은 뒤 접두어 편집 거리 1~2 이내만 채택
+ *                접두어 결과가 limit보다 적을 때만 수행
+ *  - 순위 캐시 : 짧은 검색어(cache-max-length 이하)의 결과를 스냅샷 안에서 캐시 (스냅샷 교체 시 새 캐시)
+ * 일배치 변경분은 withDelta()로 반영 - 명칭 집합이 그대로면 count 배열만 복사해 교체하고,
+ * 새 명칭이 생기거나 사용 주소가 0이 된 명칭이 있을 때만 명칭 목록(주소 row가 아님)으로 다시 구축
+ */
+public final class AddressSearchIndex {
+
+    public enum TermType {
+        SIDO(AddressIndex.SIDO_NM),
+        SIGUNGU(AddressIndex.SIGUNGU_NM),
+        EMD(AddressIndex.EPMYNDN_NM),
+        ROAD(AddressIndex.ROAD_NM),
+        BUILDING(AddressIndex.BLD_NM, AddressIndex.INST_BLD_NM);
+
+        private final int[] columns;	// AddressIndex 컬럼 상수
+
+        TermType(int... columns) {
+            this.columns = columns;
+        }
+    }
+
+    /**
+     * 명칭 식별자 (구분 + 원문)
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    public static final class TermKey {
+        private final TermType type;
+        private final String text;
+    }
+
+    private static final TermType[] TYPES = TermType.values();
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_JONG = 588;	// 초성 1개당 음절 수 (중성 21 x 종성 28)
+    private static final int JONG = 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+    // 종성 -> 다음 음절 초성 (입력 중 받침이 다음 음절로 넘어가는 경우, 겹받침 제외)
+    private static final int[] JONG_TO_CHO = {
+            -1, 0, 1, -1, 2, -1, -1, 3, 5, -1, -1, -1, -1, -1, -1, -1, 6, 7, -1, 9, 10, 11, 12, 14, 15, 16, 17, 18 };
+    private static final char GRAM_START = '\u0001';
+
+    private final String[] keys;		// 검색 키 (정렬 기준 1)
+    private final byte[] types;			// 명칭 구분 (정렬 기준 2)
+    private final String[] texts;		// 원문 (정렬 기준 3)
+    private final int[] counts;
+    private final String[] choseongKeys;	// 초성 키 정렬
+    private final int[] choseongTerms;
+    private final long[] gramKeys;		// bigram (정렬)
+    private final int[] gramStart;		// gramKeys[i]의 후보는 gramTerms[gramStart[i] ~ gramStart[i + 1])
+    private final int[] gramTerms;
+
+    private final AddressIndexProperties.Search options;
+    private final Map<String, List<AddressSuggestion>> cache = new ConcurrentHashMap<>();
+
+    private AddressSearchIndex(String[] keys, byte[] types, String[] texts, int[] counts,
+                               String[] choseongKeys, int[] choseongTerms,
+                               long[] gramKeys, int[] gramStart, int[] gramTerms,
+                               AddressIndexProperties.Search options) {
+        this.keys = keys;
+        this.types = types;
+        this.texts = texts;
+        this.counts = counts;
+        this.choseongKeys = choseongKeys;
+        this.choseongTerms = choseongTerms;
+        this.gramKeys = gramKeys;
+        this.gramStart = gramStart;
+        this.gramTerms = gramTerms;
+        this.options = options;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @Method 설명 : 자동완성 (접두어/초성 일치를 count 순으로, 부족하면 오타 보정 결과를 거리 순으로 이어 붙임)
+     * @param type null이면 전체 구분
+     */
+    public List<AddressSuggestion> search(String query, TermType type, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        boolean cacheable = q.length() <= options.getCacheMaxLength();
+        String cacheKey = null;
+        if (cacheable) {
+            cacheKey = (type == null ? "*" : type.name()) + '|' + limit + '|' + q;
+            List<AddressSuggestion> cached = cache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        TopK top = new TopK(limit);
+        if (hasJamo(q)) {
+            collectChoseong(q, type, top);
+        } else {
+            collectPrefix(q, type, top);
+        }
+        List<AddressSuggestion> result = new ArrayList<>(limit);
+        for (int i = 0; i < top.size; i++) {
+            result.add(suggestion(top.ids[i], 0));
+        }
+        if (result.size() < limit && q.length() >= options.getFuzzyMinLength() && !hasJamo(q)) {
+            collectFuzzy(q, type, limit, top, result);
+        }
+        result = Collections.unmodifiableList(result);
+
+        if (cacheable && cache.size() < options.getCacheMaxEntries()) {
+            cache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * @Method 설명 : 명칭별 사용 주소 수 변경분 반영
+     * @param delta 명칭 -> 증감 (0은 무시)
+     */
+    public AddressSearchIndex withDelta(Map<TermKey, Integer> delta) {
+        int[] updated = null;
+        for (Map.Entry<TermKey, Integer> entry : delta.entrySet()) {
+            int id = indexOf(entry.getKey());
+            int value = (id < 0 ? 0 : counts[id]) + entry.getValue();
+            if (id < 0 ? value > 0 : value <= 0) {
+                return rebuild(delta);	// 명칭 추가/삭제
+            }
+            if (id >= 0) {
+                if (updated == null) {
+                    updated = counts.clone();
+                }
+                updated[id] = value;
+            }
+        }
+        return new AddressSearchIndex(keys, types, texts, updated == null ? counts : updated,
+                choseongKeys, choseongTerms, gramKeys, gramStart, gramTerms, options);
+    }
+
+    private AddressSearchIndex rebuild(Map<TermKey, Integer> delta) {
+        Map<TermKey, Integer> terms = new HashMap<>(keys.length + delta.size());
+        for (int i = 0; i < keys.length; i++) {
+            terms.put(new TermKey(TYPES[types[i]], texts[i]), counts[i]);
+        }
+        delta.forEach((term, diff) -> terms.merge(term, diff, Integer::sum));
+        terms.values().removeIf(count -> count <= 0);
+        return build(terms, options);
+    }
+
+    // ---------------------------------------------------------------- 구축
+
+    /**
+     * @Method 설명 : 명칭별 사용 주소 수로 색인 구축
+     */
+    public static AddressSearchIndex build(Map<TermKey, Integer> terms, AddressIndexProperties.Search options) {
+        List<TermKey> sorted = new ArrayList<>(terms.size());
+        Map<TermKey, String> normalized = new HashMap<>(terms.size());
+        terms.forEach((term, count) -> {
+            String key = normalize(term.getText());
+            if (!key.isEmpty() && count > 0) {
+                normalized.put(term, key);
+                sorted.add(term);
+            }
+        });
+        sorted.sort(Comparator.<TermKey, String>comparing(normalized::get)
+                .thenComparing(term -> term.getType().ordinal())
+                .thenComparing(TermKey::getText));
+
+        int n = sorted.size();
+        String[] keys = new String[n];
+        byte[] types = new byte[n];
+        String[] texts = new String[n];
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            TermKey term = sorted.get(i);
+            keys[i] = normalized.get(term);
+            types[i] = (byte) term.getType().ordinal();
+            texts[i] = term.getText();
+            counts[i] = terms.get(term);
+        }
+
+        // 초성 키
+        String[] choseong = new String[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            choseong[i] = choseongKey(keys[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> choseong[i]));
+        String[] choseongKeys = new String[n];
+        int[] choseongTerms = new int[n];
+        for (int i = 0; i < n; i++) {
+            choseongKeys[i] = choseong[order[i]];
+            choseongTerms[i] = order[i];
+        }
+
+        // bigram 역색인 : (bigram << 31 | 명칭 id)를 정렬하면 bigram별로 명칭 id가 오름차순으로 모임
+        int total = 0;
+        for (String key : keys) {
+            total += key.length();
+        }
+        long[] pairs = new long[total];
+        int p = 0;
+        for (int id = 0; id < n; id++) {
+            String key = keys[id];
+            char prev = GRAM_START;
+            for (int j = 0; j < key.length(); j++) {
+                pairs[p++] = (gram(prev, key.charAt(j)) << 31) | id;
+                prev = key.charAt(j);
+            }
+        }
+        Arrays.sort(pairs);
+        long[] gramKeys = new long[total];
+        int[] gramStart = new int[total + 1];
+        int[] gramTerms = new int[total];
+        int grams = 0;
+        int postings = 0;
+        long last = -1;
+        for (long pair : pairs) {
+            if (pair == last) {
+                continue;	// 같은 명칭에 같은 bigram이 반복
+            }
+            long gram = pair >>> 31;
+            if (grams == 0 || gramKeys[grams - 1] != gram) {
+                gramKeys[grams] = gram;
+                gramStart[grams] = postings;
+                grams++;
+            }
+            gramTerms[postings++] = (int) (pair & Integer.MAX_VALUE);
+            last = pair;
+        }
+        gramStart[grams] = postings;
+
+        return new AddressSearchIndex(keys, types, texts, counts, choseongKeys, choseongTerms,
+                Arrays.copyOf(gramKeys, grams), Arrays.copyOf(gramStart, grams + 1), Arrays.copyOf(gramTerms, postings), options);
+    }
+
+    /**
+     * @Method 설명 : 주소 색인 전체에서 명칭별 사용 주소 수 집계 (사전 id 단위로 세므로 문자열 비교 없음)
+     */
+    public static Map<TermKey, Integer> countTerms(AddressIndex index) {
+        int dictionary = index.dictionarySize() + 1;
+        int[][] counts = new int[TYPES.length][];
+        for (TermType type : TYPES) {
+            counts[type.ordinal()] = new int[dictionary];
+        }
+        for (int row = 0; row < index.size(); row++) {
+            for (TermType type : TYPES) {
+                int previous = 0;
+                for (int column : type.columns) {
+                    int id = index.valueId(row, column);
+                    if (id != 0 && id != previous) {	// 건물명 = 등록건물명이면 1번만
+                        counts[type.ordinal()][id]++;
+                    }
+                    previous = id;
+                }
+            }
+        }
+
+        Map<TermKey, Integer> terms = new HashMap<>();
+        for (TermType type : TYPES) {
+            int[] typeCounts = counts[type.ordinal()];
+            for (int id = 1; id < dictionary; id++) {
+                if (typeCounts[id] > 0) {
+                    terms.put(new TermKey(type, index.dictionaryValue(id)), typeCounts[id]);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * @Method 설명 : 주소 1건이 사용하는 명칭을 delta에 sign만큼 더함
+     * @param column AddressIndex 컬럼 상수 -> 값
+     */
+    public static void addTerms(Map<TermKey, Integer> delta, IntFunction<String> column, int sign) {
+        for (TermType type : TYPES) {
+            String previous = null;
+            for (int col : type.columns) {
+                String text = column.apply(col);
+                if (text != null && !text.isBlank() && !text.equals(previous)) {
+                    delta.merge(new TermKey(type, text), sign, Integer::sum);
+                }
+                previous = text;
+            }
+        }
+    }
+
+    public static void addTerms(Map<TermKey, Integer> delta, AddressChangeRow row, int sign) {
+        addTerms(delta, column -> AddressIndex.columnValue(row, column), sign);
+    }
+
+    // ---------------------------------------------------------------- 조회
+
+    private void collectPrefix(String q, TermType type, TopK top) {
+        int lastPos = q.length() - 1;
+        char last = q.charAt(lastPos);
+        if (!isSyllable(last)) {
+            offerRange(keys, q, next(q), null, type, top);
+            return;
+        }
+        String head = q.substring(0, lastPos);
+        int jong = (last - HANGUL_BASE) % JONG;
+        char open = (char) (last - jong);	// 받침 없는 음절
+        if (jong == 0) {
+            offerRange(keys, head + open, head + (char) (open + JONG), null, type, top);
+            return;
+        }
+        offerRange(keys, q, next(q), null, type, top);
+        int cho = JONG_TO_CHO[jong];
+        if (cho >= 0) {
+            // 받침이 다음 음절 초성일 수 있음 : "간" -> "가나…"
+            char first = (char) (HANGUL_BASE + cho * JUNG_JONG);
+            offerRange(keys, head + open + first, head + open + (char) (first + JUNG_JONG), null, type, top);
+        }
+    }
+
+    private void collectChoseong(String q, TermType type, TopK top) {
+        String key = choseongKey(q);
+        offerRange(choseongKeys, key, next(key), q, type, top);
+    }
+
+    /**
+     * @Method 설명 : sorted[from 이상 ~ to 미만] 구간의 명칭을 top에 추가
+     * @param syllables null이 아니면 해당 위치의 음절도 일치하는 명칭만 (초성 키 구간)
+     */
+    private void offerRange(String[] sorted, String from, String to, String syllables, TermType type, TopK top) {
+        int start = lowerBound(sorted, from);
+        int end = lowerBound(sorted, to);
+        for (int i = start; i < end; i++) {
+            int id = sorted == choseongKeys ? choseongTerms[i] : i;
+            if ((type == null || types[id] == type.ordinal()) && (syllables == null || syllablesMatch(keys[id], syllables))) {
+                top.offer(id);
+            }
+        }
+    }
+
+    private void collectFuzzy(String q, TermType type, int limit, TopK prefix, List<AddressSuggestion> result) {
+        int maxDistance = q.length() <= 4 ? 1 : 2;
+        int gramCount = q.length();
+        int minShared = Math.max(1, gramCount - 2 * maxDistance);
+
+        // 검색어 bigram별 후보 구간 (gramTerms 안에서 명칭 id 오름차순)
+        int[] from = new int[gramCount];
+        int[] to = new int[gramCount];
+        int k = 0;
+        char prev = GRAM_START;
+        for (int j = 0; j < q.length(); j++) {
+            int pos = Arrays.binarySearch(gramKeys, gram(prev, q.charAt(j)));
+            prev = q.charAt(j);
+            if (pos >= 0) {
+                from[k] = gramStart[pos];
+                to[k] = gramStart[pos + 1];
+                k++;
+            }
+        }
+        if (k < minShared) {
+            return;
+        }
+
+        // minShared개 이상 공유하는 명칭은 짧은 구간 (k - minShared + 1)개 중 하나에는 반드시 있으므로
+        // 짧은 구간만 병합해 후보를 만들고, 긴 구간(예: "아파")은 이진 탐색으로 포함 여부만 확인
+        Integer[] byLength = new Integer[k];
+        for (int i = 0; i < k; i++) {
+            byLength[i] = i;
+        }
+        final int[] start = from;
+        final int[] stop = to;
+        Arrays.sort(byLength, Comparator.comparingInt(i -> stop[i] - start[i]));
+        int scanned = k - minShared + 1;
+        int[] cursor = new int[scanned];
+        int[] end = new int[scanned];
+        for (int i = 0; i < scanned; i++) {
+            cursor[i] = from[byLength[i]];
+            end[i] = to[byLength[i]];
+        }
+
+        List<int[]> candidates = new ArrayList<>();	// {id, distance}
+        while (true) {
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i < scanned; i++) {
+                if (cursor[i] < end[i] && gramTerms[cursor[i]] < min) {
+                    min = gramTerms[cursor[i]];
+                }
+            }
+            if (min == Integer.MAX_VALUE) {
+                break;
+            }
+            int shared = 0;
+            for (int i = 0; i < scanned; i++) {
+                if (cursor[i] < end[i] && gramTerms[cursor[i]] == min) {
+                    shared++;
+                    cursor[i]++;
+                }
+            }
+            if ((type != null && types[min] != type.ordinal()) || prefix.contains(min)) {
+                continue;
+            }
+            for (int i = scanned; i < k && shared < minShared; i++) {
+                int list = byLength[i];
+                if (Arrays.binarySearch(gramTerms, from[list], to[list], min) >= 0) {
+                    shared++;
+                }
+            }
+            if (shared < minShared) {
+                continue;
+            }
+            int distance = prefixDistance(q, keys[min], maxDistance);
+            if (distance > 0 && distance <= maxDistance) {
+                candidates.add(new int[] { min, distance });
+            }
+        }
+
+        candidates.sort((a, b) -> a[1] != b[1] ? Integer.compare(a[1], b[1]) : rank(a[0], b[0]));
+        for (int i = 0; i < candidates.size() && result.size() < limit; i++) {
+            result.add(suggestion(candidates.get(i)[0], candidates.get(i)[1]));
+        }
+    }
+
+    /**
+     * @Method 설명 : 명칭 2개의 순위 비교 (사용 주소 수 많은 순 -> 짧은 순 -> 가나다 순)
+     */
+    private int rank(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return Integer.compare(counts[b], counts[a]);
+        }
+        if (keys[a].length() != keys[b].length()) {
+            return Integer.compare(keys[a].length(), keys[b].length());
+        }
+        return keys[a].compareTo(keys[b]);
+    }
+
+    private AddressSuggestion suggestion(int id, int distance) {
+        return new AddressSuggestion(texts[id], TYPES[types[id]], counts[id], distance);
+    }
+
+    private int indexOf(TermKey term) {
+        String key = normalize(term.getText());
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = keys[mid].compareTo(key);
+            if (c == 0) {
+                c = Integer.compare(types[mid], term.getType().ordinal());
+            }
+            if (c == 0) {
+                c = texts[mid].compareTo(term.getText());
+            }
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 순위 상위 limit개 명칭 id (삽입 정렬, limit은 수십 건 이내)
+     */
+    private final class TopK {
+        private final int[] ids;
+        private int size;
+
+        private TopK(int limit) {
+            this.ids = new int[limit];
+        }
+
+        void offer(int id) {
+            if (size == ids.length && rank(id, ids[size - 1]) >= 0) {
+                return;
+            }
+            int pos = size == ids.length ? size - 1 : size++;
+            while (pos > 0 && rank(id, ids[pos - 1]) < 0) {
+                ids[pos] = ids[pos - 1];
+                pos--;
+            }
+            ids[pos] = id;
+        }
+
+        boolean contains(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // ---------------------------------------------------------------- 문자열 유틸
+
+    /**
+     * @Method 설명 : 검색 키 (공백 제거, 영문 소문자)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (!Character.isWhitespace(ch)) {
+                sb.append(Character.toLowerCase(ch));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @Method 설명 : 음절을 초성 자모로 바꾼 키 (그 외 문자는 그대로)
+     */
+    static String choseongKey(String key) {
+        char[] chars = key.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isSyllable(chars[i])) {
+                chars[i] = CHOSEONG[(chars[i] - HANGUL_BASE) / JUNG_JONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @Method 설명 : 검색어의 음절 위치가 명칭과 일치하는지 (마지막 음절은 받침 없이 입력 중이면 초성+중성만 비교)
+     */
+    private static boolean syllablesMatch(String key, String q) {
+        if (key.length() < q.length()) {
+            return false;
+        }
+        int lastPos = q.length() - 1;
+        for (int i = 0; i <= lastPos; i++) {
+            char qc = q.charAt(i);
+            if (!isSyllable(qc)) {
+                continue;	// 자모/기타 문자는 초성 키 구간에서 이미 일치
+            }
+            char kc = key.charAt(i);
+            if (kc == qc) {
+                continue;
+            }
+            boolean open = i == lastPos && (qc - HANGUL_BASE) % JONG == 0;
+            if (!open || !isSyllable(kc) || (kc - HANGUL_BASE) / JONG != (qc - HANGUL_BASE) / JONG) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Method 설명 : 검색어와 명칭 앞부분 사이의 최소 편집 거리 (max 초과 시 max + 1)
+     */
+    static int prefixDistance(String q, String key, int max) {
+        int n = q.length();
+        int m = Math.min(key.length(), n + max);
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            cur[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= m; j++) {
+                int cost = q.charAt(i - 1) == key.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, cur[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = prev;
+            prev = cur;
+            cur = swap;
+        }
+        int best = max + 1;
+        for (int j = 0; j <= m; j++) {
+            best = Math.min(best, prev[j]);
+        }
+        return best;
+    }
+
+    private static boolean hasJamo(String q) {
+        for (int i = 0; i < q.length(); i++) {
+            char ch = q.charAt(i);
+            if (ch >= 'ㄱ' && ch <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= HANGUL_BASE && ch <= HANGUL_LAST;
+    }
+
+    private static long gram(char a, char b) {
+        return ((long) a << 16) | b;
+    }
+
+    /**
+     * @Method 설명 : prefix로 시작하는 문자열 구간의 끝 (마지막 문자 + 1)
+     */
+    private static String next(String prefix) {
+        int last = prefix.length() - 1;
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
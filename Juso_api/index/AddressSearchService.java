@@ -0,0 +1,98 @@
+package com.addressApi.index;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+import com.addressApi.batch.AddressChangeRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : AddressSearchService.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 명칭 자동완성 색인(AddressSearchIndex) 보관 및 갱신
+ * 주소 색인 교체 알림을 받아 함께 갱신
+ *  - 전체 적재 : 새 주소 색인에서 명칭별 사용 주소 수를 집계하여 구축
+ *  - 일배치    : 변경된 도로명관리번호마다 교체 전 row의 명칭은 -1, 새 row의 명칭은 +1 하여 증분 반영
+ *  - 증분은 현재 자동완성 색인이 교체 전 주소 색인(before)에서 만들어진 경우에만 적용하고,
+ *    이전 갱신 실패 등으로 기준이 어긋났거나 증분 반영이 실패하면 새 주소 색인(after)에서 다시 구축 (건수 누적 오차 방지)
+ * 조회는 현재 스냅샷 참조만 읽으므로 갱신 중에도 대기 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AddressSearchService implements AddressIndexListener {
+
+    private final AddressIndexProperties properties;
+
+    private final AtomicReference<AddressSearchIndex> current = new AtomicReference<>();
+    private AddressIndex basis;		// current를 만든 기준 주소 색인 (onIndexSwapped 안에서만 읽고 씀)
+
+    @Override
+    public synchronized void onIndexSwapped(AddressIndex before, AddressIndex after, Map<String, AddressChangeRow> changes) {
+        AddressIndexProperties.Search search = properties.getSearch();
+        if (!search.isEnabled()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        AddressSearchIndex previous = current.get();
+        AddressSearchIndex next = null;
+        if (changes != null && previous != null && basis == before) {
+            try {
+                next = previous.withDelta(delta(before, after, changes));
+            } catch (RuntimeException e) {
+                log.warn("주소 자동완성 색인 증분 반영 실패 - 전체 재구축: {}", e.getMessage(), e);
+            }
+        } else if (changes != null && previous != null) {
+            log.warn("주소 자동완성 색인 기준 불일치 (이전 갱신 누락) - 전체 재구축");
+        }
+        if (next == null) {
+            next = AddressSearchIndex.build(AddressSearchIndex.countTerms(after), search);
+        }
+        current.set(next);
+        basis = after;
+        log.info("주소 자동완성 색인 교체 - 명칭 {}건 ({}ms)", next.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 변경된 도로명관리번호마다 교체 전 row의 명칭은 -1, 새 row의 명칭은 +1
+     */
+    private static Map<AddressSearchIndex.TermKey, Integer> delta(AddressIndex before, AddressIndex after, Map<String, AddressChangeRow> changes) {
+        Map<AddressSearchIndex.TermKey, Integer> delta = new HashMap<>();
+        changes.forEach((roadNmCtlNo, row) -> {
+            int oldRow = before.find(roadNmCtlNo);
+            if (oldRow >= 0) {
+                AddressSearchIndex.addTerms(delta, column -> before.value(oldRow, column), -1);
+            }
+            if (row != null && after.contains(roadNmCtlNo)) {
+                AddressSearchIndex.addTerms(delta, row, 1);
+            }
+        });
+        delta.values().removeIf(diff -> diff == 0);
+        return delta;
+    }
+
+    public boolean isReady() {
+        return current.get() != null;
+    }
+
+    /**
+     * @Method 설명 : 자동완성 (limit은 search.max-results 이내로 보정)
+     */
+    public List<AddressSuggestion> search(String query, AddressSearchIndex.TermType type, Integer limit) {
+        AddressSearchIndex index = current.get();
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        int max = properties.getSearch().getMaxResults();
+        return index.search(query, type, limit == null || limit <= 0 ? max : Math.min(limit, max));
+    }
+}
@@ -0,0 +1,22 @@
+package com.addressApi.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * @FileName  : AddressSuggestion.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 자동완성 결과 1건
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class AddressSuggestion {
+    private final String text;							// 표시 명칭 (원문)
+    private final AddressSearchIndex.TermType type;		// 명칭 구분 (시도/시군구/읍면동/도로명/건물명)
+    private final int count;							// 이 명칭을 사용하는 주소 수 (순위 기준)
+    private final int distance;							// 오타 보정 거리 (0 = 접두어 일치)
+}
@@ -0,0 +1,556 @@
+package com.addressApi.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.addressApi.batch.AddressDongDetailRow;
+
+/**
+ * @FileName  : DongHoIndex.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 상세주소(JUSDG) 건물 -> 동 -> 호 계층 색인 (불변 스냅샷)
+ * 건물은 법정동코드(시도+시군구+읍면동+리) + 건물본번/부번을 long 1개로 묶은 키로 식별하고
+ * 동/호 문자열은 정렬된 사전의 int id로 바꿔 원시 배열에 CSR 형태로 저장 (row 객체 없음)
+ *  - buildings : 건물 키 -> 건물 번호 (LongIntHashMap)
+ *  - 건물 b의 동 : dongIds[dongStart[b] .. dongStart[b + 1]) (동 id 오름차순)
+ *  - 동 d의 호   : hoIds / floors[hoStart[d] .. hoStart[d + 1]) (호 id 오름차순)
+ * 조회는 해시 1회 + 건물 안에서의 이진 탐색이므로 건물 규모와 무관하게 수 마이크로초
+ * 동/호는 공백 제거, 대문자, 끝의 "동"/"호" 제거로 정규화하여 저장/비교 ("101동" = "101", "1501 호" = "1501")
+ * 일배치 변경은 apply로 새 스냅샷을 만들며, 변경 없는 건물은 배열 구간을 그대로 복사
+ */
+public final class DongHoIndex {
+
+    public static final DongHoIndex EMPTY = new Emitter(new String[0]).finish();
+
+    static final int NO_FLOOR = Integer.MIN_VALUE;
+
+    private static final int MAIN_BITS = 17;	// 건물본번 < 131072
+    private static final int SUB_BITS = 13;		// 건물부번 < 8192
+    private static final long MAX_CODE = 1L << (Long.SIZE - 1 - MAIN_BITS - SUB_BITS);
+
+    private final String[] strings;			// 동/호 사전 (정렬, id = 위치 + 1, 0 = 빈 값)
+    private final long[] buildingKeys;		// 정렬된 건물 키 (건물 번호 순)
+    private final LongIntHashMap buildings;
+    private final int[] dongStart;
+    private final int[] dongIds;
+    private final int[] hoStart;
+    private final int[] hoIds;
+    private final int[] floors;				// 호별 층 (NO_FLOOR = 알 수 없음)
+    private final long builtAt = System.currentTimeMillis();
+
+    private DongHoIndex(String[] strings, long[] buildingKeys, LongIntHashMap buildings,
+                        int[] dongStart, int[] dongIds, int[] hoStart, int[] hoIds, int[] floors) {
+        this.strings = strings;
+        this.buildingKeys = buildingKeys;
+        this.buildings = buildings;
+        this.dongStart = dongStart;
+        this.dongIds = dongIds;
+        this.hoStart = hoStart;
+        this.hoIds = hoIds;
+        this.floors = floors;
+    }
+
+    /**
+     * @Method 설명 : 전체 상세주소(호) 수
+     */
+    public int size() {
+        return hoIds.length;
+    }
+
+    public int buildingCount() {
+        return buildingKeys.length;
+    }
+
+    public int dictionarySize() {
+        return strings.length;
+    }
+
+    public long getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * @Method 설명 : 건물 키 (코드/번호가 형식에 맞지 않으면 -1)
+     * @param riCd     리코드 (없으면 00)
+     * @param bldSubNo 건물부번 (없으면 0)
+     */
+    public static long buildingKey(String sidoCd, String sigunguCd, String emdCd, String riCd,
+                                   String bldMainNo, String bldSubNo) {
+        long sido = code(sidoCd, 2, false);
+        long sigungu = code(sigunguCd, 3, false);
+        long emd = code(emdCd, 3, false);
+        long ri = code(riCd, 2, true);
+        long main = number(bldMainNo, false);
+        long sub = number(bldSubNo, true);
+        if (sido < 0 || sigungu < 0 || emd < 0 || ri < 0 || main < 0 || sub < 0
+                || main >= 1L << MAIN_BITS || sub >= 1L << SUB_BITS) {
+            return -1;
+        }
+        long code = ((sido * 1000 + sigungu) * 1000 + emd) * 100 + ri;
+        if (code >= MAX_CODE) {
+            return -1;
+        }
+        return code << (MAIN_BITS + SUB_BITS) | main << SUB_BITS | sub;
+    }
+
+    public static long buildingKey(AddressDongDetailRow row) {
+        return buildingKey(row.getSidoCd(), row.getSigunguCd(), row.getEmdCd(), row.getRiCd(),
+                row.getBldMainNo(), row.getBldSubNo());
+    }
+
+    /**
+     * 고정 자릿수 숫자 코드 (형식 오류는 -1, optional이면 빈 값은 0)
+     */
+    private static long code(String value, int width, boolean optional) {
+        String v = value == null ? "" : value.trim();
+        if (v.isEmpty()) {
+            return optional ? 0 : -1;
+        }
+        return v.length() == width ? digits(v) : -1;
+    }
+
+    /**
+     * 건물 번호 (형식 오류는 -1, optional이면 빈 값은 0)
+     */
+    private static long number(String value, boolean optional) {
+        String v = value == null ? "" : value.trim();
+        if (v.isEmpty()) {
+            return optional ? 0 : -1;
+        }
+        return v.length() <= 6 ? digits(v) : -1;
+    }
+
+    private static long digits(String v) {
+        long n = 0;
+        for (int i = 0; i < v.length(); i++) {
+            char c = v.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            n = n * 10 + (c - '0');
+        }
+        return n;
+    }
+
+    public boolean containsBuilding(long buildingKey) {
+        return buildingKey >= 0 && buildings.get(buildingKey) >= 0;
+    }
+
+    /**
+     * @Method 설명 : 동/호 존재 여부 (ho가 비어 있으면 동 존재 여부, 단일 동 건물은 dong을 비움)
+     */
+    public boolean exists(long buildingKey, String dong, String ho) {
+        int b = buildingKey < 0 ? -1 : buildings.get(buildingKey);
+        if (b < 0) {
+            return false;
+        }
+        int dongId = id(normalizeDong(dong));
+        int d = dongId < 0 ? -1 : Arrays.binarySearch(dongIds, dongStart[b], dongStart[b + 1], dongId);
+        if (d < 0) {
+            return false;
+        }
+        String normalizedHo = normalizeHo(ho);
+        if (normalizedHo == null) {
+            return true;
+        }
+        int hoId = id(normalizedHo);
+        return hoId > 0 && Arrays.binarySearch(hoIds, hoStart[d], hoStart[d + 1], hoId) >= 0;
+    }
+
+    /**
+     * @Method 설명 : 건물의 상세주소 전체 (동, 호 순)
+     */
+    public List<DongHoUnit> units(long buildingKey) {
+        return units(buildingKey, NO_FLOOR, false);
+    }
+
+    /**
+     * @Method 설명 : 건물의 특정 층 상세주소 (지하는 음수)
+     */
+    public List<DongHoUnit> unitsOnFloor(long buildingKey, int floor) {
+        return units(buildingKey, floor, true);
+    }
+
+    private List<DongHoUnit> units(long buildingKey, int floor, boolean filter) {
+        int b = buildingKey < 0 ? -1 : buildings.get(buildingKey);
+        if (b < 0) {
+            return Collections.emptyList();
+        }
+        List<DongHoUnit> result = new ArrayList<>();
+        for (int d = dongStart[b]; d < dongStart[b + 1]; d++) {
+            String dong = string(dongIds[d]);
+            for (int h = hoStart[d]; h < hoStart[d + 1]; h++) {
+                if (!filter || floors[h] == floor) {
+                    result.add(new DongHoUnit(dong, string(hoIds[h]), floors[h] == NO_FLOOR ? null : floors[h]));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Method 설명 : 건물의 동 목록
+     */
+    public List<String> dongs(long buildingKey) {
+        int b = buildingKey < 0 ? -1 : buildings.get(buildingKey);
+        if (b < 0) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(dongStart[b + 1] - dongStart[b]);
+        for (int d = dongStart[b]; d < dongStart[b + 1]; d++) {
+            result.add(string(dongIds[d]));
+        }
+        return result;
+    }
+
+    /**
+     * @Method 설명 : 변경분을 반영한 새 스냅샷 (현재 스냅샷은 그대로)
+     * @param changes 건물 키 -> 해당 건물의 변동 row (파일 순서, 같은 동/호는 마지막 row의 층이 우선)
+     * @param replace true면 변경된 건물의 기존 동/호를 버리고 변동 row로 교체, false면 기존 동/호에 추가/갱신
+     */
+    public DongHoIndex apply(Map<Long, List<AddressDongDetailRow>> changes, boolean replace) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+
+        // 새 동/호 문자열이 있으면 사전을 넓히고 기존 id -> 새 id 변환표 생성 (정렬 순서 유지)
+        TreeSet<String> added = new TreeSet<>();
+        for (List<AddressDongDetailRow> rows : changes.values()) {
+            for (AddressDongDetailRow row : rows) {
+                addIfAbsent(added, normalizeDong(row.getDong()));
+                addIfAbsent(added, normalizeHo(row.getHo()));
+            }
+        }
+        String[] dictionary = strings;
+        int[] remap = null;
+        if (!added.isEmpty()) {
+            dictionary = Arrays.copyOf(strings, strings.length + added.size());
+            int n = strings.length;
+            for (String value : added) {
+                dictionary[n++] = value;
+            }
+            Arrays.sort(dictionary);
+            remap = new int[strings.length + 1];
+            for (int i = 0; i < strings.length; i++) {
+                remap[i + 1] = Arrays.binarySearch(dictionary, strings[i]) + 1;
+            }
+        }
+
+        long[] touched = changes.keySet().stream().mapToLong(Long::longValue).filter(key -> key >= 0).sorted().toArray();
+        Emitter out = new Emitter(dictionary);
+        int b = 0;
+        int t = 0;
+        while (b < buildingKeys.length || t < touched.length) {
+            if (t == touched.length || (b < buildingKeys.length && buildingKeys[b] < touched[t])) {
+                copyBuilding(out, b++, remap);
+                continue;
+            }
+            long key = touched[t++];
+            LongIntHashMap units = new LongIntHashMap(16);
+            if (b < buildingKeys.length && buildingKeys[b] == key) {
+                if (!replace) {
+                    for (int d = dongStart[b]; d < dongStart[b + 1]; d++) {
+                        for (int h = hoStart[d]; h < hoStart[d + 1]; h++) {
+                            units.put(pack(map(remap, dongIds[d]), map(remap, hoIds[h])), floors[h]);
+                        }
+                    }
+                }
+                b++;
+            }
+            for (AddressDongDetailRow row : changes.get(key)) {
+                units.put(pack(id(dictionary, normalizeDong(row.getDong())), id(dictionary, normalizeHo(row.getHo()))),
+                        parseFloor(row.getFloorNo()));
+            }
+            long[] packed = units.keys();
+            if (packed.length == 0) {
+                continue;	// 교체 모드에서 변동 row가 비어 있으면 건물 제거
+            }
+            Arrays.sort(packed);
+            out.building(key);
+            for (long p : packed) {
+                out.unit(dongOf(p), hoOf(p), units.get(p));
+            }
+        }
+        return out.finish();
+    }
+
+    private void copyBuilding(Emitter out, int b, int[] remap) {
+        out.building(buildingKeys[b]);
+        for (int d = dongStart[b]; d < dongStart[b + 1]; d++) {
+            int dong = map(remap, dongIds[d]);
+            for (int h = hoStart[d]; h < hoStart[d + 1]; h++) {
+                out.unit(dong, map(remap, hoIds[h]), floors[h]);
+            }
+        }
+    }
+
+    private void addIfAbsent(TreeSet<String> added, String value) {
+        if (value != null && id(value) < 0) {
+            added.add(value);
+        }
+    }
+
+    private static int map(int[] remap, int id) {
+        return remap == null ? id : remap[id];
+    }
+
+    private String string(int id) {
+        return id == 0 ? null : strings[id - 1];
+    }
+
+    /**
+     * 정규화된 값의 사전 id (빈 값 0, 사전에 없으면 -1)
+     */
+    private int id(String normalized) {
+        return id(strings, normalized);
+    }
+
+    private static int id(String[] dictionary, String normalized) {
+        if (normalized == null) {
+            return 0;
+        }
+        int pos = Arrays.binarySearch(dictionary, normalized);
+        return pos < 0 ? -1 : pos + 1;
+    }
+
+    private static long pack(int dongId, int hoId) {
+        return (long) dongId << 32 | hoId;
+    }
+
+    private static int dongOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int hoOf(long packed) {
+        return (int) packed;
+    }
+
+    static String normalizeDong(String value) {
+        return normalize(value, '동');
+    }
+
+    static String normalizeHo(String value) {
+        return normalize(value, '호');
+    }
+
+    /**
+     * 공백 제거 + 대문자 + 끝의 단위 글자 1개 제거 (남는 값이 없으면 그대로)
+     */
+    private static String normalize(String value, char unit) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toUpperCase(c));
+            }
+        }
+        int len = sb.length();
+        if (len > 1 && sb.charAt(len - 1) == unit) {
+            sb.setLength(len - 1);
+        }
+        return sb.length() == 0 ? null : sb.toString();
+    }
+
+    /**
+     * @Method 설명 : 층번호 파싱 ("15", "15층", "15F", "B1", "지하1", "-1", 형식 오류는 NO_FLOOR)
+     */
+    static int parseFloor(String value) {
+        String v = normalize(value, '층');
+        if (v == null) {
+            return NO_FLOOR;
+        }
+        boolean under = false;
+        if (v.startsWith("지하")) {
+            under = true;
+            v = v.substring(2);
+        } else if (v.startsWith("B") || v.startsWith("-")) {
+            under = true;
+            v = v.substring(1);
+        }
+        if (v.endsWith("F")) {
+            v = v.substring(0, v.length() - 1);
+        }
+        if (v.isEmpty() || v.length() > 4) {
+            return NO_FLOOR;
+        }
+        int n = 0;
+        for (int i = 0; i < v.length(); i++) {
+            char c = v.charAt(i);
+            if (c < '0' || c > '9') {
+                return NO_FLOOR;
+            }
+            n = n * 10 + (c - '0');
+        }
+        return under ? -n : n;
+    }
+
+    /**
+     * 건물 키 오름차순, 건물 안에서는 (동 id, 호 id) 오름차순으로 들어오는 상세주소를 CSR 배열로 적재
+     */
+    private static final class Emitter {
+        private final String[] strings;
+        private long[] keys = new long[64];
+        private int[] dongStart = new int[64];
+        private int[] dongIds = new int[64];
+        private int[] hoStart = new int[64];
+        private int[] hoIds = new int[256];
+        private int[] floors = new int[256];
+        private int buildings;
+        private int dongs;
+        private int hos;
+        private int lastDong;
+
+        private Emitter(String[] strings) {
+            this.strings = strings;
+        }
+
+        void building(long key) {
+            if (buildings == keys.length) {
+                keys = Arrays.copyOf(keys, buildings * 2);
+                dongStart = Arrays.copyOf(dongStart, buildings * 2);
+            }
+            keys[buildings] = key;
+            dongStart[buildings] = dongs;
+            buildings++;
+            lastDong = -1;
+        }
+
+        void unit(int dong, int ho, int floor) {
+            if (dong != lastDong) {
+                if (dongs == dongIds.length) {
+                    dongIds = Arrays.copyOf(dongIds, dongs * 2);
+                    hoStart = Arrays.copyOf(hoStart, dongs * 2);
+                }
+                dongIds[dongs] = dong;
+                hoStart[dongs] = hos;
+                dongs++;
+                lastDong = dong;
+            }
+            if (hos == hoIds.length) {
+                hoIds = Arrays.copyOf(hoIds, hos * 2);
+                floors = Arrays.copyOf(floors, hos * 2);
+            }
+            hoIds[hos] = ho;
+            floors[hos] = floor;
+            hos++;
+        }
+
+        DongHoIndex finish() {
+            int[] dongEnd = Arrays.copyOf(dongStart, buildings + 1);
+            dongEnd[buildings] = dongs;
+            int[] hoEnd = Arrays.copyOf(hoStart, dongs + 1);
+            hoEnd[dongs] = hos;
+            LongIntHashMap map = new LongIntHashMap(buildings);
+            for (int b = 0; b < buildings; b++) {
+                map.put(keys[b], b);
+            }
+            return new DongHoIndex(strings, Arrays.copyOf(keys, buildings), map, dongEnd,
+                    Arrays.copyOf(dongIds, dongs), hoEnd, Arrays.copyOf(hoIds, hos), Arrays.copyOf(floors, hos));
+        }
+    }
+
+    /**
+     * 전체 스냅샷 구축 (파일 순서로 row를 모은 뒤 정렬 1회, 같은 건물/동/호는 마지막 row가 우선)
+     */
+    public static final class Builder {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();	// 임시 id - 1 위치
+        private long[] keys;
+        private int[] dongs;
+        private int[] hos;
+        private int[] floors;
+        private int size;
+        private int rejected;
+
+        public Builder() {
+            this(1024);
+        }
+
+        public Builder(int capacity) {
+            capacity = Math.max(16, capacity);
+            this.keys = new long[capacity];
+            this.dongs = new int[capacity];
+            this.hos = new int[capacity];
+            this.floors = new int[capacity];
+        }
+
+        /**
+         * @Method 설명 : row 추가 (건물 코드/번호 형식이 맞지 않으면 제외하고 false)
+         */
+        public boolean add(AddressDongDetailRow row) {
+            long key = buildingKey(row);
+            if (key < 0) {
+                rejected++;
+                return false;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                dongs = Arrays.copyOf(dongs, size * 2);
+                hos = Arrays.copyOf(hos, size * 2);
+                floors = Arrays.copyOf(floors, size * 2);
+            }
+            keys[size] = key;
+            dongs[size] = intern(normalizeDong(row.getDong()));
+            hos[size] = intern(normalizeHo(row.getHo()));
+            floors[size] = parseFloor(row.getFloorNo());
+            size++;
+            return true;
+        }
+
+        public int getRejected() {
+            return rejected;
+        }
+
+        private int intern(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                values.add(value);
+                id = values.size();
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        public DongHoIndex build() {
+            String[] sorted = values.toArray(new String[0]);
+            Arrays.sort(sorted);
+            int[] remap = new int[values.size() + 1];
+            for (int i = 0; i < values.size(); i++) {
+                remap[i + 1] = Arrays.binarySearch(sorted, values.get(i)) + 1;
+            }
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = pack(remap[dongs[i]], remap[hos[i]]);
+            }
+
+            int[] order = PrimitiveSort.byLong(PrimitiveSort.byLong(PrimitiveSort.identity(size), packed), keys);
+            Emitter out = new Emitter(sorted);
+            long lastKey = -1;
+            for (int n = 0; n < size; n++) {
+                int row = order[n];
+                if (n + 1 < size && keys[order[n + 1]] == keys[row] && packed[order[n + 1]] == packed[row]) {
+                    continue;	// 안정 정렬이므로 같은 건물/동/호 중 파일상 마지막 row만 남김
+                }
+                if (keys[row] != lastKey) {
+                    out.building(keys[row]);
+                    lastKey = keys[row];
+                }
+                out.unit(dongOf(packed[row]), hoOf(packed[row]), floors[row]);
+            }
+            return out.finish();
+        }
+    }
+}
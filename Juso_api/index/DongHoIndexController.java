@@ -0,0 +1,89 @@
+package com.addressApi.index;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @FileName  : DongHoIndexController.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 상세주소 동/호 색인 조회 API (주문 시 공동주택 동/호 검증용, DB를 거치지 않음)
+ * 건물 식별 파라미터 : sidoCd, sigunguCd, emdCd, [riCd], bldMainNo, [bldSubNo]
+ *  - GET /api/address/building/units?...[&floor=15]   : 건물의 동/호 전체 (floor 지정 시 해당 층만, 지하는 음수)
+ *  - GET /api/address/building/exists?...[&dong=][&ho=] : 동/호 존재 여부 (ho 생략 시 동 존재 여부)
+ *  - GET /api/address/building/index                  : 색인 상태
+ * 건물 코드/번호 형식 오류는 400, 색인 비활성화 또는 스냅샷 적재 중에는 503
+ */
+@RestController
+@RequestMapping("/api/address/building")
+@RequiredArgsConstructor
+public class DongHoIndexController {
+
+    private final DongHoIndexService dongHoService;
+
+    @GetMapping("/units")
+    public ResponseEntity<List<DongHoUnit>> units(@RequestParam String sidoCd,
+                                                  @RequestParam String sigunguCd,
+                                                  @RequestParam String emdCd,
+                                                  @RequestParam(required = false) String riCd,
+                                                  @RequestParam String bldMainNo,
+                                                  @RequestParam(required = false) String bldSubNo,
+                                                  @RequestParam(required = false) Integer floor) {
+        if (!dongHoService.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        long key = DongHoIndex.buildingKey(sidoCd, sigunguCd, emdCd, riCd, bldMainNo, bldSubNo);
+        if (key < 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        DongHoIndex index = dongHoService.current();
+        return new ResponseEntity<>(floor == null ? index.units(key) : index.unitsOnFloor(key, floor), HttpStatus.OK);
+    }
+
+    @GetMapping("/exists")
+    public ResponseEntity<Map<String, Object>> exists(@RequestParam String sidoCd,
+                                                      @RequestParam String sigunguCd,
+                                                      @RequestParam String emdCd,
+                                                      @RequestParam(required = false) String riCd,
+                                                      @RequestParam String bldMainNo,
+                                                      @RequestParam(required = false) String bldSubNo,
+                                                      @RequestParam(required = false) String dong,
+                                                      @RequestParam(required = false) String ho) {
+        if (!dongHoService.isReady()) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        long key = DongHoIndex.buildingKey(sidoCd, sigunguCd, emdCd, riCd, bldMainNo, bldSubNo);
+        if (key < 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        DongHoIndex index = dongHoService.current();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("building", index.containsBuilding(key));
+        result.put("exists", index.exists(key, dong, ho));
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @GetMapping("/index")
+    public ResponseEntity<Map<String, Object>> status() {
+        DongHoIndex index = dongHoService.current();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", dongHoService.isEnabled());
+        status.put("ready", dongHoService.isReady());
+        status.put("buildings", index.buildingCount());
+        status.put("units", index.size());
+        status.put("dictionary", index.dictionarySize());
+        status.put("builtAt", index.getBuiltAt());
+        return new ResponseEntity<>(status, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,247 @@
+package com.addressApi.index;
+
+import java.io.File;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import com.addressApi.batch.AddressChangeListener;
+import com.addressApi.batch.AddressChangeReflector;
+import com.addressApi.batch.AddressDongDetailFileReader;
+import com.addressApi.batch.AddressDongDetailRow;
+import com.addressApi.batch.BatchStage;
+import com.addressApi.batch.BatchUnit;
+import com.addressApi.batch.ZipExtractor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : DongHoIndexService.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 상세주소 동/호 색인(DongHoIndex) 보관 및 갱신
+ * 기동 시 JUSDG 전체 스냅샷(dong-ho.snapshot-file)을 백그라운드로 적재하고, 이후에는 일배치가 적용한 JUSDG row로 갱신
+ *  - row 청크 알림 : 커밋된 row를 단위별/건물별로 모아 두고, 단위 완료 시 대기분에 합침 (dong-ho.replace-buildings면 건물마다 마지막 단위의 목록만 유지)
+ *    단위가 실패해도 모아 둔 row는 커밋된 것이므로 유지하고, 재실행 시 이어서 받은 row와 합쳐 건물 목록이 끊기지 않게 함
+ *  - 반영 성공 알림 : 반영 프로시저 시작 전에 확정된 대기분으로 새 스냅샷을 만든 뒤 참조를 원자적으로 교체 (변경 없는 건물은 구간 복사)
+ *    JUSDG는 항상 TEMP 적재 후 프로시저로 반영되므로 반영 실패/예약 상태에서는 교체하지 않음
+ * 조회 스레드는 교체 전 스냅샷을 끝까지 일관되게 읽음 (조회 경로에 락 없음)
+ * 지표 : juso.dongho.units (현재 스냅샷 상세주소 수), juso.dongho.build (스냅샷 구축 시간, trigger=snapshot|batch)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DongHoIndexService implements AddressChangeListener, InitializingBean, DisposableBean {
+
+    private final AddressIndexProperties properties;
+    private final AddressDongDetailFileReader fileReader;
+    private final ZipExtractor zipExtractor;
+    private final MeterRegistry registry;
+
+    private final AtomicReference<DongHoIndex> current = new AtomicReference<>(DongHoIndex.EMPTY);
+    private final Map<String, Map<Long, List<AddressDongDetailRow>>> staged = new HashMap<>();	// 단위 키 -> 완료 전 변동 (pending 락으로 보호)
+    private final Map<Long, List<AddressDongDetailRow>> pending = new LinkedHashMap<>();	// 건물 키 -> 변동 row (파일 순서)
+    private final Map<Long, Long> pendingSince = new HashMap<>();	// 건물 키 -> 마지막 단위 완료 시각 (epoch ms)
+    private long releasedUpTo = Long.MIN_VALUE;	// 이 시각까지 완료된 대기분은 운영 테이블에 있음 (pending 락으로 보호)
+    private volatile boolean ready;
+    private Thread loader;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.getDongHo().isEnabled()) {
+            return;
+        }
+        Gauge.builder("juso.dongho.units", current, ref -> ref.get().size())
+                .description("units in the current in-memory dong/ho index")
+                .register(registry);
+
+        loader = new Thread(this::loadSnapshot, "dongho-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (loader != null) {
+            loader.interrupt();
+        }
+    }
+
+    /**
+     * @Method 설명 : 현재 스냅샷 (조회마다 한 번 꺼내 쓰면 그 요청 안에서는 일관된 결과)
+     */
+    public DongHoIndex current() {
+        return current.get();
+    }
+
+    public boolean isEnabled() {
+        return properties.getDongHo().isEnabled();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void onDongDetailRowsApplied(BatchUnit unit, List<AddressDongDetailRow> rows) {
+        if (!properties.getDongHo().isEnabled()) {
+            return;
+        }
+        Map<Long, List<AddressDongDetailRow>> byBuilding = new LinkedHashMap<>();
+        int rejected = 0;
+        for (AddressDongDetailRow row : rows) {
+            long key = DongHoIndex.buildingKey(row);
+            if (key < 0) {
+                rejected++;
+                continue;
+            }
+            byBuilding.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+        if (rejected > 0) {
+            log.warn("[{}] 동/호 색인 제외 - 건물 코드/번호 형식 오류 {}건", unit, rejected);
+        }
+        synchronized (pending) {
+            // 같은 단위의 청크는 교체 모드와 관계없이 이어 붙임 (건물 목록이 청크 경계에 걸칠 수 있음)
+            Map<Long, List<AddressDongDetailRow>> unitChanges = staged.computeIfAbsent(unit.key(), k -> new LinkedHashMap<>());
+            byBuilding.forEach((key, buildingRows) -> unitChanges.computeIfAbsent(key, k -> new ArrayList<>()).addAll(buildingRows));
+        }
+    }
+
+    @Override
+    public void onUnitApplied(BatchUnit unit) {
+        synchronized (pending) {
+            Map<Long, List<AddressDongDetailRow>> unitChanges = staged.remove(unit.key());
+            if (unitChanges == null) {
+                return;
+            }
+            merge(pending, unitChanges);
+            long now = System.currentTimeMillis();
+            unitChanges.keySet().forEach(key -> pendingSince.put(key, now));
+        }
+    }
+
+    @Override
+    public void onReflected(AddressChangeReflector.ReflectResult result) {
+        if (!properties.getDongHo().isEnabled() || result.getStatus() != AddressChangeReflector.Status.SUCCESS) {
+            return;
+        }
+        // 반영 시작 이후에 완료된 단위는 이번 프로시저에 포함되지 않았을 수 있으므로 다음 반영까지 보류
+        long upTo = result.getStartedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        synchronized (pending) {
+            releasedUpTo = Math.max(releasedUpTo, upTo);
+        }
+        if (ready) {
+            applyPending("reflect");	// 스냅샷 적재 중이면 적재 완료 후 반영
+        }
+    }
+
+    /**
+     * 이후 변동을 target에 합침 (교체 모드는 건물 단위로 덮어쓰고, 아니면 파일 순서대로 이어 붙임)
+     */
+    private void merge(Map<Long, List<AddressDongDetailRow>> target, Map<Long, List<AddressDongDetailRow>> later) {
+        boolean replace = properties.getDongHo().isReplaceBuildings();
+        later.forEach((key, rows) -> {
+            if (replace) {
+                target.put(key, rows);
+            } else {
+                target.computeIfAbsent(key, k -> new ArrayList<>()).addAll(rows);
+            }
+        });
+    }
+
+    private void loadSnapshot() {
+        String snapshotFile = properties.getDongHo().getSnapshotFile();
+        if (snapshotFile == null || snapshotFile.isBlank()) {
+            log.warn("동/호 색인 스냅샷 미설정 - 빈 색인에서 시작하여 일배치 적용분만 반영");
+        } else {
+            long startNanos = System.nanoTime();
+            try {
+                DongHoIndex.Builder builder = new DongHoIndex.Builder(1 << 20);
+                File file = new File(snapshotFile);
+                if (file.getName().toLowerCase().endsWith(".zip")) {
+                    try (InputStream in = zipExtractor.openTextEntry(file, BatchStage.JUSDG.getEntrySuffix())) {
+                        fileReader.read(in, builder::add);
+                    }
+                } else {
+                    fileReader.read(file, builder::add);
+                }
+                DongHoIndex index = builder.build();
+                long nanos = System.nanoTime() - startNanos;
+                recordBuild("snapshot", nanos);
+                current.set(index);
+                log.info("동/호 색인 스냅샷 적재 완료 - 건물 {}건, 상세주소 {}건 (사전 {}건, 제외 {}건, {}ms): {}",
+                        index.buildingCount(), index.size(), index.dictionarySize(), builder.getRejected(), nanos / 1_000_000, file);
+            } catch (Exception e) {
+                log.error("동/호 색인 스냅샷 적재 실패 - 빈 색인에서 시작: {}", e.getMessage(), e);
+            }
+        }
+        ready = true;
+        applyPending("snapshot");
+    }
+
+    /**
+     * @Method 설명 : 운영 테이블에 반영된 대기분으로 새 스냅샷을 만들어 교체 (교체는 이 메서드에서만 수행)
+     */
+    private synchronized void applyPending(String trigger) {
+        Map<Long, List<AddressDongDetailRow>> changes = new LinkedHashMap<>();
+        synchronized (pending) {
+            Iterator<Map.Entry<Long, List<AddressDongDetailRow>>> it = pending.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, List<AddressDongDetailRow>> entry = it.next();
+                if (pendingSince.get(entry.getKey()) <= releasedUpTo) {
+                    changes.put(entry.getKey(), entry.getValue());
+                    pendingSince.remove(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        DongHoIndex before = current.get();
+        DongHoIndex after;
+        try {
+            after = before.apply(changes, properties.getDongHo().isReplaceBuildings());
+        } catch (RuntimeException | OutOfMemoryError e) {
+            // 다음 반영 시 다시 시도하도록 변동을 되돌려 둠 (그 사이 들어온 변동은 뒤에 합침)
+            synchronized (pending) {
+                changes.keySet().forEach(key -> pendingSince.putIfAbsent(key, Long.MIN_VALUE));
+                merge(changes, pending);
+                pending.clear();
+                pending.putAll(changes);
+            }
+            throw e;
+        }
+        long nanos = System.nanoTime() - startNanos;
+        recordBuild("batch", nanos);
+        current.set(after);
+        log.info("[{}] 동/호 색인 교체 - 변경 건물 {}건, 상세주소 {}건 -> {}건 ({}ms)",
+                trigger, changes.size(), before.size(), after.size(), nanos / 1_000_000);
+    }
+
+    private void recordBuild(String trigger, long nanos) {
+        Timer.builder("juso.dongho.build")
+                .description("in-memory dong/ho index build time")
+                .tag("trigger", trigger)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
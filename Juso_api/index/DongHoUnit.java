@@ -0,0 +1,21 @@
+package com.addressApi.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * @FileName  : DongHoUnit.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 건물 상세주소(동/호) 1건
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DongHoUnit {
+    private final String dong;		// 동 (단일 동 건물은 null)
+    private final String ho;		// 호
+    private final Integer floor;	// 층 (지하는 음수, 알 수 없으면 null)
+}
@@ -0,0 +1,110 @@
+package com.addressApi.index;
+
+import java.util.Arrays;
+
+/**
+ * @FileName  : LongIntHashMap.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : long 키 -> int 값 오픈 어드레싱 해시맵 (선형 탐사, 적재율 1/2 이하)
+ * 키/값을 원시 배열에 그대로 두어 Long/Integer 박싱과 엔트리 객체가 없음 (건물 수백만 건도 배열 2개)
+ * 빈 칸 표시에 -1을 쓰므로 키는 0 이상만 허용하고, 삭제는 지원하지 않음
+ */
+final class LongIntHashMap {
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @Method 설명 : 값 조회 (없으면 -1)
+     */
+    int get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long k = keys[slot];
+            if (k == key) {
+                return values[slot];
+            }
+            if (k == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * @Method 설명 : 값 저장 (이미 있으면 덮어씀)
+     * @return 이전 값 (없었으면 -1)
+     */
+    int put(long key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("음수 키는 저장할 수 없습니다: " + key);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long k = keys[slot];
+            if (k == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            if (k == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                size++;
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * @Method 설명 : 저장된 키 전체 (순서 없음)
+     */
+    long[] keys() {
+        long[] result = new long[size];
+        int n = 0;
+        for (long k : keys) {
+            if (k != EMPTY) {
+                result[n++] = k;
+            }
+        }
+        return result;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+        mask = keys.length - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.addressApi.index;
+
+import java.util.Arrays;
+
+/**
+ * @FileName  : PrimitiveSort.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 색인 구축용 row 번호 정렬 (16비트 단위 LSD radix, 안정 정렬)
+ * 키 배열은 row 번호로 접근하고 정렬 결과는 row 번호 순열로 반환 (객체/박싱 없이 수백만 건 정렬)
+ * 안정 정렬이므로 하위 키부터 차례로 정렬하면 복합 키 정렬이 됨 (키는 모두 0 이상)
+ */
+final class PrimitiveSort {
+
+    private static final int BITS = 16;
+    private static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+
+    private PrimitiveSort() {
+    }
+
+    static int[] identity(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * @Method 설명 : order를 keys[row] 기준으로 안정 정렬한 새 순열
+     */
+    static int[] byLong(int[] order, long[] keys) {
+        long max = 0;
+        for (int row : order) {
+            max |= keys[row];
+        }
+        int[] src = order;
+        int[] dst = new int[order.length];
+        int[] count = new int[RADIX + 1];
+        for (int shift = 0; shift < Long.SIZE && (max >>> shift) != 0; shift += BITS) {
+            Arrays.fill(count, 0);
+            for (int row : src) {
+                count[(int) ((keys[row] >>> shift) & MASK) + 1]++;
+            }
+            for (int i = 0; i < RADIX; i++) {
+                count[i + 1] += count[i];
+            }
+            for (int row : src) {
+                dst[count[(int) ((keys[row] >>> shift) & MASK)]++] = row;
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap == order ? new int[order.length] : swap;
+        }
+        return src;
+    }
+
+    /**
+     * @Method 설명 : order를 행 우선 배열 cells의 한 컬럼(cells[row * stride + column]) 기준으로 안정 정렬한 새 순열
+     */
+    static int[] byColumn(int[] order, int[] cells, int stride, int column) {
+        int max = 0;
+        for (int row : order) {
+            max |= cells[row * stride + column];
+        }
+        int[] src = order;
+        int[] dst = new int[order.length];
+        int[] count = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE && (max >>> shift) != 0; shift += BITS) {
+            Arrays.fill(count, 0);
+            for (int row : src) {
+                count[((cells[row * stride + column] >>> shift) & MASK) + 1]++;
+            }
+            for (int i = 0; i < RADIX; i++) {
+                count[i + 1] += count[i];
+            }
+            for (int row : src) {
+                dst[count[(cells[row * stride + column] >>> shift) & MASK]++] = row;
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap == order ? new int[order.length] : swap;
+        }
+        return src;
+    }
+}
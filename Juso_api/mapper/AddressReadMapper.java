@@ -0,0 +1,79 @@
+package com.addressApi.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.AddressDongDetailRow;
+import com.addressApi.batch.AddressTableLayout;
+import com.addressApi.cache.BuildingKey;
+import com.addressApi.cache.DongDetailTableLayout;
+
+/**
+ * @FileName  : AddressReadMapper.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 운영 주소 테이블 단건 조회 매퍼 (AddressReadRepository에서 사용)
+ *  - 주소     : 컬럼 구성은 운영 테이블 레이아웃(AddressTableLayout)을 따르고 DTO 속성명으로 별칭 지정
+ *  - 상세주소 : 컬럼 구성은 상세주소동표시 운영 테이블 레이아웃(DongDetailTableLayout)을 따르며, 건물 1개의 동/호 전체 (리코드/건물부번이 없으면 IS NULL로 비교)
+ * 테이블/컬럼명은 설정값이므로 SQL 문자열로 생성하고 조회 값만 바인딩
+ */
+@Mapper
+public interface AddressReadMapper {
+
+    /**
+     * @Method 설명 : 도로명관리번호로 주소 1건 조회 (없으면 null)
+     */
+    @SelectProvider(type = SqlProvider.class, method = "selectAddress")
+    AddressChangeRow selectAddress(@Param("layout") AddressTableLayout layout, @Param("roadNmCtlNo") String roadNmCtlNo);
+
+    /**
+     * @Method 설명 : 건물 1개의 상세주소(동/호) 전체 조회 (동, 층, 호 순)
+     */
+    @SelectProvider(type = SqlProvider.class, method = "selectDongDetails")
+    List<AddressDongDetailRow> selectDongDetails(@Param("layout") DongDetailTableLayout layout, @Param("key") BuildingKey key);
+
+    /**
+     * 레이아웃 기반 조회 SQL 생성
+     */
+    class SqlProvider {
+
+        public static String selectAddress(Map<String, Object> params) {
+            AddressTableLayout layout = (AddressTableLayout) params.get("layout");
+            List<String> columns = layout.getColumns();
+            StringBuilder sql = new StringBuilder("SELECT ");
+            for (int i = 0; i < columns.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(columns.get(i)).append(" AS ").append(layout.getProperties().get(i));
+            }
+            return sql.append(" FROM ").append(layout.getTable())
+                    .append(" WHERE ").append(layout.getPkColumn()).append(" = #{roadNmCtlNo}")
+                    .toString();
+        }
+
+        public static String selectDongDetails(Map<String, Object> params) {
+            DongDetailTableLayout layout = (DongDetailTableLayout) params.get("layout");
+            BuildingKey key = (BuildingKey) params.get("key");
+            List<String> columns = layout.getColumns();
+            StringBuilder sql = new StringBuilder("SELECT ");
+            for (int i = 0; i < columns.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(columns.get(i)).append(" AS ").append(layout.getProperties().get(i));
+            }
+            sql.append(" FROM ").append(layout.getTable())
+                    .append(" WHERE ").append(layout.column("SIDO_CD")).append(" = #{key.sidoCd}")
+                    .append(" AND ").append(layout.column("SIGUNGU_CD")).append(" = #{key.sigunguCd}")
+                    .append(" AND ").append(layout.column("EMD_CD")).append(" = #{key.emdCd}")
+                    .append(" AND ").append(layout.column("BLD_MAIN_NO")).append(" = #{key.bldMainNo}")
+                    .append(" AND ").append(layout.column("RI_CD")).append(key.getRiCd() == null ? " IS NULL" : " = #{key.riCd}")
+                    .append(" AND ").append(layout.column("BLD_SUB_NO")).append(key.getBldSubNo() == null ? " IS NULL" : " = #{key.bldSubNo}");
+            return sql.append(" ORDER BY ").append(layout.column("DONG"))
+                    .append(", ").append(layout.column("FLOOR_NO"))
+                    .append(", ").append(layout.column("HO"))
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.addressApi.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.mapping.StatementType;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @FileName  : AddressReflectMapper.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 도로명주소 변경분 반영 프로시저 호출 매퍼
+ * 프로시저명은 설정값(address-change.reflect.procedure-name)이므로 ${}로 치환하고, 호출 전 AddressChangeReflector에서 식별자 형식을 검증
+ * 기본은 기존과 같이 인자 없이 호출하고, reflect.count-out-param=true이면 영향 row 수를 드라이버 update count 대신 OUT 파라미터로 받음
+ */
+@Mapper
+public interface AddressReflectMapper {
+
+    /**
+     * @Method 설명 : 반영 프로시저 호출 (OUT 파라미터 1개 = 반영 row 수, 호출 후 call.affectedRows에 채워짐)
+     */
+    @Update("{call ${procedureName}(#{affectedRows, mode=OUT, jdbcType=INTEGER})}")
+    @Options(statementType = StatementType.CALLABLE)
+    void callReflectProcedure(ReflectCall call);
+
+    /**
+     * @Method 설명 : OUT 파라미터가 없는 프로시저 호출 (반영 row 수 미제공)
+     */
+    @Update("{call ${procedureName}}")
+    @Options(statementType = StatementType.CALLABLE)
+    void callReflectProcedureWithoutCount(ReflectCall call);
+
+    /**
+     * 프로시저 호출 파라미터
+     */
+    @Getter
+    @Setter
+    class ReflectCall {
+        private String procedureName;
+        private Integer affectedRows;		// OUT
+    }
+}
@@ -0,0 +1,33 @@
+package com.addressApi.mapper;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * @FileName  : BatchCheckpointMapper.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : TEMP 적재 중인 단위의 커밋 row 수 체크포인트 매퍼 (address-change.writer.checkpoint-table 설정 시에만 사용)
+ * TEMP INSERT와 같은 세션/트랜잭션에서 갱신하므로 커밋된 row 수와 체크포인트가 항상 일치
+ * 테이블명은 설정값이므로 ${}로 치환 (예: CREATE TABLE TB_ADDR_BATCH_CKPT (UNIT_KEY VARCHAR2(200) PRIMARY KEY, COMMITTED_ROWS NUMBER(10) NOT NULL))
+ * BATCH 실행기 세션에서도 쓸 수 있도록 UPSERT 대신 DELETE + INSERT로 갱신 (반환값 미사용)
+ */
+@Mapper
+public interface BatchCheckpointMapper {
+
+    /**
+     * @Method 설명 : 단위의 커밋된 row 수 (없으면 null)
+     */
+    @Select("SELECT COMMITTED_ROWS FROM ${table} WHERE UNIT_KEY = #{unitKey}")
+    Integer selectCommittedRows(@Param("table") String table, @Param("unitKey") String unitKey);
+
+    @Delete("DELETE FROM ${table} WHERE UNIT_KEY = #{unitKey}")
+    void deleteCommittedRows(@Param("table") String table, @Param("unitKey") String unitKey);
+
+    @Insert("INSERT INTO ${table} (UNIT_KEY, COMMITTED_ROWS) VALUES (#{unitKey}, #{rows})")
+    void insertCommittedRows(@Param("table") String table, @Param("unitKey") String unitKey, @Param("rows") int rows);
+}
@@ -0,0 +1,138 @@
+package com.addressApi.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.addressApi.batch.AddressChangeRow;
+
+/**
+ * @FileName  : AddressHistoryCodecTest.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 이력 파일 스캔 시 COMMIT/UNIT 레코드까지 쓰인 row만 전달하고 끝 오프셋을 마지막 COMMIT/UNIT 뒤로 돌려주는지 검증
+ */
+class AddressHistoryCodecTest {
+
+    private static final int START = AddressHistoryCodec.MAGIC.length;
+
+    @Test
+    void 완료된_단위의_row만_전달() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AddressHistoryCodec.writeRow(out, 20250901, row("1", "중앙로"));
+        AddressHistoryCodec.writeRow(out, 20250901, row("2", "한강로"));
+        AddressHistoryCodec.writeUnit(out, "u1");
+        int committed = START + out.size();
+
+        Recorder recorder = scan(out.toByteArray());
+
+        assertEquals(committed, recorder.end);
+        assertEquals(List.of("1", "2", "unit:u1"), recorder.events);
+    }
+
+    @Test
+    void UNIT_없이_끝난_단위는_버리고_마지막_UNIT_뒤를_반환() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AddressHistoryCodec.writeRow(out, 20250901, row("1", "중앙로"));
+        AddressHistoryCodec.writeUnit(out, "u1");
+        int committed = START + out.size();
+        AddressHistoryCodec.writeRow(out, 20250902, row("1", "가운데로"));	// 중단된 단위 u2
+        AddressHistoryCodec.writeRow(out, 20250902, row("3", "새길"));
+
+        Recorder recorder = scan(out.toByteArray());
+
+        assertEquals(committed, recorder.end);
+        assertEquals(List.of("1", "unit:u1"), recorder.events);
+    }
+
+    @Test
+    void COMMIT_레코드까지의_청크는_UNIT_없이도_전달() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AddressHistoryCodec.writeRow(out, 20250901, row("1", "중앙로"));
+        AddressHistoryCodec.writeCommit(out);
+        AddressHistoryCodec.writeRow(out, 20250901, row("2", "한강로"));
+        AddressHistoryCodec.writeCommit(out);
+        int committed = START + out.size();
+        AddressHistoryCodec.writeRow(out, 20250901, row("3", "새길"));	// COMMIT 전에 중단된 청크
+
+        Recorder recorder = scan(out.toByteArray());
+
+        assertEquals(committed, recorder.end);
+        assertEquals(List.of("1", "2"), recorder.events);
+    }
+
+    @Test
+    void 잘린_꼬리_레코드는_파일_끝으로_간주() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AddressHistoryCodec.writeRow(out, 20250901, row("1", "중앙로"));
+        AddressHistoryCodec.writeUnit(out, "u1");
+        int committed = START + out.size();
+        AddressHistoryCodec.writeRow(out, 20250902, row("2", "한강로"));
+        AddressHistoryCodec.writeUnit(out, "u2");
+        byte[] full = out.toByteArray();
+
+        // u2의 UNIT 레코드 중간에서 잘린 경우 (CRC 일부 유실)
+        Recorder recorder = scan(Arrays.copyOf(full, full.length - 2));
+
+        assertEquals(committed, recorder.end);
+        assertEquals(List.of("1", "unit:u1"), recorder.events);
+    }
+
+    @Test
+    void ROW_레코드_복원() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AddressChangeRow row = row("1", "중앙로");
+        row.setNote(null);
+        AddressHistoryCodec.writeRow(out, 20250901, row);
+        AddressHistoryCodec.writeUnit(out, "u1");
+
+        Recorder recorder = scan(out.toByteArray());
+        byte[] record = Arrays.copyOfRange(out.toByteArray(), 0, recorder.lengths.get(0));
+        AddressChangeRow decoded = AddressHistoryCodec.decodeRow(record);
+
+        assertEquals("1", decoded.getRoadNmCtlNo());
+        assertEquals("중앙로", decoded.getRoadNm());
+        assertEquals("이전 중앙로", decoded.getBefRoadNmAddr());
+        assertNull(decoded.getNote());
+    }
+
+    private static Recorder scan(byte[] records) throws IOException {
+        Recorder recorder = new Recorder();
+        recorder.end = AddressHistoryCodec.scan(new ByteArrayInputStream(records), START, recorder);
+        return recorder;
+    }
+
+    private static AddressChangeRow row(String roadNmCtlNo, String roadNm) {
+        AddressChangeRow row = new AddressChangeRow();
+        row.setRoadNmCtlNo(roadNmCtlNo);
+        row.setRoadNm(roadNm);
+        row.setBefRoadNmAddr("이전 " + roadNm);
+        return row;
+    }
+
+    private static final class Recorder implements AddressHistoryCodec.Visitor {
+        private final List<String> events = new ArrayList<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private long end;
+
+        @Override
+        public void row(long offset, int length, int effectiveDate, String roadNmCtlNo) {
+            events.add(roadNmCtlNo);
+            lengths.add(length);
+        }
+
+        @Override
+        public void unit(String unitKey) {
+            events.add("unit:" + unitKey);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.addressApi.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.BatchStage;
+import com.addressApi.batch.BatchUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @FileName  : AddressHistoryStoreTest.java
+ * @Project   : Juso_api
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 이력 저장소 재기동 시 중단된 쓰기(잘린 꼬리, COMMIT 없는 청크) 복구 및 커밋 청크 단위 기록/재개 검증
+ */
+class AddressHistoryStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 9, 1);
+
+    @TempDir
+    Path dir;
+
+    private AddressHistoryStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void 잘린_꼬리_레코드는_재기동_시_잘라냄() throws IOException {
+        store = open();
+        applyUnit(unit("u1"), List.of(row("1", "중앙로", "20250901")));
+        store.destroy();
+        Path file = dir.resolve("20250901.jhc");
+        long size = Files.size(file);
+        Files.write(file, new byte[] { (byte) 0x90, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+        store = open();
+
+        assertEquals(size, Files.size(file));
+        assertEquals("중앙로", store.asOf("1", DAY).getAddress().getRoadNm());
+    }
+
+    @Test
+    void COMMIT_없이_끝난_청크는_색인하지_않고_재적용_시_한_번만_기록() throws IOException {
+        store = open();
+        applyUnit(unit("u1"), List.of(row("1", "중앙로", "20250901")));
+        store.destroy();
+        Path file = dir.resolve("20250901.jhc");
+        long size = Files.size(file);
+
+        // u2의 ROW까지만 쓰고 COMMIT 레코드 전에 중단된 상황
+        ByteArrayOutputStream torn = new ByteArrayOutputStream();
+        AddressHistoryCodec.writeRow(torn, 20250902, row("1", "가운데로", "20250902"));
+        AddressHistoryCodec.writeRow(torn, 20250902, row("2", "한강로", "20250902"));
+        Files.write(file, torn.toByteArray(), StandardOpenOption.APPEND);
+
+        store = open();
+
+        assertEquals(size, Files.size(file));
+        assertEquals("중앙로", store.asOf("1", DAY.plusDays(5)).getAddress().getRoadNm());
+        assertNull(store.asOf("2", DAY.plusDays(5)));
+
+        // 재실행으로 같은 단위가 다시 오면 정상 기록되고 중복 버전이 생기지 않음
+        BatchUnit retry = unit("u2");
+        List<AddressChangeRow> rows = List.of(row("1", "가운데로", "20250902"), row("2", "한강로", "20250902"));
+        applyUnit(retry, rows);
+        store.destroy();
+        store = open();
+        applyUnit(retry, rows);
+
+        assertEquals(2, store.changes("1", DAY, DAY.plusDays(5), 10).size());
+        assertEquals(1, store.changes("2", DAY, DAY.plusDays(5), 10).size());
+        assertEquals("가운데로", store.asOf("1", DAY.plusDays(1)).getAddress().getRoadNm());
+    }
+
+    @Test
+    void 커밋된_청크는_받는_즉시_색인() throws IOException {
+        store = open();
+        BatchUnit unit = unit("u1");
+        store.onAddressRowsApplied(unit, List.of(row("1", "중앙로", "20250901")));
+
+        assertEquals("중앙로", store.asOf("1", DAY).getAddress().getRoadNm());
+        store.onAddressRowsApplied(unit, List.of(row("2", "한강로", "20250901")));
+        store.onUnitApplied(unit);
+
+        assertEquals("한강로", store.asOf("2", DAY).getAddress().getRoadNm());
+    }
+
+    @Test
+    void 실패한_단위의_청크는_유지하고_재실행_시_이어서_기록() throws IOException {
+        store = open();
+        applyUnit(unit("u1"), List.of(row("1", "중앙로", "20250901")));
+
+        BatchUnit failed = unit("u2");
+        store.onAddressRowsApplied(failed, List.of(row("2", "한강로", "20250901")));
+        store.onUnitFailed(failed);
+        store.destroy();
+
+        // 재실행은 커밋된 위치 이후 row만 전달
+        store = open();
+        assertEquals("한강로", store.asOf("2", DAY).getAddress().getRoadNm());
+        applyUnit(failed, List.of(row("3", "새길", "20250901")));
+        store.destroy();
+        store = open();
+        applyUnit(failed, List.of(row("2", "한강로", "20250901"), row("3", "새길", "20250901")));
+
+        assertEquals(1, store.changes("2", DAY, DAY, 10).size());
+        assertEquals(1, store.changes("3", DAY, DAY, 10).size());
+    }
+
+    private void applyUnit(BatchUnit unit, List<AddressChangeRow> rows) {
+        store.onAddressRowsApplied(unit, rows);
+        store.onUnitApplied(unit);
+    }
+
+    private static BatchUnit unit(String name) {
+        return new BatchUnit(DAY, BatchStage.JUSUKR, new File("250901", name + "_JUSUKR.zip"));
+    }
+
+    private AddressHistoryStore open() throws IOException {
+        AddressHistoryProperties properties = new AddressHistoryProperties();
+        properties.setEnabled(true);
+        properties.setDir(dir.toString());
+        AddressHistoryStore opened = new AddressHistoryStore(properties, new AddressChangeProperties(), new SimpleMeterRegistry());
+        opened.afterPropertiesSet();
+        return opened;
+    }
+
+    private static AddressChangeRow row(String roadNmCtlNo, String roadNm, String applyBgnDate) {
+        AddressChangeRow row = new AddressChangeRow();
+        row.setRoadNmCtlNo(roadNmCtlNo);
+        row.setRoadNm(roadNm);
+        row.setApplyBgnDate(applyBgnDate);
+        row.setMvRsnCd("31");
+        row.setStdDate(applyBgnDate);
+        return row;
+    }
+}
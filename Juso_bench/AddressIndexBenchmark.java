@@ -0,0 +1,107 @@
+package com.addressApi.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.addressApi.batch.AddressChangeFileReader;
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.BatchMetrics;
+import com.addressApi.batch.RejectedRowSink;
+import com.addressApi.index.AddressIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @FileName  : AddressIndexBenchmark.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 인메모리 주소 색인(AddressIndex) 조회 지연 벤치마크
+ * SampleTime 모드로 호출별 지연 분포(p50/p99/p99.9)를 측정하고, 4개 스레드가 같은 스냅샷을 동시에 조회
+ *  - getByCtl    : 도로명관리번호 단건 (API /api/address/{roadNmCtlNo})
+ *  - findByRoad  : 도로명 + 건물본번 + 부번
+ *  - findByZipNo : 우편번호 (최대 100건)
+ * 조회 키는 색인에 있는 row에서 미리 뽑아 두고 매 호출마다 임의로 선택
+ * HTTP 직렬화/네트워크 구간은 포함되지 않으므로 엔드포인트 부하 테스트(wrk 등) 시 기준값으로 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class AddressIndexBenchmark {
+
+    private static final int SAMPLE_KEYS = 4096;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private AddressIndex index;
+    private AddressChangeRow[] samples;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("juso-bench-index");
+        try {
+            AddressChangeProperties properties = new AddressChangeProperties();
+            properties.getReject().setFileEnabled(false);
+            properties.getReject().setMaxLogLines(0);
+            BatchMetrics metrics = new BatchMetrics(new SimpleMeterRegistry());
+            AddressChangeFileReader reader = new AddressChangeFileReader(metrics, new RejectedRowSink(properties, metrics));
+
+            Path mst = new FixtureGenerator(42L, 0.0).writeJusukr(dir.resolve("bench_mst.txt"), rows);
+            AddressIndex.Builder builder = new AddressIndex.Builder(rows);
+            reader.read(mst.toFile(), builder::add);
+            index = builder.build();
+        } finally {
+            BenchFiles.deleteRecursively(dir);
+        }
+
+        samples = new AddressChangeRow[SAMPLE_KEYS];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < SAMPLE_KEYS; i++) {
+            samples[i] = index.row(random.nextInt(index.size()));
+        }
+    }
+
+    private AddressChangeRow sample() {
+        return samples[ThreadLocalRandom.current().nextInt(SAMPLE_KEYS)];
+    }
+
+    @Benchmark
+    public AddressChangeRow getByCtl() {
+        return index.get(sample().getRoadNmCtlNo());
+    }
+
+    @Benchmark
+    public List<AddressChangeRow> findByRoad() {
+        AddressChangeRow row = sample();
+        return index.findByRoad(row.getRoadNm(), row.getBldUpperNo(), row.getBldSubNo(), 100);
+    }
+
+    @Benchmark
+    public List<AddressChangeRow> findByZipNo() {
+        return index.findByZipNo(sample().getZipNo(), 100);
+    }
+}
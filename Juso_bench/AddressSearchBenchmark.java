@@ -0,0 +1,136 @@
+package com.addressApi.bench;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.addressApi.index.AddressIndexProperties;
+import com.addressApi.index.AddressSearchIndex;
+import com.addressApi.index.AddressSuggestion;
+
+/**
+ * @FileName  : AddressSearchBenchmark.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 명칭 자동완성 색인(AddressSearchIndex) 조회 지연 벤치마크
+ * SampleTime 모드로 호출별 지연 분포(p50/p99/p99.9)를 측정하고, 4개 스레드가 같은 스냅샷을 동시에 조회
+ *  - shortPrefix : 1~3글자 접두어 (순위 결과 캐시 대상)
+ *  - longPrefix  : 4글자 이상 접두어 (캐시 미사용, 이진 탐색 + 순위 정렬)
+ *  - choseong    : 초성 검색어 (ㅈㅇㄹ 등)
+ *  - typo        : 음절 1개를 바꾼 검색어 (접두어 결과 부족 -> n-gram 오타 보정)
+ * 명칭 사전은 FixtureGenerator의 주소 파일 대신 임의 음절 조합으로 만든 names건을 직접 구성 (전국 명칭 규모 재현)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class AddressSearchBenchmark {
+
+    private static final int SAMPLE_KEYS = 4096;
+    private static final int LIMIT = 10;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하강남동서중앙산천원신성문평화대한국민주공구월정봉해운송도석촌";
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final Map<AddressSearchIndex.TermType, String[]> SUFFIXES = Map.of(
+            AddressSearchIndex.TermType.ROAD, new String[] { "로", "길", "대로" },
+            AddressSearchIndex.TermType.BUILDING, new String[] { "아파트", "빌라", "타워", "센터" },
+            AddressSearchIndex.TermType.EMD, new String[] { "동", "읍", "면" });
+
+    @Param({ "700000" })
+    private int names;
+
+    private AddressSearchIndex index;
+    private String[] shortPrefixes;
+    private String[] longPrefixes;
+    private String[] choseongs;
+    private String[] typos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        AddressSearchIndex.TermType[] types = SUFFIXES.keySet().toArray(new AddressSearchIndex.TermType[0]);
+        Map<AddressSearchIndex.TermKey, Integer> terms = new HashMap<>(names * 2);
+        List<String> texts = new ArrayList<>(names);
+        while (terms.size() < names) {
+            AddressSearchIndex.TermType type = types[random.nextInt(types.length)];
+            String[] suffixes = SUFFIXES.get(type);
+            StringBuilder text = new StringBuilder();
+            for (int i = 2 + random.nextInt(3); i > 0; i--) {
+                text.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            text.append(suffixes[random.nextInt(suffixes.length)]);
+            // 주소 수 분포는 소수 명칭에 몰리도록 (실제 도로명/건물명과 유사)
+            if (terms.putIfAbsent(new AddressSearchIndex.TermKey(type, text.toString()), 1 + (int) (1000 * Math.pow(random.nextDouble(), 8))) == null) {
+                texts.add(text.toString());
+            }
+        }
+        index = AddressSearchIndex.build(terms, new AddressIndexProperties.Search());
+
+        shortPrefixes = new String[SAMPLE_KEYS];
+        longPrefixes = new String[SAMPLE_KEYS];
+        choseongs = new String[SAMPLE_KEYS];
+        typos = new String[SAMPLE_KEYS];
+        for (int i = 0; i < SAMPLE_KEYS; i++) {
+            String text = texts.get(random.nextInt(texts.size()));
+            shortPrefixes[i] = text.substring(0, 1 + random.nextInt(Math.min(3, text.length())));
+            longPrefixes[i] = text.length() >= 4 ? text.substring(0, 4 + random.nextInt(text.length() - 3)) : text;
+            choseongs[i] = choseong(text.substring(0, Math.min(3, text.length())));
+            char[] chars = text.toCharArray();
+            chars[1] = SYLLABLES.charAt(random.nextInt(SYLLABLES.length()));
+            typos[i] = new String(chars);
+        }
+    }
+
+    private static String choseong(String text) {
+        StringBuilder key = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            key.append(CHOSEONG.charAt((text.charAt(i) - 0xAC00) / 588));
+        }
+        return key.toString();
+    }
+
+    private static String sample(String[] queries) {
+        return queries[ThreadLocalRandom.current().nextInt(SAMPLE_KEYS)];
+    }
+
+    @Benchmark
+    public List<AddressSuggestion> shortPrefix() {
+        return index.search(sample(shortPrefixes), null, LIMIT);
+    }
+
+    @Benchmark
+    public List<AddressSuggestion> longPrefix() {
+        return index.search(sample(longPrefixes), null, LIMIT);
+    }
+
+    @Benchmark
+    public List<AddressSuggestion> choseong() {
+        return index.search(sample(choseongs), null, LIMIT);
+    }
+
+    @Benchmark
+    public List<AddressSuggestion> typo() {
+        return index.search(sample(typos), null, LIMIT);
+    }
+}
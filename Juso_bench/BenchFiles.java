@@ -0,0 +1,34 @@
+package com.addressApi.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * @FileName  : BenchFiles.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 벤치마크 임시 파일 정리 유틸
+ */
+final class BenchFiles {
+
+    private BenchFiles() {
+    }
+
+    /**
+     * @Method 설명 : 폴더 하위 전체 삭제 (하위 파일부터)
+     */
+    static void deleteRecursively(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
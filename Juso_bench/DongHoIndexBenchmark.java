@@ -0,0 +1,115 @@
+package com.addressApi.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressDongDetailFileReader;
+import com.addressApi.batch.AddressDongDetailRow;
+import com.addressApi.batch.BatchMetrics;
+import com.addressApi.batch.RejectedRowSink;
+import com.addressApi.index.DongHoIndex;
+import com.addressApi.index.DongHoUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @FileName  : DongHoIndexBenchmark.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 상세주소 동/호 색인(DongHoIndex) 조회 지연 벤치마크
+ * SampleTime 모드로 호출별 지연 분포(p50/p99/p99.9)를 측정하고, 4개 스레드가 같은 스냅샷을 동시에 조회
+ *  - exists       : 동/호 존재 여부 (주문 시 검증, API /api/address/building/exists)
+ *  - units        : 건물의 동/호 전체
+ *  - unitsOnFloor : 건물의 특정 층
+ * 조회 대상은 색인에 들어간 row에서 미리 뽑아 두고 매 호출마다 임의로 선택
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class DongHoIndexBenchmark {
+
+    private static final int SAMPLE_KEYS = 4096;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private DongHoIndex index;
+    private AddressDongDetailRow[] samples;
+    private long[] sampleKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("juso-bench-dongho");
+        try {
+            AddressChangeProperties properties = new AddressChangeProperties();
+            properties.getReject().setFileEnabled(false);
+            properties.getReject().setMaxLogLines(0);
+            BatchMetrics metrics = new BatchMetrics(new SimpleMeterRegistry());
+            AddressDongDetailFileReader reader = new AddressDongDetailFileReader(metrics, new RejectedRowSink(properties, metrics));
+
+            Path dong = new FixtureGenerator(42L, 0.0).writeJusdg(dir.resolve("bench_dong.txt"), rows);
+            DongHoIndex.Builder builder = new DongHoIndex.Builder(rows);
+            List<AddressDongDetailRow> picked = new ArrayList<>(SAMPLE_KEYS);
+            reader.read(dong.toFile(), row -> {
+                if (builder.add(row) && picked.size() < SAMPLE_KEYS) {
+                    picked.add(row);
+                }
+            });
+            index = builder.build();
+
+            samples = picked.toArray(new AddressDongDetailRow[0]);
+            sampleKeys = new long[samples.length];
+            for (int i = 0; i < samples.length; i++) {
+                sampleKeys[i] = DongHoIndex.buildingKey(samples[i]);
+            }
+        } finally {
+            BenchFiles.deleteRecursively(dir);
+        }
+    }
+
+    private int sample() {
+        return ThreadLocalRandom.current().nextInt(samples.length);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        int i = sample();
+        return index.exists(sampleKeys[i], samples[i].getDong(), samples[i].getHo());
+    }
+
+    @Benchmark
+    public List<DongHoUnit> units() {
+        return index.units(sampleKeys[sample()]);
+    }
+
+    @Benchmark
+    public List<DongHoUnit> unitsOnFloor() {
+        int i = sample();
+        return index.unitsOnFloor(sampleKeys[i], Integer.parseInt(samples[i].getFloorNo()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.addressApi.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.addressApi.batch.AddressChangeFileReader;
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressDongDetailFileReader;
+import com.addressApi.batch.BatchMetrics;
+import com.addressApi.batch.RejectedRowSink;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @FileName  : FileReaderBenchmark.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 텍스트 파일 파싱 벤치마크 (AddressChangeFileReader / AddressDongDetailFileReader)
+ * 1회 호출 = 파일 1개 전체 파싱, rowsRead 보조 카운터로 초당 row 수를 함께 출력
+ * row당 지연은 -bm avgt 결과를 rows로 나누어 계산, 할당률은 -prof gc로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class FileReaderBenchmark {
+
+    @Param({ "10000", "200000" })
+    private int rows;
+
+    @Param({ "0.01" })
+    private double malformedRatio;
+
+    private Path dir;
+    private File mstFile;
+    private File dongFile;
+
+    private AddressChangeFileReader changeReader;
+    private AddressDongDetailFileReader dongReader;
+
+    /**
+     * 호출당 처리 row 수 (JMH 결과에 rowsRead 항목으로 출력)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        public long rowsRead;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rowsRead = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("juso-bench-reader");
+
+        // 운영과 같이 지표 기록 + reject 파일 기록 비용 포함
+        AddressChangeProperties properties = new AddressChangeProperties();
+        properties.getReject().setDir(dir.resolve("rejects").toString());
+        BatchMetrics metrics = new BatchMetrics(new SimpleMeterRegistry());
+        RejectedRowSink rejectedRowSink = new RejectedRowSink(properties, metrics);
+        changeReader = new AddressChangeFileReader(metrics, rejectedRowSink);
+        dongReader = new AddressDongDetailFileReader(metrics, rejectedRowSink);
+
+        FixtureGenerator generator = new FixtureGenerator(42L, malformedRatio);
+        mstFile = generator.writeJusukr(dir.resolve("bench_mst.txt"), rows).toFile();
+        dongFile = generator.writeJusdg(dir.resolve("bench_dong.txt"), rows).toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchFiles.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public int readAddressChange(RowCounter counter, Blackhole bh) throws IOException {
+        int n = changeReader.read(mstFile, bh::consume);
+        counter.rowsRead += n;
+        return n;
+    }
+
+    @Benchmark
+    public int readAddressChangeColumnar(RowCounter counter, Blackhole bh) throws IOException {
+        int n = changeReader.readColumnar(mstFile, 1000, bh::consume);
+        counter.rowsRead += n;
+        return n;
+    }
+
+    @Benchmark
+    public int readDongDetail(RowCounter counter, Blackhole bh) throws Exception {
+        int n = dongReader.read(dongFile, bh::consume);
+        counter.rowsRead += n;
+        return n;
+    }
+}
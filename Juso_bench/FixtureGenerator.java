@@ -0,0 +1,162 @@
+package com.addressApi.bench;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * @FileName  : FixtureGenerator.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 벤치마크 입력 파일 생성기 (실제 연계 파일과 같은 MS949 '|' 구분자 형식)
+ *  - JUSUKR(_mst.txt) 24필드 / JUSDG(_dong.txt) 12필드
+ *  - 명칭류는 한글(2바이트), 코드류는 앞자리 0을 포함한 숫자
+ *  - malformedRatio 비율로 필드 수 부족 / 필수 필드 누락 / CRLF 줄을 섞음 (시드 고정으로 매번 동일한 파일)
+ * 단독 실행 : java -cp benchmarks.jar com.addressApi.bench.FixtureGenerator [출력폴더] [row 수]
+ */
+public final class FixtureGenerator {
+
+    public static final Charset MS949 = Charset.forName("MS949");
+
+    private static final String[] SIDO = { "서울특별시", "부산광역시", "경기도", "강원특별자치도", "전라남도", "경상북도", "제주특별자치도" };
+    private static final String[] SIGUNGU = { "종로구", "해운대구", "수원시 장안구", "춘천시", "여수시", "포항시 북구", "제주시" };
+    private static final String[] EMD = { "청운동", "우동", "파장동", "효자동", "돌산읍", "흥해읍", "노형동", "중앙동" };
+    private static final String[] ROAD = { "자하문로", "해운대로", "정조로", "중앙로", "봉산로", "삼흥로", "노연로", "세종대로" };
+    private static final String[] BLD = { "", "", "", "현대아파트", "한신빌라", "주민센터", "삼성래미안" };
+    private static final String[] MV_RSN = { "31", "34", "34", "63" };
+
+    private final Random random;
+    private final double malformedRatio;
+
+    public FixtureGenerator(long seed, double malformedRatio) {
+        this.random = new Random(seed);
+        this.malformedRatio = malformedRatio;
+    }
+
+    /**
+     * @Method 설명 : 도로명주소한글(_mst.txt) 파일 생성
+     */
+    public Path writeJusukr(Path file, int rows) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            for (int i = 0; i < rows; i++) {
+                out.write(malformed(jusukrLine(i)).getBytes(MS949));
+            }
+        }
+        return file;
+    }
+
+    /**
+     * @Method 설명 : 상세주소동표시(_dong.txt) 파일 생성
+     */
+    public Path writeJusdg(Path file, int rows) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            for (int i = 0; i < rows; i++) {
+                out.write(malformed(jusdgLine(i)).getBytes(MS949));
+            }
+        }
+        return file;
+    }
+
+    /**
+     * @Method 설명 : 텍스트 파일 1개를 담은 ZIP 생성 (ZipExtractor는 ZIP 상위 폴더명을 날짜로 사용하므로 yyMMdd 폴더에 생성)
+     */
+    public static Path zip(Path textFile, Path zipFile) throws IOException {
+        Files.createDirectories(zipFile.getParent());
+        try (ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipFile), 1 << 16))) {
+            out.putNextEntry(new ZipEntry(textFile.getFileName().toString()));
+            Files.copy(textFile, out);
+            out.closeEntry();
+        }
+        return zipFile;
+    }
+
+    private String jusukrLine(int i) {
+        int area = random.nextInt(SIDO.length);
+        String[] f = new String[24];
+        f[0] = String.format("%02d%03d%03d%018d", 11 + area, random.nextInt(1000), random.nextInt(1000), (long) i);	// 도로명관리번호 26자리
+        f[1] = String.format("%02d%08d", 11 + area, random.nextInt(100_000_000));	// 법정동코드
+        f[2] = SIDO[area];
+        f[3] = SIGUNGU[area];
+        f[4] = pick(EMD);
+        f[5] = random.nextInt(5) == 0 ? "리" + random.nextInt(20) : "";
+        f[6] = random.nextInt(10) == 0 ? "1" : "0";
+        f[7] = String.valueOf(1 + random.nextInt(999));
+        f[8] = random.nextBoolean() ? "0" : String.valueOf(random.nextInt(50));
+        f[9] = String.format("%02d%010d", 11 + area, random.nextInt(1_000_000_000));	// 도로명코드
+        f[10] = pick(ROAD);
+        f[11] = random.nextInt(20) == 0 ? "1" : "0";
+        f[12] = String.valueOf(1 + random.nextInt(500));
+        f[13] = random.nextInt(3) == 0 ? String.valueOf(random.nextInt(30)) : "0";
+        f[14] = String.format("%02d%08d", 11 + area, random.nextInt(100_000_000));	// 행정동코드
+        f[15] = pick(EMD);
+        f[16] = String.format("%05d", random.nextInt(64_000));	// 우편번호 (앞자리 0 포함)
+        f[17] = "";
+        f[18] = String.format("2026%02d%02d", 1 + random.nextInt(12), 1 + random.nextInt(28));
+        f[19] = random.nextInt(4) == 0 ? "1" : "0";
+        f[20] = pick(MV_RSN);
+        f[21] = pick(BLD);
+        f[22] = pick(BLD);
+        f[23] = "";
+        return String.join("|", f) + "\n";
+    }
+
+    private String jusdgLine(int i) {
+        int area = random.nextInt(SIDO.length);
+        String[] f = new String[12];
+        f[0] = String.valueOf(11 + area);
+        f[1] = String.format("%03d", random.nextInt(1000));
+        f[2] = String.format("%03d", random.nextInt(1000));
+        f[3] = random.nextInt(5) == 0 ? String.format("%02d", random.nextInt(100)) : "";
+        f[4] = String.valueOf(random.nextInt(3));
+        f[5] = pick(EMD);
+        f[6] = String.valueOf(1 + random.nextInt(500));
+        f[7] = String.valueOf(random.nextInt(10));
+        f[8] = (101 + random.nextInt(20)) + "동";
+        f[9] = (101 + random.nextInt(1500)) + "호";
+        f[10] = String.valueOf(1 + random.nextInt(30));
+        f[11] = i % 97 == 0 ? "비고" : "";
+        return String.join("|", f) + "\n";
+    }
+
+    /**
+     * 오류 줄 섞기 : 필드 수 부족 / 필수 필드(첫 필드) 누락 / CRLF
+     */
+    private String malformed(String line) {
+        if (random.nextDouble() >= malformedRatio) {
+            return line;
+        }
+        switch (random.nextInt(3)) {
+            case 0:
+                return line.substring(0, line.indexOf('|', line.indexOf('|') + 1)) + "\n";
+            case 1:
+                return line.substring(line.indexOf('|'));
+            default:
+                return line.replace("\n", "\r\n");
+        }
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "fixtures");
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        Files.createDirectories(dir);
+
+        FixtureGenerator generator = new FixtureGenerator(42L, 0.01);
+        Path mst = generator.writeJusukr(dir.resolve("bench_mst.txt"), rows);
+        Path dong = generator.writeJusdg(dir.resolve("bench_dong.txt"), rows);
+        zip(mst, dir.resolve("261018").resolve("bench_JUSUKR.zip"));
+        zip(dong, dir.resolve("261018").resolve("bench_JUSDG.zip"));
+        System.out.println("생성 완료: " + dir.toAbsolutePath() + " (" + rows + " rows)");
+    }
+}
@@ -0,0 +1,134 @@
+package com.addressApi.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.addressApi.batch.AddressChangeFileReader;
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.AddressChangeRow;
+import com.addressApi.batch.AddressChangeWriter;
+import com.addressApi.batch.BatchCheckpointStore;
+import com.addressApi.batch.BatchMetrics;
+import com.addressApi.batch.RejectedRowSink;
+import com.addressApi.batch.TempTableLoader;
+import com.addressApi.batch.TempTableLoaderFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @FileName  : WriterBenchmark.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : TEMP 테이블 적재 벤치마크 (AddressChangeWriter.write) - 내장 인메모리 DB(H2)
+ * 운영 DB 왕복 지연은 포함되지 않으므로 적재 전략(JDBC_BATCH / MULTI_ROW) 간 CPU·할당 비용 비교용
+ * MYBATIS 전략은 매퍼 XML(AddressChangeMapper)이 필요하여 제외
+ * 매 호출 전에 TEMP 테이블을 비우므로 1회 호출 = rows건 INSERT + 커밋
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class WriterBenchmark {
+
+    private static final String TABLE = "TB_ROAD_NM_ADDR_CHG_TEMP";
+    private static final String[] COLUMNS = {
+            "ROAD_NM_CTL_NO", "LGDONG_OSDCD", "SIDO_NM", "SIGUNGU_NM", "EPMYNDN_NM", "RI_NM", "MUNTN_YN",
+            "UPPER_HSNO", "SUB_HSNO", "ROAD_NM_CD", "ROAD_NM", "UND_GRD_YN", "BLD_UPPER_NO", "BLD_SUB_NO",
+            "ADDONG_OSDCD", "ADDONG_EPMYNDN_NM", "ZIP_NO", "BEF_ROAD_NM_ADDR", "APPLY_BGN_DATE", "CMM_BLD_YN",
+            "MV_RSN_CD", "INST_BLD_NM", "BLD_NM", "NOTE", "STD_DATE" };
+
+    @Param({ "50000" })
+    private int rows;
+
+    @Param({ "JDBC_BATCH", "MULTI_ROW" })
+    private TempTableLoader.Strategy strategy;
+
+    @Param({ "1000" })
+    private int flushInterval;
+
+    private PooledDataSource dataSource;
+    private AddressChangeWriter writer;
+    private List<AddressChangeRow> fixture;
+    private final LocalDate stdDate = LocalDate.of(2026, 10, 18);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            StringBuilder ddl = new StringBuilder("CREATE TABLE IF NOT EXISTS ").append(TABLE).append(" (");
+            for (int i = 0; i < COLUMNS.length; i++) {
+                ddl.append(i == 0 ? "" : ", ").append(COLUMNS[i]).append(" VARCHAR(200)");
+            }
+            stmt.execute(ddl.append(')').toString());
+        }
+
+        Configuration configuration = new Configuration(new Environment("bench", new JdbcTransactionFactory(), dataSource));
+        SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+        AddressChangeProperties properties = new AddressChangeProperties();
+        properties.getBulk().setStrategy(strategy);
+        properties.getWriter().setFlushInterval(flushInterval);
+        properties.getWriter().setCommitInterval(0);	// 마지막에 1회 커밋 (체크포인트 미사용)
+
+        BatchMetrics metrics = new BatchMetrics(new SimpleMeterRegistry());
+        writer = new AddressChangeWriter(sqlSessionFactory, properties,
+                new BatchCheckpointStore(properties), new TempTableLoaderFactory(properties), metrics);
+
+        // 적재 입력은 파싱 비용이 섞이지 않도록 미리 읽어 둠 (오류 줄은 Reader에서 제외됨)
+        Path dir = Files.createTempDirectory("juso-bench-writer");
+        try {
+            Path mst = new FixtureGenerator(42L, 0.01).writeJusukr(dir.resolve("bench_mst.txt"), rows);
+            properties.getReject().setFileEnabled(false);
+            fixture = new AddressChangeFileReader(metrics, new RejectedRowSink(properties, metrics)).read(mst.toFile());
+        } finally {
+            BenchFiles.deleteRecursively(dir);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("TRUNCATE TABLE " + TABLE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.forceCloseAll();
+    }
+
+    @Benchmark
+    public int write() {
+        return writer.write(fixture.iterator(), stdDate, null);
+    }
+}
@@ -0,0 +1,108 @@
+package com.addressApi.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.addressApi.batch.AddressChangeFileReader;
+import com.addressApi.batch.AddressChangeProperties;
+import com.addressApi.batch.BatchMetrics;
+import com.addressApi.batch.RejectedRowSink;
+import com.addressApi.batch.ZipExtractor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @FileName  : ZipExtractBenchmark.java
+ * @Project   : Juso_bench
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : ZIP 처리 벤치마크 (ZipExtractor)
+ *  - extractToDisk   : extractTextFile - 디스크에 압축 해제 (keep-extracted=true 경로)
+ *  - streamEntry     : openTextEntry   - 압축 해제 스트림을 읽기만 함 (CRC 검증 포함)
+ *  - streamAndParse  : openTextEntry + AddressChangeFileReader.read - 기본 스트리밍 경로 전체
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ZipExtractBenchmark {
+
+    private static final String ENTRY_SUFFIX = "_mst.txt";
+
+    @Param({ "200000" })
+    private int rows;
+
+    private Path dir;
+    private File zipFile;
+    private String extractRoot;
+
+    private ZipExtractor zipExtractor;
+    private AddressChangeFileReader changeReader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("juso-bench-zip");
+
+        AddressChangeProperties properties = new AddressChangeProperties();
+        properties.getReject().setDir(dir.resolve("rejects").toString());
+        BatchMetrics metrics = new BatchMetrics(new SimpleMeterRegistry());
+        zipExtractor = new ZipExtractor(metrics);
+        changeReader = new AddressChangeFileReader(metrics, new RejectedRowSink(properties, metrics));
+
+        Path mst = new FixtureGenerator(42L, 0.01).writeJusukr(dir.resolve("bench_mst.txt"), rows);
+        zipFile = FixtureGenerator.zip(mst, dir.resolve("download").resolve("261018").resolve("bench_JUSUKR.zip")).toFile();
+        Files.delete(mst);
+        extractRoot = dir.resolve("extracted").toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchFiles.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public File extractToDisk() throws IOException {
+        return zipExtractor.extractTextFile(zipFile, extractRoot, ENTRY_SUFFIX);
+    }
+
+    @Benchmark
+    public long streamEntry() throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        try (InputStream in = zipExtractor.openTextEntry(zipFile, ENTRY_SUFFIX)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int streamAndParse(Blackhole bh) throws IOException {
+        try (InputStream in = zipExtractor.openTextEntry(zipFile, ENTRY_SUFFIX)) {
+            return changeReader.read(in, bh::consume);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.jusoFetcher;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : DownloadStateStore.java
+ * @Project   : Juso_fetcher
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 다운로드 진행 상태 저장소 (logs/last_success_date.txt 대체)
+ * 상태 변경은 한 줄씩 저널 파일 끝에 추가(append) 후 fsync 하며, 각 줄 앞에 CRC32를 기록하여
+ * 기록 도중 중단으로 잘린 줄은 재기동 시 감지 후 무시 (기존 파일 덮어쓰기로 인한 손상 없음)
+ *  - WATERMARK|yyyyMMdd                          : 앞에서부터 연속으로 완료된 마지막 날짜
+ *  - CODE|yyyyMMdd|cntcCd|status|resCode          : 날짜 × 요청코드 처리 결과
+ *  - FILE|yyyyMMdd|cntcCd|fileName|size|sha256|status : 다운로드 파일 1건
+ * 기동 시 저널을 재생(replay)하여 메모리 상태를 복원하고, 중복 기록이 많으면 현재 상태만 임시 파일에 쓴 뒤
+ * 원자적 이름 변경(ATOMIC_MOVE)으로 교체(compaction)
+ * 저널이 없고 기존 last_success_date.txt가 있으면 그 날짜를 WATERMARK로 옮겨 기록 (1회 마이그레이션)
+ */
+@Slf4j
+@Component
+public class DownloadStateStore implements InitializingBean, DisposableBean {
+
+    private static final String JOURNAL_FILE = "download-state.journal";
+    private static final String LEGACY_LAST_DATE_FILE = "logs/last_success_date.txt";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    public enum Status {
+        DONE,		// 정상 수신 (자료 있음)
+        EMPTY,		// 최신 상태 또는 자료 없음
+        FAILED		// 재시도 후에도 실패
+    }
+
+    @Value("${download.state-dir:logs}")
+    private String stateDir;
+
+    private Path journal;
+    private FileChannel channel;
+
+    private LocalDate watermark;
+    private final Map<String, CodeState> codes = new LinkedHashMap<>();
+    private final Map<String, FileState> files = new LinkedHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Path dir = Paths.get(stateDir);
+        Files.createDirectories(dir);
+        journal = dir.resolve(JOURNAL_FILE);
+
+        long started = System.nanoTime();
+        boolean existed = Files.exists(journal);
+        int lines = existed ? replay() : 0;
+        openChannel();
+
+        if (!existed) {
+            migrateLegacy();
+        } else if (lines > 2 * (codes.size() + files.size() + 1) + 100) {
+            compact();
+        }
+        log.info("다운로드 상태 복원 완료 - 마지막 성공일:{}, 코드 {}건, 파일 {}건, 저널 {}줄, {}ms",
+                watermark, codes.size(), files.size(), lines, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * @Method 설명 : 앞에서부터 연속으로 완료된 마지막 날짜 (기록 없으면 null)
+     */
+    public synchronized LocalDate getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * @Method 설명 : 마지막 성공일 갱신 (이전 값보다 뒤일 때만 기록)
+     */
+    public synchronized void advanceWatermark(LocalDate date) {
+        if (watermark != null && !date.isAfter(watermark)) {
+            return;
+        }
+        append("WATERMARK|" + date.format(FORMATTER));
+        watermark = date;
+    }
+
+    /**
+     * @Method 설명 : 날짜 × 요청코드가 이미 완료(DONE/EMPTY)되었는지 여부
+     */
+    public synchronized boolean isCodeComplete(LocalDate date, String cntcCd) {
+        CodeState state = codes.get(codeKey(date, cntcCd));
+        return state != null && state.getStatus() != Status.FAILED;
+    }
+
+    /**
+     * @Method 설명 : 날짜 × 요청코드 처리 결과 기록 (같은 상태로 이미 기록되어 있으면 생략)
+     */
+    public synchronized void recordCode(LocalDate date, String cntcCd, Status status, String resCode) {
+        String key = codeKey(date, cntcCd);
+        CodeState current = codes.get(key);
+        if (current != null && current.getStatus() == status) {
+            return;
+        }
+        append("CODE|" + key + "|" + status + "|" + nvl(resCode));
+        codes.put(key, new CodeState(status, resCode));
+    }
+
+    /**
+     * @Method 설명 : 다운로드 파일 기록 (같은 체크섬으로 이미 기록되어 있으면 생략)
+     * @return 새로 기록했으면 true
+     */
+    public synchronized boolean recordFile(LocalDate date, String cntcCd, String fileName, long size, String sha256, Status status) {
+        String key = codeKey(date, cntcCd) + "|" + fileName;
+        FileState current = files.get(key);
+        if (current != null && current.getStatus() == status && nvl(sha256).equals(nvl(current.getSha256()))) {
+            return false;
+        }
+        append("FILE|" + key + "|" + size + "|" + nvl(sha256) + "|" + status);
+        files.put(key, new FileState(size, sha256, status));
+        return true;
+    }
+
+    /**
+     * @Method 설명 : 저널 재생으로 메모리 상태 복원 (CRC 불일치/형식 오류 줄은 경고 후 무시)
+     * @return 읽은 줄 수
+     */
+    private int replay() throws IOException {
+        int lineNo = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                int tab = line.indexOf('\t');
+                if (tab < 0 || !line.substring(0, tab).equals(crc(line.substring(tab + 1)))) {
+                    log.warn("다운로드 상태 저널 {}번째 줄 손상 - 무시: {}", lineNo, line);
+                    continue;
+                }
+                try {
+                    apply(line.substring(tab + 1).split("\\|", -1));
+                } catch (RuntimeException e) {
+                    log.warn("다운로드 상태 저널 {}번째 줄 해석 실패 - 무시: {}", lineNo, line);
+                }
+            }
+        }
+        return lineNo;
+    }
+
+    private void apply(String[] f) {
+        switch (f[0]) {
+            case "WATERMARK":
+                LocalDate date = LocalDate.parse(f[1], FORMATTER);
+                if (watermark == null || date.isAfter(watermark)) {
+                    watermark = date;
+                }
+                break;
+            case "CODE":
+                codes.put(f[1] + "|" + f[2], new CodeState(Status.valueOf(f[3]), f[4].isEmpty() ? null : f[4]));
+                break;
+            case "FILE":
+                files.put(f[1] + "|" + f[2] + "|" + f[3],
+                        new FileState(Long.parseLong(f[4]), f[5].isEmpty() ? null : f[5], Status.valueOf(f[6])));
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 레코드: " + f[0]);
+        }
+    }
+
+    /**
+     * @Method 설명 : 현재 상태만 임시 파일에 기록 후 fsync, 원자적 이름 변경으로 저널 교체
+     */
+    private void compact() throws IOException {
+        List<String> records = new ArrayList<>();
+        if (watermark != null) {
+            records.add("WATERMARK|" + watermark.format(FORMATTER));
+        }
+        codes.forEach((key, state) -> records.add("CODE|" + key + "|" + state.getStatus() + "|" + nvl(state.getResCode())));
+        files.forEach((key, state) -> records.add("FILE|" + key + "|" + state.getSize() + "|" + nvl(state.getSha256()) + "|" + state.getStatus()));
+
+        Path tmp = journal.resolveSibling(JOURNAL_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (String record : records) {
+                write(out, record);
+            }
+            out.force(true);
+        }
+
+        channel.close();
+        Files.move(tmp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        openChannel();
+        log.info("다운로드 상태 저널 정리 완료 - {}건", records.size());
+    }
+
+    private void migrateLegacy() {
+        Path legacy = Paths.get(LEGACY_LAST_DATE_FILE);
+        if (!Files.exists(legacy)) {
+            return;
+        }
+        try {
+            LocalDate date = LocalDate.parse(Files.readString(legacy).trim(), FORMATTER);
+            advanceWatermark(date);
+            log.info("기존 마지막 성공일 파일 이관: {} → {}", legacy, date);
+        } catch (Exception e) {
+            log.warn("기존 마지막 성공일 파일 이관 실패 (무시): {}", legacy, e);
+        }
+    }
+
+    private void openChannel() throws IOException {
+        channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        // 마지막 줄이 잘린 채 끝났으면 개행을 붙여 다음 기록이 손상 줄에 이어 붙지 않도록 함
+        long size = channel.size();
+        if (size > 0) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            try (FileChannel reader = FileChannel.open(journal, StandardOpenOption.READ)) {
+                reader.read(last, size - 1);
+            }
+            if (last.get(0) != '\n') {
+                channel.write(ByteBuffer.wrap(new byte[] { '\n' }));
+                channel.force(false);
+            }
+        }
+    }
+
+    private void append(String record) {
+        try {
+            write(channel, record);
+            channel.force(false);	// 기록 후 반환 = 디스크 반영 완료
+        } catch (IOException e) {
+            throw new IllegalStateException("다운로드 상태 저장 실패: " + record, e);
+        }
+    }
+
+    private static void write(FileChannel out, String record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((crc(record) + "\t" + record + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static String crc(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    private static String codeKey(LocalDate date, String cntcCd) {
+        return date.format(FORMATTER) + "|" + cntcCd;
+    }
+
+    private static String nvl(String value) {
+        return value == null ? "" : value;
+    }
+
+    @Getter
+    private static final class CodeState {
+        private final Status status;
+        private final String resCode;
+
+        private CodeState(Status status, String resCode) {
+            this.status = status;
+            this.resCode = resCode;
+        }
+    }
+
+    @Getter
+    private static final class FileState {
+        private final long size;
+        private final String sha256;
+        private final Status status;
+
+        private FileState(long size, String sha256, Status status) {
+            this.size = size;
+            this.sha256 = sha256;
+            this.status = status;
+        }
+    }
+}
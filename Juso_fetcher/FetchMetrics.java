@@ -0,0 +1,96 @@
+package com.jusoFetcher;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * @FileName  : FetchMetrics.java
+ * @Project   : Juso_fetcher
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 주소 연계 수집 Micrometer 지표 (Actuator /actuator/prometheus 로 노출)
+ *  - juso.fetch.latency     : 요청코드별 연계 요청 1회(시도 단위) 소요 시간 (cntc_cd, outcome=success|error)
+ *  - juso.fetch.responses   : 요청코드별 응답 코드 건수 (cntc_cd, res_code - 예외로 응답이 없으면 EXCEPTION)
+ *  - juso.fetch.retries     : 요청코드별 재시도 횟수
+ *  - juso.fetch.bytes       : 요청코드별 다운로드 바이트 수
+ *  - juso.fetch.files       : 요청코드별 다운로드 파일 수
+ *  - juso.fetch.quarantined : 무결성 검증 실패로 격리된 ZIP 수
+ *  - juso.fetch.days.behind : 오늘 - 마지막 성공일 (DownloadStateStore 기준, 기록 없으면 NaN)
+ */
+@Component
+public class FetchMetrics {
+
+    private final MeterRegistry registry;
+
+    public FetchMetrics(MeterRegistry registry, DownloadStateStore stateStore) {
+        this.registry = registry;
+        if (stateStore != null) {
+            Gauge.builder("juso.fetch.days.behind", stateStore, FetchMetrics::daysBehind)
+                    .description("days between today and the last contiguous successful date")
+                    .baseUnit("days")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * @Method 설명 : 지표를 기록하지 않는 인스턴스 (스프링 밖에서 UpdateClient를 직접 생성할 때)
+     */
+    public static FetchMetrics noop() {
+        return new FetchMetrics(new CompositeMeterRegistry(), null);
+    }
+
+    public void recordAttempt(String cntcCd, boolean success, long nanos) {
+        Timer.builder("juso.fetch.latency")
+                .description("ADS receive call latency per attempt")
+                .tags("cntc_cd", cntcCd, "outcome", success ? "success" : "error")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponse(String cntcCd, String resCode) {
+        Counter.builder("juso.fetch.responses")
+                .tags("cntc_cd", cntcCd, "res_code", resCode == null ? "EXCEPTION" : resCode)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordRetry(String cntcCd) {
+        Counter.builder("juso.fetch.retries")
+                .tag("cntc_cd", cntcCd)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordDownload(String cntcCd, int files, long bytes) {
+        Counter.builder("juso.fetch.files")
+                .tag("cntc_cd", cntcCd)
+                .register(registry)
+                .increment(files);
+        Counter.builder("juso.fetch.bytes")
+                .baseUnit("bytes")
+                .tag("cntc_cd", cntcCd)
+                .register(registry)
+                .increment(bytes);
+    }
+
+    public void recordQuarantine(String cntcCd) {
+        Counter.builder("juso.fetch.quarantined")
+                .tag("cntc_cd", cntcCd)
+                .register(registry)
+                .increment();
+    }
+
+    private static double daysBehind(DownloadStateStore stateStore) {
+        LocalDate watermark = stateStore.getWatermark();
+        return watermark == null ? Double.NaN : ChronoUnit.DAYS.between(watermark, LocalDate.now());
+    }
+}
@@ -1,6 +1,5 @@
 package com.jusoFetcher;
 
-import com.juso.fetcher.batch.UpdateScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -12,11 +11,10 @@ import org.springframework.http.HttpStatus;
  * 
  * 개발 또는 운영 환경에서 연계 주소 배치(UpdateScheduler)를 수동으로 실행하고자 할 때
  * 사용되는 엔드포인트입니다. 이 컨트롤러는 배치 로직이 담긴 UpdateScheduler를 직접 호출하며,
- * 마지막 성공일 파일(last_success_date.txt)에 기록된 날짜 기준으로 
+ * 다운로드 상태 저장소(DownloadStateStore)에 기록된 마지막 성공일 기준으로 
  * 현재 날짜까지 필요한 날짜 범위의 데이터를 다운로드 시도합니다.
  * 
- * 참고: 특정 날짜를 지정하여 받는 기능은 제공하지 않으며, 필요한 경우 last_success_date.txt 파일을
- * 수동으로 수정 후 해당 API를 호출하십시오.
+ * 참고: 특정 날짜를 지정하여 받는 기능은 제공하지 않으며, 이미 완료된 날짜 × 요청코드는 다시 요청하지 않습니다.
  * 
  */
 @RestController
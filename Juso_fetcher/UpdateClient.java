@@ -1,13 +1,28 @@
 package com.jusoFetcher;
 
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 import kr.go.ads.client.ADSReceiver;
 import kr.go.ads.client.ADSUtils;
 import kr.go.ads.client.ReceiveData;
 import kr.go.ads.client.ReceiveDatas;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -19,6 +34,11 @@ import lombok.extern.slf4j.Slf4j;
  * 주소 연계 API 호출 클라이언트 ▒
  * - 요청코드(100001)로 행안부 API를 통해 요청하며, 설정된 경로에 ZIP 파일을 저장
  * - 연계 응답에 따라 다운로드 성공, 최신 상태, 자료 없음 등을 구분 처리하며 로그 및 성공 여부를 반환
+ * - 요청코드별로 별도 ADSReceiver를 가상 스레드에서 동시에 호출하고, 일시 오류는 지수 백오프(+지터)로 재시도
+ *   (통신/파일 오류만 재시도, 비정상 응답 코드는 승인키/파라미터 오류로 보고 즉시 실패 - retryable-codes에 지정한 코드만 재시도)
+ * - 요청코드별 소요시간/응답 코드/다운로드 바이트 수를 로그와 FetchMetrics(Micrometer)에 기록
+ *   (로그는 요청 1건당 요약 1줄, 파일별 상세는 DEBUG)
+ * - 받은 ZIP은 ZipVerifier로 검증(중앙 디렉터리 + CRC + SHA-256) 후 SHA256SUMS에 기록, 손상 시 격리 후 재시도
  *
  * {@code filePath} : 다운로드 저장 경로 (디렉토리 자동 생성)
  * {@code getAddrInfo()} : 특정 기간 주소 다운로드 요청
@@ -28,14 +48,54 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class UpdateClient {
 
+    // 발급받은 승인키
+    private static final String APP_KEY = "U01TX0FVVEgyMDI1MDUzMDE1NDMxODExNTgwNzk=";
+    private static final String DATE_GB = "D";     // D: 일변동
+    private static final String RETRY_IN = "Y";    // 재반영 여부 (Y or N)
+
+    // 요청 구분 코드 목록 (확장 가능)
+    private static final String[] CNTC_CD_LIST = {
+        "100001", 	// 도로명주소 한글
+        "100004"	// 상세주소동
+    };
+
+    // 요청코드별 ZIP 파일명 식별 문자열 (API 배치의 BatchStage와 동일)
+    private static final Map<String, String> ZIP_NAME_HINTS = Map.of(
+        "100001", "JUSUKR",
+        "100004", "JUSDG"
+    );
+
     private final String filePath;
+    private final RetryPolicy retryPolicy;
+    private final FetchMetrics metrics;
 
     /**
-     * 요청 클라이언트 생성자 (디렉토리 자동 생성 포함)
+     * 요청 클라이언트 생성자 (디렉토리 자동 생성 포함, 기본 재시도 정책)
      * @param filePath 저장 경로
      */
     public UpdateClient(String filePath) {
+        this(filePath, new RetryPolicy(3, 1000, 30000));
+    }
+
+    /**
+     * 요청 클라이언트 생성자 (디렉토리 자동 생성 포함, 지표 미기록)
+     * @param filePath    저장 경로
+     * @param retryPolicy 요청코드별 재시도 정책
+     */
+    public UpdateClient(String filePath, RetryPolicy retryPolicy) {
+        this(filePath, retryPolicy, FetchMetrics.noop());
+    }
+
+    /**
+     * 요청 클라이언트 생성자 (디렉토리 자동 생성 포함)
+     * @param filePath    저장 경로
+     * @param retryPolicy 요청코드별 재시도 정책
+     * @param metrics     요청코드별 지연/응답 코드/바이트 수 지표
+     */
+    public UpdateClient(String filePath, RetryPolicy retryPolicy, FetchMetrics metrics) {
         this.filePath = filePath;
+        this.retryPolicy = retryPolicy;
+        this.metrics = metrics;
 
         // 다운로드 경로 없으면 자동 생성
         try {
@@ -53,63 +113,314 @@ public class UpdateClient {
      * @return true : 데이터 있음 / false : 이전 상태 유지로 응답
      */
     public boolean getAddrInfo(String fromDate, String toDate) {
-        try {
-            ADSReceiver ads = new ADSReceiver();
-            ads.setFilePath(filePath);                         // 다운로드 경로 설정
-            ads.setCreateDateDirectory(ADSUtils.YYMMDD);       // 날짜 폴더 생성방식
-
-            // 필수 파라미터 설정
-            String app_key = "U01TX0FVVEgyMDI1MDUzMDE1NDMxODExNTgwNzk="; // 발급받은 승인키
-            String date_gb = "D";     // D: 일변동
-            String retry_in = "Y";    // 재반영 여부 (Y or N)
-
-			// 요청 구분 코드 목록 (확장 가능)
-            String[] cntcdClist = { 
-            	"100001", 	// 도로명주소 한글
-                "100004"	// 상세주소동
-            };               
-
-            boolean anyUpdated = false;
-
-            for (String cntc_cd : cntcdClist) {
-                log.info("요청 시작 - cntc_cd:{}, date:{}, to:{}", cntc_cd, fromDate, toDate);
-
-                ReceiveDatas res = ads.receiveAddr(app_key, date_gb, cntc_cd, retry_in, fromDate, toDate);
-
-                // 응답 코드 처리
-                String resCode = res.getResCode();
-
-                switch (resCode) {
-                    case "P0000": {
-                        // 정상 응답 - 파일 목록 확인
-                        ArrayList<ReceiveData> result = res.getReceiveDatas(ADSUtils.UPDATE_ASC);
-                        for (ReceiveData data : result) {
-                            log.info("다운로드 완료 : {} (파일명: {})", data.getCntcCode(), data.getFileName());
-                        }
-                        anyUpdated = true;
-                        break;
-                    }
-
-                    case "P1000":
-                    case "E1001": {
-                        // 최신 상태(P1000) or 파일 없음(E1001) → 정상 종료로 처리
-                        log.info("최신 상태 또는 자료 없음 (cntc_cd:{}, date:{})", cntc_cd, fromDate);
-                        break;
-                    }
-
-                    default: {
-                        // 그 외 에러는 예외 처리
-                        log.error("연계 오류 발생 (code:{}, message:{})", resCode, res.getResMsg());
-                        throw new RuntimeException("연계 실패: " + resCode + " - " + res.getResMsg());
-                    }
+        List<FetchResult> results = fetch(fromDate, toDate);
+        for (FetchResult result : results) {
+            if (result.isFailed()) {
+                throw new RuntimeException("주소 연계 요청 실패 (cntc_cd:" + result.getCntcCd() + ")", result.getError());
+            }
+        }
+        return results.stream().anyMatch(FetchResult::isUpdated);
+    }
+
+    /**
+     * @Method 설명 : 요청코드별로 가상 스레드에서 동시에 연계 요청 후 결과 목록 반환
+     * 한 코드가 실패해도 나머지 코드는 끝까지 받고, 실패한 코드는 isFailed() 결과로 함께 반환 (호출부에서 성공분 기록 후 처리)
+     * @param fromDate 시작일 (YYYYMMDD)
+     * @param toDate 종료일 (YYYYMMDD)
+     * @return 요청코드별 결과 (요청 순서, 실패 포함)
+     */
+    public List<FetchResult> fetch(String fromDate, String toDate) {
+        return fetch(fromDate, toDate, cntcCodes());
+    }
+
+    /**
+     * @Method 설명 : 지정한 요청코드만 동시에 연계 요청 (이미 받은 코드를 제외한 재요청 등)
+     * @param fromDate 시작일 (YYYYMMDD)
+     * @param toDate 종료일 (YYYYMMDD)
+     * @param cntcCds 요청코드 목록
+     * @return 요청코드별 결과 (요청 순서, 실패 포함)
+     */
+    public List<FetchResult> fetch(String fromDate, String toDate, List<String> cntcCds) {
+        List<FetchResult> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<FetchResult>> futures = new ArrayList<>();
+            for (String cntcCd : cntcCds) {
+                futures.add(executor.submit(() -> fetchWithRetry(cntcCd, fromDate, toDate)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    log.error("연계 실패 (cntc_cd:{}, date:{}~{}): {}", cntcCds.get(i), fromDate, toDate, e.getCause().getMessage());
+                    results.add(FetchResult.failed(cntcCds.get(i), e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("주소 연계 요청 중단 (날짜: " + fromDate + ")", e);
+        }
+        return results;
+    }
+
+    /**
+     * @Method 설명 : 요청 대상 코드 목록
+     */
+    public static List<String> cntcCodes() {
+        return List.of(CNTC_CD_LIST);
+    }
+
+    /**
+     * @Method 설명 : 요청코드 1건을 전용 ADSReceiver로 요청하고, 통신/파일 오류 시 지수 백오프로 재시도
+     * 재시도 대상이 아닌 응답 코드(승인키 오류, 파라미터 오류 등)는 재시도하지 않고 바로 실패
+     */
+    private FetchResult fetchWithRetry(String cntcCd, String fromDate, String toDate) throws InterruptedException {
+        int maxAttempts = Math.max(1, retryPolicy.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            long started = System.nanoTime();
+            try {
+                FetchResult result = fetchOnce(cntcCd, fromDate, toDate);
+                long elapsed = System.nanoTime() - started;
+                result.latencyMs = elapsed / 1_000_000;
+                result.attempts = attempt;
+                metrics.recordAttempt(cntcCd, true, elapsed);
+                metrics.recordDownload(cntcCd, result.files.size(), result.bytes);
+                // 요청 1건당 요약 로그 1줄 (파일별 로그 대신 파일명 목록 포함)
+                log.info("요청 완료 - cntc_cd:{}, date:{}~{}, code:{}, 파일:{}건 {}, {}bytes, {}ms, 시도:{}회",
+                        cntcCd, fromDate, toDate, result.resCode, result.files.size(), result.fileNames(),
+                        result.bytes, result.latencyMs, attempt);
+                return result;
+
+            } catch (Exception e) {
+                metrics.recordAttempt(cntcCd, false, System.nanoTime() - started);
+                if (e instanceof ResponseCodeException && !retryPolicy.isRetryable(((ResponseCodeException) e).getResCode())) {
+                    throw new RuntimeException("연계 실패 (cntc_cd:" + cntcCd + ", 재시도 제외 응답): " + e.getMessage(), e);
+                }
+                if (attempt >= maxAttempts) {
+                    throw new RuntimeException("연계 실패 (cntc_cd:" + cntcCd + ", 시도 " + attempt + "회): " + e.getMessage(), e);
                 }
+                long backoff = retryPolicy.backoffMillis(attempt);
+                log.warn("연계 오류 - cntc_cd:{}, date:{}~{}, 시도 {}/{}회, {}ms 후 재시도: {}",
+                        cntcCd, fromDate, toDate, attempt, maxAttempts, backoff, e.getMessage());
+                metrics.recordRetry(cntcCd);
+                Thread.sleep(backoff);
             }
+        }
+    }
 
-            return anyUpdated;
+    private FetchResult fetchOnce(String cntcCd, String fromDate, String toDate) throws Exception {
+        ADSReceiver ads = new ADSReceiver();
+        ads.setFilePath(filePath);                         // 다운로드 경로 설정
+        ads.setCreateDateDirectory(ADSUtils.YYMMDD);       // 날짜 폴더 생성방식
 
+        log.debug("요청 시작 - cntc_cd:{}, date:{}, to:{}", cntcCd, fromDate, toDate);
+        ReceiveDatas res;
+        try {
+            res = ads.receiveAddr(APP_KEY, DATE_GB, cntcCd, RETRY_IN, fromDate, toDate);
         } catch (Exception e) {
-            Log.error("주소 연계 요청 중 예외 발생 (날짜: {})", fromDate, e);
-            throw new RuntimeException("주소 연계 요청 실패", e);
+            metrics.recordResponse(cntcCd, null);	// 응답 없음 (통신 오류 등)
+            throw e;
+        }
+
+        // 응답 코드 처리
+        String resCode = res.getResCode();
+        metrics.recordResponse(cntcCd, resCode);
+        FetchResult result = new FetchResult(cntcCd, resCode);
+
+        switch (resCode) {
+            case "P0000": {
+                // 정상 응답 - 파일 목록 확인
+                ArrayList<ReceiveData> datas = res.getReceiveDatas(ADSUtils.UPDATE_ASC);
+                for (ReceiveData data : datas) {
+                    DownloadedFile file = describe(cntcCd, data.getFileName());
+                    result.files.add(file);
+                    result.bytes += file.size;
+                    log.debug("다운로드 완료 : {} (파일명: {})", data.getCntcCode(), data.getFileName());
+                }
+                result.updated = true;
+                break;
+            }
+
+            case "P1000":
+            case "E1001": {
+                // 최신 상태(P1000) or 파일 없음(E1001) → 정상 종료로 처리
+                log.debug("최신 상태 또는 자료 없음 (cntc_cd:{}, date:{})", cntcCd, fromDate);
+                break;
+            }
+
+            default: {
+                // 그 외 응답 코드는 예외 처리 (retryable-codes에 지정된 코드만 재시도)
+                log.error("연계 오류 발생 (code:{}, message:{})", resCode, res.getResMsg());
+                throw new ResponseCodeException(resCode, res.getResMsg());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Method 설명 : 다운로드 경로(날짜 하위 폴더 포함)에서 파일명으로 찾은 최신 파일을 검증하고 위치/크기/SHA-256 반환
+     * 검증에 성공한 ZIP은 날짜 폴더 SHA256SUMS에 기록하고, 손상된 ZIP은 격리 후 예외 (재시도 대상)
+     */
+    private DownloadedFile describe(String cntcCd, String fileName) throws IOException {
+        DownloadedFile file = new DownloadedFile(fileName);
+        if (fileName == null) {
+            return file;
+        }
+
+        Path found;
+        try (Stream<Path> files = Files.walk(Paths.get(filePath), 2)) {
+            found = files.filter(p -> fileName.equals(p.getFileName().toString()) && Files.isRegularFile(p))
+                    .max(Comparator.comparingLong(p -> p.toFile().lastModified()))
+                    .orElse(null);
+        }
+        if (found == null) {
+            log.warn("다운로드 파일을 찾을 수 없음: {}", fileName);
+            return file;
+        }
+
+        ZipVerifier.Result verified = ZipVerifier.verify(found);
+        if (!verified.isValid()) {
+            ZipVerifier.quarantine(found, Paths.get(filePath));
+            metrics.recordQuarantine(cntcCd);
+            throw new IOException("ZIP 무결성 검증 실패 (" + fileName + "): " + verified.getError());
+        }
+        ZipVerifier.recordManifest(found.getParent(), fileName, verified.getSha256());
+
+        file.path = found;
+        file.size = verified.getSize();
+        file.sha256 = verified.getSha256();
+        return file;
+    }
+
+    /**
+     * @Method 설명 : 날짜 폴더에 요청코드의 ZIP이 이미 있고 SHA256SUMS와 일치하는지 여부 (재다운로드 생략 판단)
+     * @param date   자료 일자
+     * @param cntcCd 요청코드
+     */
+    public boolean hasVerifiedFile(LocalDate date, String cntcCd) {
+        String nameHint = ZIP_NAME_HINTS.get(cntcCd);
+        Path dateDir = Paths.get(filePath, date.format(DateTimeFormatter.ofPattern("yyMMdd")));
+        if (nameHint == null || !Files.isDirectory(dateDir)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(dateDir)) {
+            Map<String, String> manifest = ZipVerifier.readManifest(dateDir);
+            return files.filter(p -> p.getFileName().toString().toUpperCase().contains(nameHint))
+                    .anyMatch(p -> ZipVerifier.isVerified(p, manifest));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 요청코드 1건의 연계 결과 (재시도 후에도 실패하면 error에 원인, resCode는 응답 코드 오류일 때만 있음)
+     */
+    @Getter
+    public static class FetchResult {
+        private final String cntcCd;
+        private final String resCode;
+        private final List<DownloadedFile> files = new ArrayList<>();
+        private boolean updated;
+        private long bytes;
+        private long latencyMs;
+        private int attempts;
+        private Throwable error;
+
+        private FetchResult(String cntcCd, String resCode) {
+            this.cntcCd = cntcCd;
+            this.resCode = resCode;
+        }
+
+        private static FetchResult failed(String cntcCd, Throwable error) {
+            Throwable cause = error;
+            while (cause != null && !(cause instanceof ResponseCodeException)) {
+                cause = cause.getCause();
+            }
+            FetchResult result = new FetchResult(cntcCd, cause == null ? null : ((ResponseCodeException) cause).getResCode());
+            result.error = error;
+            return result;
+        }
+
+        public boolean isFailed() {
+            return error != null;
+        }
+
+        /**
+         * @Method 설명 : 요약 로그용 파일명 목록
+         */
+        public List<String> fileNames() {
+            List<String> names = new ArrayList<>(files.size());
+            for (DownloadedFile file : files) {
+                names.add(file.fileName);
+            }
+            return names;
+        }
+    }
+
+    /**
+     * 다운로드된 파일 1건 (path는 다운로드 경로에서 찾지 못하면 null)
+     */
+    @Getter
+    public static class DownloadedFile {
+        private final String fileName;
+        private Path path;
+        private long size;
+        private String sha256;
+
+        private DownloadedFile(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+
+    /**
+     * 연계 API가 정상 외 응답 코드를 돌려준 경우 (통신 오류와 구분하여 재시도 여부 판단)
+     */
+    @Getter
+    public static class ResponseCodeException extends RuntimeException {
+        private final String resCode;
+
+        private ResponseCodeException(String resCode, String resMsg) {
+            super("연계 실패: " + resCode + " - " + resMsg);
+            this.resCode = resCode;
+        }
+    }
+
+    /**
+     * 요청코드별 재시도 정책 (지수 백오프 + 지터)
+     */
+    @Getter
+    public static class RetryPolicy {
+        private final int maxAttempts;			// 최초 요청 포함 최대 시도 횟수
+        private final long initialBackoffMs;	// 첫 재시도 대기 시간
+        private final long maxBackoffMs;		// 재시도 대기 시간 상한
+        private final Set<String> retryableCodes;	// 재시도할 응답 코드 (일시 장애 코드, 그 외 응답 코드는 즉시 실패)
+
+        public RetryPolicy(int maxAttempts, long initialBackoffMs, long maxBackoffMs) {
+            this(maxAttempts, initialBackoffMs, maxBackoffMs, Set.of());
+        }
+
+        public RetryPolicy(int maxAttempts, long initialBackoffMs, long maxBackoffMs, Set<String> retryableCodes) {
+            this.maxAttempts = maxAttempts;
+            this.initialBackoffMs = initialBackoffMs;
+            this.maxBackoffMs = maxBackoffMs;
+            this.retryableCodes = retryableCodes;
+        }
+
+        /**
+         * @Method 설명 : 응답 코드가 재시도 대상인지 여부
+         */
+        boolean isRetryable(String resCode) {
+            return retryableCodes.contains(resCode);
+        }
+
+        /**
+         * @Method 설명 : attempt번째 실패 후 대기 시간 (initial * 2^(attempt-1), 상한 적용 후 50~100% 구간에서 무작위)
+         */
+        long backoffMillis(int attempt) {
+            long base = initialBackoffMs << Math.min(attempt - 1, 20);
+            long capped = Math.max(1, Math.min(maxBackoffMs, base));
+            return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
         }
     }
-}
\ No newline at end of file
+}
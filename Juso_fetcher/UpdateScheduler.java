@@ -1,3 +1,34 @@
+package com.jusoFetcher;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * @FileName  : UpdateScheduler.java
  * @Project   : juso_fetcher
@@ -5,94 +36,322 @@
  * @작성자      : 현태호
  * @설명       : 주소 연계 배치 스케줄러
  * 매일 오전 지정된 시간에 도로명주소 변동 자료를 연계API를 통해 다운로드
- * 이전 실행일자를 기준으로 누락된 일수를 계산하여, 최대 10일치까지 자동으로 복구 처리
- * 마지막 성공일자는 로그 파일('logs/last_success_date.txt')에 기록되며, 다운로드 성공 여부에 따라 날짜를 갱신
+ * 이전 실행일자를 기준으로 누락된 기간을 계산하여, 기간 단위(window-days)로 나눠 범위 요청으로 자동 복구 처리
+ * 구간들은 동시 실행 한도(max-concurrency) 내에서 병렬로 받고, 마지막 성공일은 앞에서부터 모든 요청코드가 완료된 날짜가 연속되는 데까지만 갱신
+ * 마지막 성공일자와 날짜 × 요청코드 × 파일별 상태는 DownloadStateStore(저널)에 기록
+ * 재실행 시 이미 완료된 날짜 × 요청코드는 다시 요청하지 않음
+ * 날짜의 모든 요청코드가 완료(ZIP 검증 포함)되면 날짜 폴더에 준비 완료 마커를 생성하여 주소 일배치(Juso_api)에 알림
+ * (매 실행 끝에 마커 없는 날짜 폴더를 다시 확인하므로 요청을 생략한 구간, 마커 쓰기 실패, 이전에 받은 폴더도 마커가 생성됨)
+ * 요청코드별 지연/응답 코드/바이트 수와 누락 일수(days behind)는 FetchMetrics로 /actuator/prometheus에 노출
  * 
  * {@code download-path} : 다운로드 대상 폴더 경로 (.yml)
  * {@code scheduler.cron} : 스케줄 실행 주기 설정 (.yml)
+ * {@code download.retry.*} : 요청코드별 재시도 횟수/백오프 설정 (.yml)
+ * {@code download.backfill.*} : 누락 기간 분할 크기/동시 실행 구간 수 설정 (.yml)
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class UpdateScheduler {
 
-    private static final String LAST_DATE_FILE = "logs/last_success_date.txt"; // 마지막 성공일 저장 경로
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DIR_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private final DownloadStateStore stateStore;
+    private final FetchMetrics metrics;
 
     @Value("${download-path}")
     private String filePath;
 
+    @Value("${download.retry.max-attempts:3}")
+    private int retryMaxAttempts;		// 요청코드별 최대 시도 횟수 (최초 요청 포함)
+
+    @Value("${download.retry.initial-backoff-ms:1000}")
+    private long retryInitialBackoffMs;	// 첫 재시도 대기 시간 (이후 2배씩 증가, 지터 적용)
+
+    @Value("${download.retry.max-backoff-ms:30000}")
+    private long retryMaxBackoffMs;		// 재시도 대기 시간 상한
+
+    @Value("${download.retry.retryable-codes:}")
+    private String[] retryableCodes;	// 재시도할 응답 코드 (미지정 시 비정상 응답 코드는 재시도 없이 실패)
+
+    @Value("${download.backfill.window-days:10}")
+    private int windowDays;				// 범위 요청 1회당 최대 일수 (초과 시 구간 분할)
+
+    @Value("${download.backfill.max-concurrency:2}")
+    private int maxConcurrency;			// 동시에 요청할 최대 구간 수
+
+    @Value("${download.ready-marker:_READY}")
+    private String readyMarker;			// 날짜 폴더 준비 완료 마커 파일명 (Juso_api address-change.ready.marker-file과 동일)
+
     /**
      * @Method 설명 : 매일 지정된 시간에 자동 실행되는 주소 다운로드 배치 작업
+     * 마지막 성공일 다음날부터 오늘까지를 window-days 단위 구간으로 나눠 범위 요청
+     * 누락일 여부와 관계없이 마지막에 마커 없는 날짜 폴더의 준비 완료 마커를 생성
      */ 
     @Scheduled(cron = "${schedule.cron}")
     public void downloadDailyUpdate() {
+        try {
+            downloadMissingDays();
+        } finally {
+            markReadyFolders();
+        }
+    }
+
+    private void downloadMissingDays() {
         LocalDate today = LocalDate.now();
-        LocalDate lastSuccessDate = readLastSuccessDate();
+        LocalDate lastSuccessDate = stateStore.getWatermark() != null
+                ? stateStore.getWatermark()
+                : today.minusDays(1); // 기본값 : 어제
 
         long daysGap = ChronoUnit.DAYS.between(lastSuccessDate, today);
         log.info("오늘 : {}, 마지막성공일: {}, 누락일: {}일", today, lastSuccessDate, daysGap);
 
-        if (daysGap > 10) {
-            log.error("누릭일 {}일 → 10일 초과로 자동 다운로드 불가. 수동 처리 필요!", daysGap);
+        if (daysGap <= 0) {
+            log.info("누락일 없음 - 종료");
             return;
         }
 
-        for (int i = 1; i <= daysGap; i++) {
-            LocalDate target = lastSuccessDate.plusDays(i);
-            String dateStr = target.format(FORMATTER);
+        List<LocalDate[]> windows = splitWindows(lastSuccessDate.plusDays(1), today);
+        log.info("누락 기간 {} ~ {} → {}개 구간 (구간당 최대 {}일, 동시 {}개)",
+                lastSuccessDate.plusDays(1), today, windows.size(), Math.max(1, windowDays), Math.max(1, maxConcurrency));
+
+        backfill(windows);
+    }
+
+    /**
+     * @Method 설명 : [from, to] 기간을 window-days 단위 구간으로 분할 (날짜 오름차순)
+     */
+    private List<LocalDate[]> splitWindows(LocalDate from, LocalDate to) {
+        int size = Math.max(1, windowDays);
+        List<LocalDate[]> windows = new ArrayList<>();
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(size)) {
+            LocalDate end = start.plusDays(size - 1L);
+            windows.add(new LocalDate[] { start, end.isAfter(to) ? to : end });
+        }
+        return windows;
+    }
+
+    /**
+     * @Method 설명 : 구간들을 동시 실행 한도 내에서 병렬로 요청하고, 앞 구간부터 순서대로 결과를 확인하여 마지막 성공일 갱신
+     * 마지막 성공일은 구간 단위가 아니라 날짜 단위로, 완료된 날짜가 끊기지 않고 이어지는 데까지만 갱신
+     * 중간 구간이 실패하면 그 구간 안에서 완료된 앞쪽 날짜까지만 반영하고 이후 구간은 취소 (다음 실행 시 미완료 날짜부터 재요청)
+     */
+    private void backfill(List<LocalDate[]> windows) {
+        UpdateClient client = newClient();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(windows.size(), Math.max(1, maxConcurrency)));
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (LocalDate[] window : windows) {
+                futures.add(executor.submit(() -> fetchWindow(client, window[0], window[1])));
+            }
+
+            for (int i = 0; i < windows.size(); i++) {
+                LocalDate[] window = windows.get(i);
+                try {
+                    boolean isUpdated = futures.get(i).get();
+                    if (isUpdated) {
+                        log.info("{} ~ {} 다운로드 성공", window[0], window[1]);
+                    } else {
+                        log.info("{} ~ {} 자료 없음 또는 최신 상태입니다.", window[0], window[1]);
+                    }
+
+                    advanceWatermark(windows.get(0)[0], window[1]);
+
+                } catch (ExecutionException e) {
+                    advanceWatermark(windows.get(0)[0], window[1]);
+                    log.error("{} ~ {} 다운로드 실패 - 이후 {}개 구간 취소 (마지막 성공일: {})",
+                            window[0], window[1], windows.size() - i - 1, stateStore.getWatermark(), e.getCause());
+                    break;	// 실패 시 이후 구간 중단
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("다운로드 대기 중 인터럽트 - 중단", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UpdateClient newClient() {
+        return new UpdateClient(filePath,
+                new UpdateClient.RetryPolicy(retryMaxAttempts, retryInitialBackoffMs, retryMaxBackoffMs, Set.copyOf(Arrays.asList(retryableCodes))), metrics);
+    }
+
+    /**
+     * @Method 설명 : 마지막 성공일 다음날(기록이 없으면 start)부터 to까지 모든 요청코드가 완료된 날짜가 연속되는 마지막 날로 갱신
+     */
+    private void advanceWatermark(LocalDate start, LocalDate to) {
+        LocalDate watermark = stateStore.getWatermark();
+        LocalDate last = null;
+        for (LocalDate date = watermark == null ? start : watermark.plusDays(1); !date.isAfter(to) && isDateComplete(date); date = date.plusDays(1)) {
+            last = date;
+        }
+        if (last != null) {
+            stateStore.advanceWatermark(last);
+        }
+    }
+
+    /**
+     * @Method 설명 : 날짜의 모든 요청코드가 완료(DONE/EMPTY)되었는지 여부
+     */
+    private boolean isDateComplete(LocalDate date) {
+        for (String cntcCd : UpdateClient.cntcCodes()) {
+            if (!stateStore.isCodeComplete(date, cntcCd)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            try {
-                // 요청 생성 (성공 여부 반환받음)
-                UpdateClient client = new UpdateClient(filePath);
-                boolean isUpdated = client.getAddrInfo(dateStr, dateStr); // from = to = 해당 날짜
+    /**
+     * @Method 설명 : 구간 1개 요청 - 구간 전체가 완료되지 않은 요청코드만 요청하고 결과를 상태 저장소에 즉시 기록
+     * 뒤 구간이 앞 구간보다 먼저 끝나도 기록은 남으므로 재실행 시 다시 받지 않음
+     * 요청코드별 상태는 날짜마다 기록 (받은 파일이 있는 날짜는 DONE, 나머지 날짜는 EMPTY, 실패한 코드는 FAILED)
+     * 일부 요청코드가 실패해도 성공한 코드의 결과를 모두 기록한 뒤 첫 실패를 예외로 전달
+     * @return 새로 받은 자료가 있으면 true
+     */
+    private boolean fetchWindow(UpdateClient client, LocalDate from, LocalDate to) {
+        List<String> pending = new ArrayList<>();
+        for (String cntcCd : UpdateClient.cntcCodes()) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (stateStore.isCodeComplete(date, cntcCd)) {
+                    continue;
+                }
+                // 상태 기록은 없지만 검증된 ZIP이 이미 있으면 (상태 유실, 수동 복사 등) 완료로 기록하고 다시 받지 않음
+                if (client.hasVerifiedFile(date, cntcCd)) {
+                    stateStore.recordCode(date, cntcCd, DownloadStateStore.Status.DONE, "PRESENT");
+                    continue;
+                }
+                pending.add(cntcCd);
+                break;
+            }
+        }
+        if (pending.isEmpty()) {
+            log.info("{} ~ {} 이미 완료된 구간 - 요청 생략", from, to);
+            return false;
+        }
 
-                if (isUpdated) {
-                    log.info("{} 다운로드 성공", dateStr);
-                } else {
-                    log.info("{} 자료 없음 또는 최신 상태입니다.", dateStr);
+        boolean anyUpdated = false;
+        RuntimeException failure = null;
+        for (UpdateClient.FetchResult result : client.fetch(from.format(FORMATTER), to.format(FORMATTER), pending)) {
+            if (result.isFailed()) {
+                for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                    if (!stateStore.isCodeComplete(date, result.getCntcCd())) {
+                        stateStore.recordCode(date, result.getCntcCd(), DownloadStateStore.Status.FAILED, result.getResCode());
+                    }
                 }
+                if (failure == null) {
+                    failure = new RuntimeException("주소 연계 요청 실패 (cntc_cd:" + result.getCntcCd() + ")", result.getError());
+                }
+                continue;
+            }
 
-                // 성공할 경우 날짜 갱신
-                writeLastSuccessDate(target);
+            Set<LocalDate> received = new HashSet<>();
+            for (UpdateClient.DownloadedFile file : result.getFiles()) {
+                LocalDate date = dateOf(file, from);
+                stateStore.recordFile(date, result.getCntcCd(), file.getFileName(),
+                        file.getSize(), file.getSha256(), DownloadStateStore.Status.DONE);
+                received.add(date);
+            }
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (received.contains(date)) {
+                    stateStore.recordCode(date, result.getCntcCd(), DownloadStateStore.Status.DONE, result.getResCode());
+                } else if (!stateStore.isCodeComplete(date, result.getCntcCd())) {
+                    stateStore.recordCode(date, result.getCntcCd(), DownloadStateStore.Status.EMPTY, result.getResCode());	// 이전 실행에서 받은 날짜는 유지
+                }
+            }
+            anyUpdated |= result.isUpdated();
+        }
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            markReady(date);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return anyUpdated;
+    }
+
+    /**
+     * @Method 설명 : 다운로드 경로에서 마커가 없는 날짜 폴더(yyMMdd)를 모두 찾아 준비 완료 마커 생성 시도 (매 실행마다 수행)
+     * 마커는 모든 요청코드에 실제 요청 결과(DONE/EMPTY)가 기록된 날짜에만 생성하며, 기록이 없는 요청코드의 상태를 추정하여 채우지 않음
+     * 마지막 성공일 이전인데 결과가 없는 요청코드(상태 저널 도입 전 폴더 등)는 자동 재요청 대상이 아니므로 경고만 남김
+     */
+    private void markReadyFolders() {
+        Path root = Paths.get(filePath);
+        List<LocalDate> dates = new ArrayList<>();
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.filter(dir -> Files.isDirectory(dir) && !Files.exists(dir.resolve(readyMarker)))
+                    .forEach(dir -> {
+                        try {
+                            dates.add(LocalDate.parse(dir.getFileName().toString(), DIR_FORMATTER));
+                        } catch (DateTimeParseException e) {
+                            // 날짜 폴더가 아님 (격리 폴더 등)
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("준비 완료 마커 대상 폴더 조회 실패: {}", e.getMessage());
+            return;
+        }
 
-            } catch (Exception e) {
-                log.error("{} 다운로드 실패", dateStr, e);
-                break;	// 실패 시 반복 중단
+        LocalDate watermark = stateStore.getWatermark();
+        for (LocalDate date : dates) {
+            if (isDateComplete(date)) {
+                markReady(date);
+                continue;
+            }
+            if (watermark != null && !date.isAfter(watermark)) {
+                List<String> missing = new ArrayList<>();
+                for (String cntcCd : UpdateClient.cntcCodes()) {
+                    if (!stateStore.isCodeComplete(date, cntcCd)) {
+                        missing.add(cntcCd);
+                    }
+                }
+                log.warn("{} 요청 결과가 없는 요청코드 {} - 준비 완료 마커 보류 (해당 날짜 재요청 필요)", date, missing);
             }
         }
     }
 
     /**
-     * @Method 설명 : 다운로드 성공(또는 최신 상태)을 경우 파일에 날짜 저장
-     * @param target
+     * @Method 설명 : 날짜의 모든 요청코드가 완료되었고 날짜 폴더가 있으면 준비 완료 마커 생성 (임시 파일 + 원자적 이름 변경)
+     * 마커 내용은 SHA256SUMS와 같은 검증 목록이며, 자료가 없어 폴더가 없는 날짜는 생성하지 않음
      */
-    private void writeLastSuccessDate(LocalDate date) {
+    private void markReady(LocalDate date) {
+        if (!isDateComplete(date)) {
+            return;
+        }
+        Path dateDir = Paths.get(filePath, date.format(DIR_FORMATTER));
+        Path marker = dateDir.resolve(readyMarker);
+        if (!Files.isDirectory(dateDir) || Files.exists(marker)) {
+            return;
+        }
+
         try {
-            Path dir = Paths.get("logs");
-            if (!Files.exists(dir)) Files.createDirectories(dir);
+            StringBuilder content = new StringBuilder("# ready ").append(LocalDateTime.now()).append('\n');
+            ZipVerifier.readManifest(dateDir).forEach((name, sum) -> content.append(sum).append("  ").append(name).append('\n'));
 
-            Files.writeString(Paths.get(LAST_DATE_FILE), date.format(FORMATTER),
-                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            Path tmp = dateDir.resolve(readyMarker + ".tmp");
+            Files.writeString(tmp, content, StandardCharsets.UTF_8);
+            Files.move(tmp, marker, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("{} 준비 완료 마커 생성: {}", date, marker);
         } catch (IOException e) {
-            log.error("마지막 성공일 저장 실패", e);
+            log.warn("{} 준비 완료 마커 생성 실패 (다음 실행 시 재시도, 주소 일배치는 cron으로 실행): {}", date, e.getMessage());
         }
     }
 
     /**
-     * @Method 설명 : 마지막 성공일을 파일에서 읽어 반환 (파일 없으면 어제로 간주)
-     * @return
+     * @Method 설명 : 다운로드 파일의 날짜 폴더명(yyMMdd)으로 자료 일자 판별 (판별 불가 시 구간 시작일)
      */
-    private LocalDate readLastSuccessDate() {
+    private LocalDate dateOf(UpdateClient.DownloadedFile file, LocalDate fallback) {
+        if (file.getPath() == null || file.getPath().getParent() == null) {
+            return fallback;
+        }
         try {
-        	Path path = Paths.get(LAST_DATE_FILE);
-            if (!Files.exists(path)) {
-                return LocalDate.now().minusDays(1); // 기본값 : 어제
-            }
-            String content = Files.readString(path).trim();
-            return LocalDate.parse(content, FORMATTER);
+            return LocalDate.parse(file.getPath().getParent().getFileName().toString(), DIR_FORMATTER);
         } catch (Exception e) {
-            log.warn("마지막 성공일 읽기 실패 - 기본값 사용", e);
-            return LocalDate.now().minusDays(1);
+            return fallback;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,201 @@
+package com.jusoFetcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @FileName  : ZipVerifier.java
+ * @Project   : Juso_fetcher
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 다운로드된 ZIP 무결성 검증 / 체크섬 목록(SHA256SUMS) / 격리 처리
+ * 1) ZipFile로 중앙 디렉터리(끝부분)를 읽어 잘린 파일을 걸러내고
+ * 2) 파일을 한 번만 순차로 읽으면서 SHA-256과 엔트리별 CRC32/크기를 동시에 계산하여 중앙 디렉터리 값과 비교
+ * 검증된 ZIP은 날짜 폴더의 SHA256SUMS(sha256sum 형식)에 기록하고, 손상된 ZIP은 quarantine 폴더로 이동
+ */
+@Slf4j
+public final class ZipVerifier {
+
+    public static final String MANIFEST_FILE = "SHA256SUMS";
+    public static final String QUARANTINE_DIR = "quarantine";
+
+    private static final Object MANIFEST_LOCK = new Object();
+
+    private ZipVerifier() {
+    }
+
+    /**
+     * ZIP 1건 검증 결과
+     */
+    @Getter
+    public static class Result {
+        private final Path path;
+        private boolean valid;
+        private String sha256;
+        private long size;
+        private int entries;
+        private String error;
+
+        private Result(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * @Method 설명 : 중앙 디렉터리 + 엔트리별 CRC 검증, SHA-256 계산 (파일 본문은 1회만 읽음)
+     */
+    public static Result verify(Path zip) {
+        Result result = new Result(zip);
+        try {
+            Map<String, ZipEntry> central = new HashMap<>();
+            try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+                Enumeration<? extends ZipEntry> en = zipFile.entries();
+                while (en.hasMoreElements()) {
+                    ZipEntry entry = en.nextElement();
+                    central.put(entry.getName(), entry);
+                }
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int streamed = 0;
+
+            try (DigestInputStream raw = new DigestInputStream(Files.newInputStream(zip), digest);
+                 ZipInputStream in = new ZipInputStream(raw)) {
+                ZipEntry entry;
+                while ((entry = in.getNextEntry()) != null) {
+                    ZipEntry expected = central.get(entry.getName());
+                    if (expected == null) {
+                        throw new IOException("중앙 디렉터리에 없는 엔트리: " + entry.getName());
+                    }
+
+                    CRC32 crc = new CRC32();
+                    long size = 0;
+                    int n;
+                    while ((n = in.read(buffer)) != -1) {
+                        crc.update(buffer, 0, n);
+                        size += n;
+                    }
+                    if (!expected.isDirectory() && (crc.getValue() != expected.getCrc() || size != expected.getSize())) {
+                        throw new IOException("엔트리 CRC/크기 불일치: " + entry.getName());
+                    }
+                    streamed++;
+                }
+
+                // 중앙 디렉터리 영역까지 읽어 파일 전체 SHA-256 완성
+                while (raw.read(buffer) != -1) {
+                    // drain
+                }
+            }
+
+            if (streamed != central.size()) {
+                throw new IOException("엔트리 수 불일치 (로컬 " + streamed + "건, 중앙 디렉터리 " + central.size() + "건)");
+            }
+
+            result.sha256 = HexFormat.of().formatHex(digest.digest());
+            result.size = Files.size(zip);
+            result.entries = streamed;
+            result.valid = true;
+
+        } catch (IOException | NoSuchAlgorithmException e) {
+            result.error = e.getMessage();
+        }
+        return result;
+    }
+
+    /**
+     * @Method 설명 : 손상된 ZIP을 root/quarantine/날짜폴더/파일명.시각 으로 이동
+     * @return 이동된 경로
+     */
+    public static Path quarantine(Path zip, Path root) throws IOException {
+        Path dir = root.resolve(QUARANTINE_DIR).resolve(zip.getParent().getFileName().toString());
+        Files.createDirectories(dir);
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        Path target = dir.resolve(zip.getFileName() + "." + stamp);
+        Files.move(zip, target, StandardCopyOption.REPLACE_EXISTING);
+        log.warn("손상 ZIP 격리: {} → {}", zip, target);
+        return target;
+    }
+
+    /**
+     * @Method 설명 : 날짜 폴더의 SHA256SUMS에 파일 체크섬 기록 (같은 파일명은 갱신, 임시 파일 + 원자적 이름 변경)
+     */
+    public static void recordManifest(Path dateDir, String fileName, String sha256) throws IOException {
+        synchronized (MANIFEST_LOCK) {
+            Map<String, String> manifest = new TreeMap<>(readManifest(dateDir));
+            if (sha256.equals(manifest.get(fileName))) {
+                return;
+            }
+            manifest.put(fileName, sha256);
+
+            List<String> lines = new ArrayList<>();
+            manifest.forEach((name, sum) -> lines.add(sum + "  " + name));
+            Path tmp = dateDir.resolve(MANIFEST_FILE + ".tmp");
+            Files.write(tmp, lines, StandardCharsets.UTF_8);
+            Files.move(tmp, dateDir.resolve(MANIFEST_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * @Method 설명 : 날짜 폴더의 SHA256SUMS 읽기 (파일명 -> SHA-256, 없으면 빈 맵)
+     */
+    public static Map<String, String> readManifest(Path dateDir) throws IOException {
+        Path file = dateDir.resolve(MANIFEST_FILE);
+        Map<String, String> manifest = new HashMap<>();
+        if (!Files.exists(file)) {
+            return manifest;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int sep = line.indexOf("  ");
+            if (sep > 0) {
+                manifest.put(line.substring(sep + 2), line.substring(0, sep));
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * @Method 설명 : 체크섬 목록에 있고 현재 파일 SHA-256이 목록과 같은지 확인 (재다운로드 생략 판단용)
+     */
+    public static boolean isVerified(Path zip, Map<String, String> manifest) {
+        String expected = manifest.get(zip.getFileName().toString());
+        if (expected == null || !Files.isRegularFile(zip)) {
+            return false;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(zip), digest)) {
+                byte[] buffer = new byte[64 * 1024];
+                while (in.read(buffer) != -1) {
+                    // digest
+                }
+            }
+            return expected.equals(HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.jusoFetcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @FileName  : DownloadStateStoreTest.java
+ * @Project   : Juso_fetcher
+ * @Date      : 2026. 10. 18.
+ *
+ * @프로그램 설명 : 다운로드 상태 저널 재생(replay)과 정리(compaction) 검증
+ */
+class DownloadStateStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 9, 1);
+    private static final String JUSUKR = "100001";
+    private static final String JUSDG = "100004";
+
+    @TempDir
+    Path dir;
+
+    private DownloadStateStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void 재기동_시_저널을_재생하여_상태_복원() throws IOException {
+        store = open();
+        store.advanceWatermark(DAY);
+        store.recordCode(DAY.plusDays(1), JUSUKR, DownloadStateStore.Status.DONE, "P0000");
+        store.recordCode(DAY.plusDays(1), JUSDG, DownloadStateStore.Status.FAILED, null);
+        store.recordFile(DAY.plusDays(1), JUSUKR, "AlterD.JUSUKR.20250902.zip", 1024, "abc", DownloadStateStore.Status.DONE);
+        store.destroy();
+
+        store = open();
+
+        assertEquals(DAY, store.getWatermark());
+        assertTrue(store.isCodeComplete(DAY.plusDays(1), JUSUKR));
+        assertFalse(store.isCodeComplete(DAY.plusDays(1), JUSDG));
+        assertFalse(store.recordFile(DAY.plusDays(1), JUSUKR, "AlterD.JUSUKR.20250902.zip", 1024, "abc", DownloadStateStore.Status.DONE));
+        assertTrue(store.recordFile(DAY.plusDays(1), JUSUKR, "AlterD.JUSUKR.20250902.zip", 2048, "def", DownloadStateStore.Status.DONE));
+    }
+
+    @Test
+    void 마지막_성공일은_뒤로_가지_않음() throws IOException {
+        store = open();
+        store.advanceWatermark(DAY.plusDays(3));
+        store.advanceWatermark(DAY);
+        store.destroy();
+
+        store = open();
+
+        assertEquals(DAY.plusDays(3), store.getWatermark());
+    }
+
+    @Test
+    void CRC가_맞지_않는_줄과_잘린_마지막_줄은_무시() throws IOException {
+        store = open();
+        store.recordCode(DAY, JUSUKR, DownloadStateStore.Status.DONE, "P0000");
+        store.destroy();
+        Path journal = dir.resolve("download-state.journal");
+        Files.writeString(journal, "00000000\tCODE|20250901|100004|DONE|P0000\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        Files.writeString(journal, "1a2b\tWATERMARK|2025", StandardCharsets.UTF_8, StandardOpenOption.APPEND);	// 기록 도중 중단
+
+        store = open();
+        store.recordCode(DAY, JUSDG, DownloadStateStore.Status.EMPTY, "P1000");
+        store.destroy();
+        store = open();
+
+        assertTrue(store.isCodeComplete(DAY, JUSUKR));
+        assertTrue(store.isCodeComplete(DAY, JUSDG));
+        assertNull(store.getWatermark());
+    }
+
+    @Test
+    void 중복_기록이_많으면_기동_시_현재_상태만_남기고_정리() throws IOException {
+        store = open();
+        for (int i = 0; i < 100; i++) {
+            store.recordCode(DAY, JUSUKR, DownloadStateStore.Status.FAILED, null);
+            store.recordCode(DAY, JUSUKR, DownloadStateStore.Status.DONE, "P0000");
+            store.advanceWatermark(DAY.minusDays(100 - i));
+        }
+        store.recordCode(DAY, JUSDG, DownloadStateStore.Status.EMPTY, "E1001");
+        store.recordFile(DAY, JUSUKR, "AlterD.JUSUKR.20250901.zip", 1024, "abc", DownloadStateStore.Status.DONE);
+        store.destroy();
+        Path journal = dir.resolve("download-state.journal");
+        assertEquals(302, lines(journal).size());
+
+        store = open();
+
+        assertEquals(4, lines(journal).size());
+        assertFalse(Files.exists(dir.resolve("download-state.journal.tmp")));
+        assertEquals(DAY.minusDays(1), store.getWatermark());
+        assertTrue(store.isCodeComplete(DAY, JUSUKR));
+        assertTrue(store.isCodeComplete(DAY, JUSDG));
+
+        // 정리 후 이어 쓴 기록도 다음 기동 시 재생됨
+        store.recordCode(DAY.plusDays(1), JUSUKR, DownloadStateStore.Status.DONE, "P0000");
+        store.destroy();
+        store = open();
+
+        assertEquals(5, lines(journal).size());
+        assertTrue(store.isCodeComplete(DAY.plusDays(1), JUSUKR));
+        assertFalse(store.recordFile(DAY, JUSUKR, "AlterD.JUSUKR.20250901.zip", 1024, "abc", DownloadStateStore.Status.DONE));
+    }
+
+    private DownloadStateStore open() throws IOException {
+        DownloadStateStore opened = new DownloadStateStore();
+        ReflectionTestUtils.setField(opened, "stateDir", dir.toString());
+        opened.afterPropertiesSet();
+        return opened;
+    }
+
+    private static List<String> lines(Path journal) throws IOException {
+        return Files.readAllLines(journal, StandardCharsets.UTF_8);
+    }
+}